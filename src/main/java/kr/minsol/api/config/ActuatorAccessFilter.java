@@ -0,0 +1,68 @@
+package kr.minsol.api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리 엔드포인트 접근 제어
+ * 헬스체크(/actuator/health/**)를 제외한 /actuator/** 요청은 X-Admin-Key 헤더가 admin.api-key와 일치해야 합니다.
+ * (Spring Security 없이 공개 API 포트에서 메트릭, 제공자/업스트림/라우트/수락 제어/속도 제한 상태가 노출되지 않도록)
+ * 키가 설정되지 않으면 헬스체크 외에는 모두 거절합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ActuatorAccessFilter extends OncePerRequestFilter {
+
+    private final String basePath;
+    private final byte[] adminApiKey;
+
+    public ActuatorAccessFilter(
+            @Value("${management.endpoints.web.base-path:/actuator}") String basePath,
+            @Value("${admin.api-key:}") String adminApiKey) {
+        this.basePath = basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) : basePath;
+        this.adminApiKey = adminApiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.equals(basePath) && !path.startsWith(basePath + "/")) {
+            return true;
+        }
+        String health = basePath + "/health";
+        return path.equals(health) || path.startsWith(health + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!isAuthorized(request.getHeader("X-Admin-Key"))) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("{\"success\":false,\"message\":\"관리자 권한이 없습니다.\"}");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean isAuthorized(String adminKey) {
+        if (adminApiKey.length == 0 || adminKey == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(adminApiKey, adminKey.getBytes(StandardCharsets.UTF_8));
+    }
+}
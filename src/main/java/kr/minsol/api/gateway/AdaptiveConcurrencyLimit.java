@@ -0,0 +1,166 @@
+package kr.minsol.api.gateway;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 기울기(gradient) 기반 적응형 동시 요청 한도
+ * 장기 평균 지연(long RTT)과 최근 구간 평균 지연(short RTT)을 비교해 한도를 조정합니다.
+ * - short RTT가 long RTT × tolerance보다 커지면(큐가 쌓이기 시작) 비율만큼 한도를 낮춤 (한 번에 최대 절반)
+ * - 지연이 안정적이면 √limit 만큼 여유를 두고 한도를 서서히 올림
+ * - 진행 중 요청이 한도의 절반도 안 되면(부하가 낮음) 한도를 올리지 않음
+ * - 과부하 실패(시간 초과, 라우트 동시 요청 한도 초과)가 있었던 구간은 한도를 multiplicative decrease
+ * (Netflix concurrency-limits의 Gradient2와 같은 방식)
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double LONG_WINDOW_SAMPLES = 600;
+    private static final double DROP_DECREASE_RATIO = 0.9;
+
+    private final String group;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // 구간 집계 (synchronized)
+    private long windowStartedAt = System.nanoTime();
+    private long windowRttSum;
+    private int windowSamples;
+    private boolean windowDropped;
+    private int windowMaxInFlight;
+    private double longRtt;
+    private double lastShortRtt;
+
+    private final LongAdder rejected = new LongAdder();
+
+    AdaptiveConcurrencyLimit(String group, int initialLimit, int minLimit, int maxLimit, double tolerance,
+            double smoothing, long windowNanos, int minWindowSamples) {
+        this.group = group;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowNanos = windowNanos;
+        this.minWindowSamples = minWindowSamples;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    /**
+     * 한도 내에서 진입 (성공 시 onComplete 또는 release 필수)
+     */
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 한도와 관계없이 진입 (우선순위가 높은 요청 - 지연은 한도 계산에 반영)
+     */
+    void forceAcquire() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * 지연 시간을 측정하지 않고 반환 (이벤트 스트림 중계 등)
+     */
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 요청 완료 후 측정값 반영
+     *
+     * @param rttNanos 처리 시간
+     * @param dropped  과부하 실패(시간 초과, 동시 요청 한도 초과)면 true
+     */
+    void onComplete(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            windowRttSum += rttNanos;
+            windowSamples++;
+            windowDropped |= dropped;
+            windowMaxInFlight = Math.max(windowMaxInFlight, current);
+            long now = System.nanoTime();
+            if (now - windowStartedAt >= windowNanos && windowSamples >= minWindowSamples) {
+                update((double) windowRttSum / windowSamples);
+                windowStartedAt = now;
+                windowRttSum = 0;
+                windowSamples = 0;
+                windowDropped = false;
+                windowMaxInFlight = 0;
+            }
+        }
+    }
+
+    private void update(double shortRtt) {
+        lastShortRtt = shortRtt;
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / LONG_WINDOW_SAMPLES;
+            // 지연이 기준보다 크게 낮아졌으면(부하 해소) 기준을 빠르게 따라감
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+        }
+
+        double current = limit;
+        double next;
+        if (windowDropped) {
+            next = current * DROP_DECREASE_RATIO;
+        } else {
+            if (windowMaxInFlight < current / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+            next = current * gradient + Math.sqrt(current);
+            next = current * (1 - smoothing) + next * smoothing;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 현재 상태 요약
+     */
+    public synchronized Map<String, Object> describe() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("limit", getLimit());
+        state.put("in_flight", getInFlight());
+        state.put("long_rtt_ms", longRtt / TimeUnit.MILLISECONDS.toNanos(1));
+        state.put("short_rtt_ms", lastShortRtt / TimeUnit.MILLISECONDS.toNanos(1));
+        state.put("rejected", getRejected());
+        return state;
+    }
+}
@@ -0,0 +1,35 @@
+package kr.minsol.api.gateway;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 클라이언트로 보내는 응답 본문을 상한까지 함께 모으는 버퍼
+ * 상한을 넘으면 모은 내용을 버리고 이후 쓰기를 무시합니다.
+ */
+class BoundedBuffer extends ByteArrayOutputStream {
+
+    private final int limit;
+    private boolean overflowed;
+
+    BoundedBuffer(int limit, long contentLength) {
+        super((int) Math.min(limit, contentLength > 0 ? contentLength : 8 * 1024));
+        this.limit = limit;
+    }
+
+    boolean isOverflowed() {
+        return overflowed;
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) {
+        if (overflowed) {
+            return;
+        }
+        if (count + length > limit) {
+            overflowed = true;
+            reset();
+            return;
+        }
+        super.write(bytes, offset, length);
+    }
+}
@@ -0,0 +1,28 @@
+package kr.minsol.api.gateway;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 요청 수락 제어 상태 조회 (/actuator/gatewayadmission)
+ */
+@Component
+@Endpoint(id = "gatewayadmission")
+@ConditionalOnProperty(name = "gateway.admission.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayAdmissionEndpoint {
+
+    private final GatewayAdmissionFilter admissionFilter;
+
+    public GatewayAdmissionEndpoint(GatewayAdmissionFilter admissionFilter) {
+        this.admissionFilter = admissionFilter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> admission() {
+        return admissionFilter.describe();
+    }
+}
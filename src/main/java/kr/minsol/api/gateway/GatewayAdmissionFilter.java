@@ -0,0 +1,332 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게이트웨이 입구 요청 수락 제어 (부하 차단)
+ * 스레드 풀이 가득 차 모든 요청의 지연이 함께 늘어나기 전에 초과 요청을 즉시 503 + Retry-After로 거절합니다.
+ * - 라우트 그룹별 적응형 동시 요청 한도(AdaptiveConcurrencyLimit): 그룹의 지연이 늘면 한도를 낮춤
+ *   그룹: groups 설정(name=경로 접두사) → 프록시 라우트 id → default
+ * - 전체 동시 요청 상한(max-concurrent-requests)에 우선순위별 차단 기준 적용
+ *   critical(로그인 콜백, 토큰, 헬스체크)은 상한까지, normal은 shed-threshold.normal%, low(문서, /api 밖 경로)는
+ *   shed-threshold.low% 까지만 수락 → 과부하 시 low부터 차단
+ * - critical 요청은 그룹 한도에 막히지 않고 전체 상한만 적용 (지연은 그룹 한도 계산에 반영)
+ * - 그룹 한도를 곧바로 줄이는 실패는 시간 초과와 라우트 동시 요청 한도 초과만 (애플리케이션 5xx는 제외)
+ * - 비동기 요청(CompletableFuture 반환 컨트롤러)은 서블릿 스레드 반환이 아니라 응답 완료(AsyncListener)까지 자리를 차지
+ *
+ * 설정: gateway.admission.*
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "gateway.admission.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayAdmissionFilter extends OncePerRequestFilter {
+
+    public enum Priority {
+        CRITICAL, NORMAL, LOW
+    }
+
+    private static final String DEFAULT_GROUP = "default";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final GatewayRouteRegistry routeRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final List<String[]> groups = new ArrayList<>();
+    private final List<String> criticalPaths;
+    private final List<String> lowPaths;
+    private final int maxConcurrentRequests;
+    private final Map<Priority, Integer> admitThresholds = new EnumMap<>(Priority.class);
+    private final long retryAfterSeconds;
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final Map<Priority, Counter> shedCounters = new EnumMap<>(Priority.class);
+
+    public GatewayAdmissionFilter(
+            ObjectProvider<GatewayRouteRegistry> routeRegistryProvider,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${gateway.admission.groups:auth=/api/auth/,admin=/api/admin/}") List<String> groups,
+            @Value("${gateway.admission.critical-paths:/api/auth/*/callback,/api/auth/*/token,/api/auth/*/login,/actuator/health/**}") List<String> criticalPaths,
+            @Value("${gateway.admission.low-paths:/docs/**,/swagger-ui/**,/v3/api-docs/**}") List<String> lowPaths,
+            @Value("${gateway.admission.max-concurrent-requests:200}") int maxConcurrentRequests,
+            @Value("${gateway.admission.shed-threshold.normal:90}") int normalThresholdPercent,
+            @Value("${gateway.admission.shed-threshold.low:50}") int lowThresholdPercent,
+            @Value("${gateway.admission.retry-after:1s}") Duration retryAfter,
+            @Value("${gateway.admission.limit.initial:20}") int initialLimit,
+            @Value("${gateway.admission.limit.min:5}") int minLimit,
+            @Value("${gateway.admission.limit.max:200}") int maxLimit,
+            @Value("${gateway.admission.limit.tolerance:1.5}") double tolerance,
+            @Value("${gateway.admission.limit.smoothing:0.2}") double smoothing,
+            @Value("${gateway.admission.limit.window:1s}") Duration window,
+            @Value("${gateway.admission.limit.min-window-samples:10}") int minWindowSamples) {
+        this.routeRegistry = routeRegistryProvider.getIfAvailable();
+        this.meterRegistry = meterRegistryProvider.getIfAvailable();
+        for (String group : groups) {
+            int separator = group.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("gateway.admission.groups 형식은 name=경로접두사 입니다: " + group);
+            }
+            this.groups.add(new String[] { group.substring(0, separator).trim(), group.substring(separator + 1).trim() });
+        }
+        this.criticalPaths = List.copyOf(criticalPaths);
+        this.lowPaths = List.copyOf(lowPaths);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        admitThresholds.put(Priority.CRITICAL, maxConcurrentRequests);
+        admitThresholds.put(Priority.NORMAL, maxConcurrentRequests * normalThresholdPercent / 100);
+        admitThresholds.put(Priority.LOW, maxConcurrentRequests * lowThresholdPercent / 100);
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowNanos = window.toNanos();
+        this.minWindowSamples = minWindowSamples;
+        if (meterRegistry != null) {
+            Gauge.builder("gateway.admission.in_flight", inFlight, AtomicInteger::get)
+                    .description("게이트웨이에서 처리 중인 요청")
+                    .register(meterRegistry);
+            for (Priority priority : Priority.values()) {
+                shedCounters.put(priority, meterRegistry.counter("gateway.admission.shed",
+                        "priority", priority.name().toLowerCase()));
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Priority priority = priority(path);
+        AdaptiveConcurrencyLimit limit = limit(group(path));
+
+        if (!admit(priority)) {
+            shed(response, priority);
+            return;
+        }
+        if (priority == Priority.CRITICAL) {
+            limit.forceAcquire();
+        } else if (!limit.tryAcquire()) {
+            inFlight.decrementAndGet();
+            shed(response, priority);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // 비동기 처리로 넘어간 요청(OAuth 콜백 등)은 응답이 끝날 때까지 자리를 유지하고 그때 지연 측정
+                request.getAsyncContext().addListener(new AsyncAdmission(limit, startedAt));
+            } else {
+                inFlight.decrementAndGet();
+                if (request.getAttribute(GatewayProxyFilter.STREAMING_ATTRIBUTE) != null) {
+                    // 이벤트 스트림 중계는 처리 시간 = 스트림 길이이므로 지연 측정 대상에서 제외
+                    limit.release();
+                } else {
+                    limit.onComplete(System.nanoTime() - startedAt, isOverloaded(request, response));
+                }
+            }
+        }
+    }
+
+    /**
+     * 비동기 요청 완료 시 자리 반환 + 지연 반영 (onTimeout/onError 뒤에 onComplete가 와도 한 번만)
+     */
+    private final class AsyncAdmission implements AsyncListener {
+        private final AdaptiveConcurrencyLimit limit;
+        private final long startedAt;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        AsyncAdmission(AdaptiveConcurrencyLimit limit, long startedAt) {
+            this.limit = limit;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finish(event, false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            finish(event, true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finish(event, false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 다시 비동기로 시작되면 새 AsyncContext에 이어서 등록
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void finish(AsyncEvent event, boolean timedOut) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            inFlight.decrementAndGet();
+            boolean overloaded = timedOut;
+            if (!overloaded && event.getSuppliedRequest() instanceof HttpServletRequest request
+                    && event.getSuppliedResponse() instanceof HttpServletResponse response) {
+                overloaded = isOverloaded(request, response);
+            }
+            limit.onComplete(System.nanoTime() - startedAt, overloaded);
+        }
+    }
+
+    /**
+     * 한도를 줄여야 하는 실패인지 - 시간 초과(프록시 업스트림 시간 초과, 504)와 라우트 동시 요청 한도 초과만
+     * 업스트림 애플리케이션 오류(500 등)는 과부하 신호가 아니므로 제외 (지연 증가는 gradient로 반영)
+     */
+    private static boolean isOverloaded(HttpServletRequest request, HttpServletResponse response) {
+        return request.getAttribute(GatewayProxyFilter.OVERLOAD_ATTRIBUTE) != null
+                || response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private boolean admit(Priority priority) {
+        int threshold = admitThresholds.get(priority);
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= threshold) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void shed(HttpServletResponse response, Priority priority) throws IOException {
+        Counter counter = shedCounters.get(priority);
+        if (counter != null) {
+            counter.increment();
+        }
+        // 거절된 클라이언트가 한꺼번에 다시 몰리지 않도록 Retry-After에 지터
+        long retryAfter = retryAfterSeconds + ThreadLocalRandom.current().nextLong(retryAfterSeconds + 1);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"success\":false,\"message\":\"요청이 많아 잠시 후 다시 시도해 주세요.\"}");
+    }
+
+    Priority priority(String path) {
+        for (String pattern : criticalPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return Priority.CRITICAL;
+            }
+        }
+        for (String pattern : lowPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return Priority.LOW;
+            }
+        }
+        return path.startsWith("/api/") ? Priority.NORMAL : Priority.LOW;
+    }
+
+    String group(String path) {
+        for (String[] group : groups) {
+            if (path.startsWith(group[1])) {
+                return group[0];
+            }
+        }
+        if (routeRegistry != null) {
+            GatewayRoute route = routeRegistry.current().match(path);
+            if (route != null) {
+                return route.id();
+            }
+        }
+        return DEFAULT_GROUP;
+    }
+
+    private AdaptiveConcurrencyLimit limit(String group) {
+        AdaptiveConcurrencyLimit limit = limits.get(group);
+        if (limit != null) {
+            return limit;
+        }
+        return limits.computeIfAbsent(group, name -> {
+            AdaptiveConcurrencyLimit created = new AdaptiveConcurrencyLimit(name, initialLimit, minLimit,
+                    Math.min(maxLimit, maxConcurrentRequests), tolerance, smoothing, windowNanos, minWindowSamples);
+            registerMeters(created);
+            return created;
+        });
+    }
+
+    private void registerMeters(AdaptiveConcurrencyLimit limit) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("gateway.admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("group", limit.getGroup())
+                .register(meterRegistry);
+        Gauge.builder("gateway.admission.group.in_flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("group", limit.getGroup())
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.admission.rejected", limit, AdaptiveConcurrencyLimit::getRejected)
+                .description("그룹 동시 요청 한도 초과로 거절된 요청")
+                .tag("group", limit.getGroup())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전체/그룹별 현재 상태
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("in_flight", inFlight.get());
+        state.put("max_concurrent_requests", maxConcurrentRequests);
+        Map<String, Object> thresholds = new LinkedHashMap<>();
+        admitThresholds.forEach((priority, threshold) -> thresholds.put(priority.name().toLowerCase(), threshold));
+        state.put("admit_thresholds", thresholds);
+        Map<String, Object> groupStates = new LinkedHashMap<>();
+        limits.values().stream()
+                .sorted((a, b) -> a.getGroup().compareTo(b.getGroup()))
+                .forEach(limit -> groupStates.put(limit.getGroup(), limit.describe()));
+        state.put("groups", groupStates);
+        return state;
+    }
+}
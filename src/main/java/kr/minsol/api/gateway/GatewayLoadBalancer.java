@@ -0,0 +1,322 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업스트림 클라이언트 측 로드 밸런서
+ * - uri: http://host:port 라우트는 인스턴스 하나, uri: lb://{serviceId} 라우트는 DiscoveryClient 인스턴스 목록
+ *   (예: spring.cloud.discovery.client.simple.instances.{serviceId}[n].uri)
+ * - 선택: P2C(power-of-two-choices, 기본) 또는 least-outstanding, 진행 중 요청 수 기준
+ * - 패시브: 연속 실패(연결 실패, 시간 초과, 5xx, slow-call-threshold 초과) 시 제외, 반복될수록 제외 시간 증가
+ * - 액티브: 인스턴스가 둘 이상인 서비스는 health-check.path를 주기적으로 호출, 연속 실패 시 통과할 때까지 제외
+ * - 복귀한 인스턴스는 slow-start 동안 가중치를 서서히 올려 트래픽이 한 번에 몰리지 않도록 함
+ *
+ * 설정: gateway.proxy.load-balancer.*
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayLoadBalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayLoadBalancer.class);
+
+    private static final String LB_SCHEME = "lb";
+
+    private final HttpClient httpClient;
+    private final ObjectProvider<DiscoveryClient> discoveryClientProvider;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, UpstreamPool> pools = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "gateway-health-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final boolean powerOfTwo;
+    private final int consecutiveErrors;
+    private final long slowCallNanos;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjectionPercent;
+    private final long slowStartNanos;
+    private final boolean healthCheckEnabled;
+    private final String healthCheckPath;
+    private final Duration healthCheckInterval;
+    private final Duration healthCheckTimeout;
+    private final int unhealthyThreshold;
+
+    private Counter passiveEjections;
+    private Counter activeEjections;
+
+    public GatewayLoadBalancer(
+            @Qualifier("gatewayHttpClient") HttpClient httpClient,
+            ObjectProvider<DiscoveryClient> discoveryClientProvider,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${gateway.proxy.load-balancer.strategy:p2c}") String strategy,
+            @Value("${gateway.proxy.load-balancer.consecutive-errors:5}") int consecutiveErrors,
+            @Value("${gateway.proxy.load-balancer.slow-call-threshold:5s}") Duration slowCallThreshold,
+            @Value("${gateway.proxy.load-balancer.base-ejection-time:30s}") Duration baseEjectionTime,
+            @Value("${gateway.proxy.load-balancer.max-ejection-time:5m}") Duration maxEjectionTime,
+            @Value("${gateway.proxy.load-balancer.max-ejection-percent:50}") int maxEjectionPercent,
+            @Value("${gateway.proxy.load-balancer.slow-start:30s}") Duration slowStart,
+            @Value("${gateway.proxy.load-balancer.health-check.enabled:true}") boolean healthCheckEnabled,
+            @Value("${gateway.proxy.load-balancer.health-check.path:/actuator/health}") String healthCheckPath,
+            @Value("${gateway.proxy.load-balancer.health-check.interval:10s}") Duration healthCheckInterval,
+            @Value("${gateway.proxy.load-balancer.health-check.timeout:2s}") Duration healthCheckTimeout,
+            @Value("${gateway.proxy.load-balancer.health-check.unhealthy-threshold:2}") int unhealthyThreshold) {
+        this.httpClient = httpClient;
+        this.discoveryClientProvider = discoveryClientProvider;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable();
+        this.powerOfTwo = !"least-outstanding".equalsIgnoreCase(strategy);
+        this.consecutiveErrors = Math.max(1, consecutiveErrors);
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.baseEjectionNanos = baseEjectionTime.toNanos();
+        this.maxEjectionNanos = Math.max(baseEjectionNanos, maxEjectionTime.toNanos());
+        this.maxEjectionPercent = maxEjectionPercent;
+        this.slowStartNanos = slowStart.toNanos();
+        this.healthCheckEnabled = healthCheckEnabled;
+        this.healthCheckPath = healthCheckPath;
+        this.healthCheckInterval = healthCheckInterval;
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.unhealthyThreshold = Math.max(1, unhealthyThreshold);
+        if (meterRegistry != null) {
+            passiveEjections = meterRegistry.counter("gateway.upstream.ejections", "type", "passive");
+            activeEjections = meterRegistry.counter("gateway.upstream.ejections", "type", "active");
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        long intervalMillis = healthCheckInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::runHealthChecks, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 라우트의 업스트림 인스턴스 선택
+     *
+     * @return 사용할 인스턴스, lb:// 서비스에 등록된 인스턴스가 없으면 null
+     */
+    public UpstreamInstance choose(GatewayRoute route) {
+        return choose(route, null);
+    }
+
+    /**
+     * 재시도용 인스턴스 선택 - 다른 인스턴스가 있으면 직전에 실패한 인스턴스는 피함
+     */
+    public UpstreamInstance choose(GatewayRoute route, UpstreamInstance previous) {
+        UpstreamPool pool = pools.get(poolKey(route.uri()));
+        if (pool == null) {
+            pool = pools.computeIfAbsent(poolKey(route.uri()), key -> createPool(route.uri()));
+        }
+        UpstreamInstance chosen = pool.choose(powerOfTwo, slowStartNanos);
+        for (int attempt = 0; chosen == previous && previous != null && attempt < 3; attempt++) {
+            chosen = pool.choose(true, slowStartNanos);
+        }
+        return chosen;
+    }
+
+    /**
+     * 요청 시작 - 진행 중 요청 수에 반영 (종료 시 반드시 complete 호출)
+     */
+    public void begin(UpstreamInstance instance) {
+        instance.begin();
+    }
+
+    /**
+     * 요청 종료 - 응답 시간/결과를 기록하고 연속 실패가 누적되면 인스턴스를 제외
+     *
+     * @param elapsedNanos    응답 헤더를 받기까지 걸린 시간 (클라이언트로 본문을 보내는 시간은 제외)
+     * @param success         업스트림이 5xx가 아닌 응답을 돌려줬으면 true (연결 실패, 시간 초과는 false)
+     * @param responseTimeout 라우트 응답 타임아웃 - 느린 호출 기준은 slow-call-threshold와 이 값의 절반 중 큰 값
+     *                        (원래 오래 걸리는 라우트의 정상 응답을 실패로 보지 않도록)
+     */
+    public void complete(UpstreamInstance instance, long elapsedNanos, boolean success, Duration responseTimeout) {
+        boolean failed = !success || elapsedNanos > Math.max(slowCallNanos, responseTimeout.toNanos() / 2);
+        Timer timer = instance.timer(failed);
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        if (!instance.complete(elapsedNanos, !failed, consecutiveErrors)) {
+            return;
+        }
+        UpstreamPool pool = pools.get(instance.getServiceId());
+        if (pool == null || !pool.canEject(maxEjectionPercent)) {
+            // 지금 제외할 수 없으면 연속 실패 횟수를 유지해 다음 실패 때 다시 시도
+            return;
+        }
+        instance.eject(System.nanoTime(), baseEjectionNanos, maxEjectionNanos);
+        increment(passiveEjections);
+        logger.warn("⚠️ 업스트림 인스턴스 제외 - {} {}: 연속 {}회 실패", instance.getServiceId(), instance.getUri(),
+                consecutiveErrors);
+    }
+
+    /**
+     * 서비스별 인스턴스 상태
+     */
+    public Map<String, List<Map<String, Object>>> describe() {
+        Map<String, List<Map<String, Object>>> states = new LinkedHashMap<>();
+        pools.values().stream()
+                .sorted((a, b) -> a.serviceId().compareTo(b.serviceId()))
+                .forEach(pool -> states.put(pool.serviceId(), pool.instances().stream()
+                        .map(instance -> instance.describe(slowStartNanos))
+                        .toList()));
+        return states;
+    }
+
+    private UpstreamPool createPool(URI routeUri) {
+        String key = poolKey(routeUri);
+        UpstreamPool pool = new UpstreamPool(key);
+        pool.update(resolveInstances(routeUri), uri -> createInstance(key, uri), this::removeMeters);
+        return pool;
+    }
+
+    private List<URI> resolveInstances(URI routeUri) {
+        if (!LB_SCHEME.equalsIgnoreCase(routeUri.getScheme())) {
+            return List.of(routeUri);
+        }
+        DiscoveryClient discoveryClient = discoveryClientProvider.getIfAvailable();
+        if (discoveryClient == null) {
+            logger.warn("⚠️ DiscoveryClient가 없어 {} 인스턴스를 찾을 수 없습니다.", routeUri);
+            return List.of();
+        }
+        return discoveryClient.getInstances(routeUri.getHost()).stream()
+                .map(ServiceInstance::getUri)
+                .distinct()
+                .toList();
+    }
+
+    private UpstreamInstance createInstance(String serviceId, URI uri) {
+        UpstreamInstance instance = new UpstreamInstance(serviceId, uri);
+        if (meterRegistry != null) {
+            String authority = uri.getAuthority();
+            Timer success = requestTimer(serviceId, authority, "success");
+            Timer failure = requestTimer(serviceId, authority, "failure");
+            instance.bindMeters(success, failure, List.of(success, failure,
+                    Gauge.builder("gateway.upstream.outstanding", instance, UpstreamInstance::getOutstanding)
+                            .tags("service", serviceId, "instance", authority)
+                            .register(meterRegistry),
+                    Gauge.builder("gateway.upstream.available", instance, UpstreamInstance::getAvailableCode)
+                            .description("선택 가능 여부 (1=가능, 0=제외)")
+                            .tags("service", serviceId, "instance", authority)
+                            .register(meterRegistry),
+                    Gauge.builder("gateway.upstream.latency.ewma", instance, UpstreamInstance::getLatencyEwmaMillis)
+                            .baseUnit("milliseconds")
+                            .tags("service", serviceId, "instance", authority)
+                            .register(meterRegistry),
+                    FunctionCounter.builder("gateway.upstream.instance.ejections", instance,
+                                    UpstreamInstance::getEjections)
+                            .tags("service", serviceId, "instance", authority)
+                            .register(meterRegistry)));
+        }
+        return instance;
+    }
+
+    private Timer requestTimer(String serviceId, String authority, String outcome) {
+        return Timer.builder("gateway.upstream.requests")
+                .tags("service", serviceId, "instance", authority, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 목록에서 빠진 인스턴스의 미터 제거 (디스커버리로 인스턴스가 바뀔 때마다 쌓이지 않도록)
+     */
+    private void removeMeters(UpstreamInstance instance) {
+        if (meterRegistry != null) {
+            instance.meters().forEach(meterRegistry::remove);
+        }
+    }
+
+    /**
+     * lb:// 서비스의 인스턴스 목록을 갱신하고, 인스턴스가 둘 이상인 서비스에 헬스 체크 요청
+     * 인스턴스가 하나뿐이면 제외해도 보낼 곳이 없으므로 체크하지 않습니다.
+     */
+    void runHealthChecks() {
+        for (UpstreamPool pool : pools.values()) {
+            try {
+                URI routeUri = URI.create(pool.serviceId());
+                if (LB_SCHEME.equalsIgnoreCase(routeUri.getScheme())) {
+                    pool.update(resolveInstances(routeUri), uri -> createInstance(pool.serviceId(), uri),
+                            this::removeMeters);
+                }
+                if (!healthCheckEnabled || pool.instances().size() < 2) {
+                    continue;
+                }
+                for (UpstreamInstance instance : pool.instances()) {
+                    checkHealth(pool, instance);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("⚠️ 업스트림 헬스 체크 실패 - {}: {}", pool.serviceId(), e.getMessage());
+            }
+        }
+    }
+
+    private void checkHealth(UpstreamPool pool, UpstreamInstance instance) {
+        HttpRequest request = HttpRequest.newBuilder(instance.getUri().resolve(healthCheckPath))
+                .timeout(healthCheckTimeout)
+                .GET()
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    boolean passed = error == null && response.statusCode() / 100 == 2;
+                    if (!passed && instance.getAvailableCode() == 1 && !pool.canEject(maxEjectionPercent)) {
+                        // 제외 한도에 도달했으면 사용 중인 인스턴스를 더 빼지 않음
+                        return;
+                    }
+                    if (instance.onHealthCheck(passed, unhealthyThreshold, System.nanoTime())) {
+                        if (passed) {
+                            logger.info("업스트림 인스턴스 복귀 - {} {}", pool.serviceId(), instance.getUri());
+                        } else {
+                            increment(activeEjections);
+                            logger.warn("⚠️ 업스트림 인스턴스 헬스 체크 실패로 제외 - {} {}", pool.serviceId(),
+                                    instance.getUri());
+                        }
+                    }
+                });
+    }
+
+    /**
+     * 인스턴스 풀 키 - 같은 업스트림을 가리키는 라우트는 풀(인스턴스 상태)을 공유
+     */
+    private static String poolKey(URI routeUri) {
+        return routeUri.getScheme() + "://" + routeUri.getAuthority();
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package kr.minsol.api.gateway;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 내장 리버스 프록시 설정
+ * spring.cloud.gateway.routes 라우트를 서블릿 필터에서 직접 프록시합니다.
+ * (spring-cloud-gateway 대신 spring-boot-starter-web만으로 동작)
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayProxyConfig {
+
+    @Value("${gateway.proxy.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    /**
+     * 업스트림 호출용 HTTP 클라이언트 (호스트별 keep-alive 커넥션 풀)
+     * 업스트림이 평문 http이므로 h2c 업그레이드 왕복을 피하기 위해 HTTP/1.1로 고정합니다.
+     */
+    @Bean
+    public HttpClient gatewayHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public FilterRegistrationBean<GatewayProxyFilter> gatewayProxyFilterRegistration(GatewayProxyFilter filter) {
+        FilterRegistrationBean<GatewayProxyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        // 다른 필터(인코딩, 요청 로깅 등)가 본문을 읽기 전에 그대로 전달
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,522 @@
+package kr.minsol.api.gateway;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.minsol.api.gateway.GatewayRequestCoalescer.SharedResponse;
+import kr.minsol.api.gateway.GatewayResponseCache.CachedResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 내장 리버스 프록시 필터
+ * 라우트 테이블과 일치하는 요청을 업스트림으로 전달하고 응답을 그대로 돌려줍니다.
+ * - 요청/응답 본문은 고정 크기 버퍼로 스트리밍 (전체를 메모리에 올리지 않음)
+ * - 상태 코드와 헤더는 hop-by-hop 헤더를 제외하고 그대로 전달, X-Forwarded-* 추가
+ * - 이 애플리케이션이 직접 처리하는 경로(local-paths)는 프록시하지 않음
+ * - 업스트림 인스턴스는 GatewayLoadBalancer가 선택하고, 응답 결과로 인스턴스 상태를 갱신
+ * - LocalResponseCache 필터가 있는 라우트의 GET 응답은 GatewayResponseCache에서 응답/저장
+ * - RequestCoalescing 필터가 있는 라우트의 동일한 동시 GET은 GatewayRequestCoalescer로 업스트림 호출 1회로 병합
+ * - 라우트별 HttpClient/타임아웃/동시 요청 한도(RouteClient), Retry 필터가 있으면 예산 내에서 재시도
+ *   (연결 실패는 모든 요청, 시간 초과/502/503/504는 멱등 요청만)
+ * - SSE(text/event-stream, application/x-ndjson)와 chunked 응답은 받은 만큼 바로 flush
+ *   느린 클라이언트에는 블로킹 쓰기가 업스트림 읽기를 멈추게 하므로(HttpClient가 읽은 만큼만 더 요청) 스트림당 메모리는
+ *   버퍼 하나로 일정, 본문 수신이 idle-timeout 이상 멈추면 StreamIdleWatchdog가 스트림을 닫음
+ *   (클라이언트 쓰기에 막힌 시간은 제외 - 느린 클라이언트를 업스트림 장애로 집계하지 않음)
+ * - 요청 본문은 그대로 스트리밍, 재시도가 설정된 라우트만 RequestBody로 받아 둠 (memory-threshold를 넘으면 임시 파일),
+ *   라우트 max-body-size를 넘으면 413
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayProxyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayProxyFilter.class);
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * 이벤트 스트림 응답을 중계 중인 요청 표시 (요청 속성) - 처리 시간이 지연 지표가 아니므로 수락 제어 측정에서 제외
+     */
+    static final String STREAMING_ATTRIBUTE = GatewayProxyFilter.class.getName() + ".streaming";
+
+    /**
+     * 과부하 신호(업스트림 시간 초과, 라우트 동시 요청 한도 초과)가 있었던 요청 표시 (요청 속성)
+     * 수락 제어는 5xx 전체가 아니라 이 신호만 한도 감소 요인으로 사용 (애플리케이션 오류는 과부하가 아님)
+     */
+    static final String OVERLOAD_ATTRIBUTE = GatewayProxyFilter.class.getName() + ".overload";
+
+    // RFC 7230 hop-by-hop 헤더 + JDK HttpClient가 직접 설정하는 제한 헤더
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "proxy-connection",
+            "te", "trailer", "transfer-encoding", "upgrade", "host", "content-length", "expect");
+
+    // 재시도 대상: 연결 실패(모든 요청), 시간 초과/게이트웨이 계열 응답(멱등 요청)
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+    private static final long RETRY_BACKOFF_MAX_MILLIS = 1000;
+
+    private final GatewayRouteRegistry routeRegistry;
+    private final GatewayLoadBalancer loadBalancer;
+    private final GatewayResponseCache responseCache;
+    private final GatewayRequestCoalescer coalescer;
+    private final GatewayRouteClients routeClients;
+    private final StreamIdleWatchdog idleWatchdog;
+    private final List<String> localPaths;
+    private final int bodyMemoryThreshold;
+    private final Path bodySpillDirectory;
+
+    public GatewayProxyFilter(
+            GatewayRouteRegistry routeRegistry,
+            GatewayLoadBalancer loadBalancer,
+            ObjectProvider<GatewayResponseCache> responseCacheProvider,
+            GatewayRequestCoalescer coalescer,
+            GatewayRouteClients routeClients,
+            StreamIdleWatchdog idleWatchdog,
+            @Value("${gateway.proxy.local-paths:/api/auth/,/api/admin/,/api/gateway/,/actuator}") List<String> localPaths,
+            @Value("${gateway.proxy.request-body.memory-threshold:256KB}") DataSize bodyMemoryThreshold,
+            @Value("${gateway.proxy.request-body.spill-directory:${java.io.tmpdir}/gateway-request-body}") Path bodySpillDirectory)
+            throws IOException {
+        this.routeRegistry = routeRegistry;
+        this.loadBalancer = loadBalancer;
+        this.responseCache = responseCacheProvider.getIfAvailable();
+        this.coalescer = coalescer;
+        this.routeClients = routeClients;
+        this.idleWatchdog = idleWatchdog;
+        this.localPaths = List.copyOf(localPaths);
+        this.bodyMemoryThreshold = (int) Math.min(Integer.MAX_VALUE - 8, bodyMemoryThreshold.toBytes());
+        this.bodySpillDirectory = Files.createDirectories(bodySpillDirectory);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        GatewayRoute route = isLocalPath(path) ? null : routeRegistry.current().match(path);
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        proxy(route, path, request, response);
+    }
+
+    private boolean isLocalPath(String path) {
+        for (String localPath : localPaths) {
+            if (path.startsWith(localPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void proxy(GatewayRoute route, String path, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String cacheKey = null;
+        CachedResponse cached = null;
+        if (responseCache != null && route.cacheTtl() != null && responseCache.isCacheableRequest(request)) {
+            cacheKey = GatewayResponseCache.key(path, request.getQueryString());
+            cached = responseCache.lookup(cacheKey, request);
+            if (cached != null && cached.isFresh(System.nanoTime())
+                    && !GatewayResponseCache.requiresRevalidation(request)) {
+                if (responseCache.serve(cached, request, response, false)) {
+                    return;
+                }
+                cached = null;
+            }
+            // 여기서 cached가 남아 있으면 만료(또는 클라이언트가 재검증 요구)된 항목 - 업스트림에 조건부 요청
+        }
+
+        GatewayRequestCoalescer.Flight flight = null;
+        if (route.coalescing() != null && cached == null && GatewayRequestCoalescer.isCoalescable(request)) {
+            flight = coalescer.join(route, path, request);
+            if (!flight.isLeader()) {
+                SharedResponse shared = flight.await(route.coalescing().maxWait());
+                if (shared != null) {
+                    GatewayRequestCoalescer.write(shared, response);
+                    return;
+                }
+                flight = null;
+            }
+        }
+        try {
+            forward(route, path, request, response, cacheKey, cached, flight);
+        } finally {
+            if (flight != null) {
+                // 응답을 공유하지 못하고 끝났으면(오류 등) 기다리던 요청은 각자 호출
+                flight.complete(null);
+            }
+        }
+    }
+
+    private void forward(GatewayRoute route, String path, HttpServletRequest request, HttpServletResponse response,
+            String cacheKey, CachedResponse cached, GatewayRequestCoalescer.Flight flight) throws IOException {
+        RouteClient client = routeClients.get(route);
+        // Content-Length로 알 수 있으면 본문을 읽기 전에 거절 (chunked 업로드는 읽으면서 확인)
+        if (request.getContentLengthLong() > client.maxBodyBytes()) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 " + route.id() + " 서비스 최대 크기를 넘었습니다.");
+            return;
+        }
+        if (!client.tryAcquire()) {
+            request.setAttribute(OVERLOAD_ATTRIBUTE, Boolean.TRUE);
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, route.id() + " 서비스 동시 요청 한도를 초과했습니다.");
+            return;
+        }
+        RequestBody body = RequestBody.NONE;
+        try {
+            // 재시도가 없으면 본문을 그대로 흘려보내고, 있으면 다시 보낼 수 있도록 받아 둠 (크면 임시 파일)
+            try {
+                body = !hasBody(request) ? RequestBody.NONE
+                        : client.maxRetries() > 0
+                                ? RequestBody.replayable(request, client.maxBodyBytes(), bodyMemoryThreshold,
+                                        bodySpillDirectory)
+                                : RequestBody.streaming(request, client.maxBodyBytes());
+            } catch (RequestBody.TooLargeException e) {
+                writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 " + route.id() + " 서비스 최대 크기를 넘었습니다.");
+                return;
+            }
+            // 연결 실패는 요청이 전달되기 전이므로 멱등이 아니어도 재시도, 그 외 실패는 멱등 요청만 재시도
+            boolean retryable = client.maxRetries() > 0 && body.isReplayable();
+            boolean idempotent = IDEMPOTENT_METHODS.contains(request.getMethod());
+            UpstreamInstance previous = null;
+            for (int attempt = 0; ; attempt++) {
+                boolean canRetry = retryable && attempt < client.maxRetries();
+                UpstreamInstance instance = loadBalancer.choose(route, previous);
+                if (instance == null) {
+                    writeError(response, HttpStatus.SERVICE_UNAVAILABLE, route.id() + " 서비스에 사용 가능한 인스턴스가 없습니다.");
+                    return;
+                }
+                if (exchange(route, path, request, response, cacheKey, cached, flight, client, instance, body,
+                        canRetry, canRetry && idempotent)) {
+                    return;
+                }
+                if (!client.tryRetry()) {
+                    writeError(response, HttpStatus.BAD_GATEWAY, route.id() + " 서비스 호출에 실패했습니다.");
+                    return;
+                }
+                previous = instance;
+                backoff(attempt);
+            }
+        } finally {
+            // 교환과 재시도가 모두 끝난 뒤 임시 파일 정리
+            closeQuietly(body);
+            client.release();
+        }
+    }
+
+    /**
+     * 업스트림 호출 1회
+     *
+     * @param retryConnect true면 연결 실패에 응답을 쓰지 않고 false 반환
+     * @param canRetry     true면 그 외 재시도할 수 있는 실패(시간 초과, 502/503/504)에도 응답을 쓰지 않고 false 반환
+     * @return 클라이언트 응답을 완료했으면 true
+     */
+    private boolean exchange(GatewayRoute route, String path, HttpServletRequest request,
+            HttpServletResponse response, String cacheKey, CachedResponse cached,
+            GatewayRequestCoalescer.Flight flight, RouteClient client, UpstreamInstance instance, RequestBody body,
+            boolean retryConnect, boolean canRetry) throws IOException {
+        String query = request.getQueryString();
+        URI target;
+        try {
+            target = GatewayRoute.upstreamUri(instance.getUri(), route.upstreamPath(path), query);
+        } catch (IllegalArgumentException e) {
+            writeError(response, HttpStatus.BAD_REQUEST, "잘못된 요청 경로입니다.");
+            return true;
+        }
+
+        HttpRequest.Builder upstreamRequest = HttpRequest.newBuilder(target)
+                .timeout(client.responseTimeout())
+                .method(request.getMethod(), body.publisher());
+        copyRequestHeaders(request, upstreamRequest, route, path, cached != null);
+        if (cached != null) {
+            responseCache.addValidators(cached, upstreamRequest);
+        }
+
+        long startedAt = System.nanoTime();
+        long measuredUntil = 0;
+        boolean success = false;
+        loadBalancer.begin(instance);
+        try {
+            HttpResponse<InputStream> upstreamResponse;
+            try {
+                upstreamResponse = client.httpClient().send(upstreamRequest.build(),
+                        HttpResponse.BodyHandlers.ofInputStream());
+                // 업스트림 지연은 응답 헤더까지로 측정 (본문 전달 시간은 클라이언트 속도에 좌우되므로 제외)
+                measuredUntil = System.nanoTime();
+            } catch (HttpConnectTimeoutException | ConnectException e) {
+                if (e instanceof HttpConnectTimeoutException) {
+                    client.onConnectTimeout();
+                    request.setAttribute(OVERLOAD_ATTRIBUTE, Boolean.TRUE);
+                }
+                logger.warn("⚠️ 업스트림 연결 실패 - {} {}: {}", route.id(), target, e.getMessage());
+                if (retryConnect) {
+                    return false;
+                }
+                writeError(response, HttpStatus.BAD_GATEWAY, route.id() + " 서비스에 연결할 수 없습니다.");
+                return true;
+            } catch (HttpTimeoutException e) {
+                client.onResponseTimeout();
+                request.setAttribute(OVERLOAD_ATTRIBUTE, Boolean.TRUE);
+                logger.warn("⚠️ 업스트림 응답 시간 초과 - {} {}", route.id(), target);
+                if (canRetry) {
+                    return false;
+                }
+                writeError(response, HttpStatus.GATEWAY_TIMEOUT, route.id() + " 서비스 응답 시간이 초과되었습니다.");
+                return true;
+            } catch (IOException e) {
+                if (RequestBody.isTooLarge(e)) {
+                    // 업스트림 실패가 아니므로 인스턴스 상태에 반영하지 않음
+                    success = true;
+                    writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 " + route.id() + " 서비스 최대 크기를 넘었습니다.");
+                    return true;
+                }
+                logger.warn("⚠️ 업스트림 호출 실패 - {} {}: {}", route.id(), target, e.getMessage());
+                if (canRetry) {
+                    return false;
+                }
+                writeError(response, HttpStatus.BAD_GATEWAY, route.id() + " 서비스 호출에 실패했습니다.");
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "요청 처리가 중단되었습니다.");
+                return true;
+            }
+            int status = upstreamResponse.statusCode();
+            success = status < 500;
+            if (canRetry && RETRYABLE_STATUSES.contains(status)) {
+                upstreamResponse.body().close();
+                return false;
+            }
+            boolean eventStream = isEventStream(upstreamResponse.headers());
+            if (eventStream) {
+                request.setAttribute(STREAMING_ATTRIBUTE, Boolean.TRUE);
+            }
+            if (!writeResponse(route, request, response, cacheKey, cached, flight, upstreamResponse, client,
+                    eventStream)) {
+                success = false;
+            }
+            return true;
+        } finally {
+            // 본문 전송까지 끝나야 진행 중 요청에서 빠짐 (지연은 응답 헤더까지, 호출 실패면 실패 시점까지)
+            long elapsed = (measuredUntil != 0 ? measuredUntil : System.nanoTime()) - startedAt;
+            loadBalancer.complete(instance, elapsed, success, client.responseTimeout());
+        }
+    }
+
+    /**
+     * 업스트림 응답을 클라이언트에 전달
+     *
+     * @param eventStream true면 캐시/병합 공유 대상에서 제외
+     * @return 업스트림 본문 수신이 idle-timeout으로 끊겼으면 false
+     */
+    private boolean writeResponse(GatewayRoute route, HttpServletRequest request, HttpServletResponse response,
+            String cacheKey, CachedResponse cached, GatewayRequestCoalescer.Flight flight,
+            HttpResponse<InputStream> upstreamResponse, RouteClient client, boolean eventStream) throws IOException {
+        int status = upstreamResponse.statusCode();
+        if (cached != null) {
+            if (status == HttpServletResponse.SC_NOT_MODIFIED) {
+                upstreamResponse.body().close();
+                CachedResponse refreshed = responseCache.revalidated(cached, upstreamResponse.headers(),
+                        route.cacheTtl());
+                responseCache.serve(refreshed, request, response, true);
+                return true;
+            }
+            responseCache.recordMiss();
+            responseCache.invalidate(cached);
+        }
+        long contentLength = upstreamResponse.headers().firstValueAsLong("content-length").orElse(-1);
+        GatewayResponseCache.Capture capture = cacheKey != null && !eventStream
+                ? responseCache.startCapture(request, status, upstreamResponse.headers(), route.cacheTtl())
+                : null;
+        BoundedBuffer coalesceCapture = flight != null && !eventStream ? flight.newCapture(contentLength) : null;
+        boolean flushEachChunk = eventStream || contentLength < 0;
+
+        response.setStatus(status);
+        for (Map.Entry<String, List<String>> header : upstreamResponse.headers().map().entrySet()) {
+            String name = header.getKey();
+            if (isHopByHop(name) && !name.equalsIgnoreCase("content-length")) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                response.addHeader(name, value);
+            }
+        }
+
+        OutputStream out = response.getOutputStream();
+        if (flushEachChunk) {
+            // 헤더를 먼저 보내 첫 이벤트 전에도 클라이언트가 스트림을 열 수 있도록
+            out.flush();
+        }
+        try (InputStream body = upstreamResponse.body();
+                StreamIdleWatchdog.Watch watch = idleWatchdog.watch(body, client.idleTimeout())) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while (true) {
+                try {
+                    read = body.read(buffer);
+                } catch (IOException e) {
+                    if (!watch.isTimedOut()) {
+                        throw e;
+                    }
+                    client.onIdleTimeout();
+                    request.setAttribute(OVERLOAD_ATTRIBUTE, Boolean.TRUE);
+                    logger.warn("⚠️ 업스트림 응답 본문 대기 시간 초과 - {} ({}ms)", route.id(),
+                            client.idleTimeout().toMillis());
+                    writeError(response, HttpStatus.GATEWAY_TIMEOUT, route.id() + " 서비스 응답이 중단되었습니다.");
+                    return false;
+                }
+                if (read == -1) {
+                    break;
+                }
+                // 느린 클라이언트에 막혀 있는 시간은 업스트림 무응답으로 세지 않음
+                watch.pause();
+                try {
+                    out.write(buffer, 0, read);
+                    if (flushEachChunk) {
+                        out.flush();
+                    }
+                } finally {
+                    watch.resume();
+                }
+                if (capture != null) {
+                    capture.write(buffer, 0, read);
+                }
+                if (coalesceCapture != null) {
+                    coalesceCapture.write(buffer, 0, read);
+                }
+            }
+        }
+        if (capture != null) {
+            responseCache.store(cacheKey, request, status, upstreamResponse.headers(), capture);
+        }
+        if (flight != null) {
+            flight.complete(GatewayRequestCoalescer.share(route, status, upstreamResponse.headers(), coalesceCapture));
+        }
+        return true;
+    }
+
+    private static boolean isEventStream(HttpHeaders headers) {
+        String contentType = headers.firstValue("content-type").orElse("").toLowerCase(Locale.ROOT);
+        return contentType.startsWith("text/event-stream") || contentType.startsWith("application/x-ndjson");
+    }
+
+    /**
+     * 재시도 전 대기 (50ms, 100ms, 200ms ... 최대 1초, ±50% 지터)
+     */
+    private static void backoff(int attempt) {
+        long base = Math.min(RETRY_BACKOFF_MAX_MILLIS, RETRY_BACKOFF_MILLIS << Math.min(attempt, 10));
+        long delay = base / 2 + ThreadLocalRandom.current().nextLong(base + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(RequestBody body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            logger.warn("⚠️ 요청 본문 임시 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static boolean hasBody(HttpServletRequest request) {
+        return request.getContentLengthLong() > 0 || request.getHeader("Transfer-Encoding") != null;
+    }
+
+    /**
+     * 요청 본문을 읽지 않고 업스트림으로 스트리밍
+     * Content-Length를 알면 그대로 전달하고, 모르면 chunked로 전송합니다.
+     */
+    private static void copyRequestHeaders(HttpServletRequest request, HttpRequest.Builder upstreamRequest,
+            GatewayRoute route, String path, boolean revalidating) {
+        Enumeration<String> names = request.getHeaderNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            if (isHopByHop(name) || name.regionMatches(true, 0, "x-forwarded-", 0, 12)) {
+                continue;
+            }
+            if (revalidating && isConditional(name)) {
+                // 캐시 검증자로 대체 (클라이언트 조건은 캐시 응답 시 판단)
+                continue;
+            }
+            Enumeration<String> values = request.getHeaders(name);
+            while (values.hasMoreElements()) {
+                upstreamRequest.header(name, values.nextElement());
+            }
+        }
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        upstreamRequest.header("X-Forwarded-For",
+                forwardedFor != null ? forwardedFor + ", " + request.getRemoteAddr() : request.getRemoteAddr());
+        String forwardedProto = request.getHeader("X-Forwarded-Proto");
+        upstreamRequest.header("X-Forwarded-Proto", forwardedProto != null ? forwardedProto : request.getScheme());
+        String forwardedHost = request.getHeader("X-Forwarded-Host");
+        String host = forwardedHost != null ? forwardedHost : request.getHeader("Host");
+        if (host != null) {
+            upstreamRequest.header("X-Forwarded-Host", host);
+        }
+        String upstreamPath = route.upstreamPath(path);
+        if (route.stripPrefix() > 0 && path.length() > upstreamPath.length()) {
+            // 경로 전체가 제거된 경우(업스트림 경로 "/")는 요청 경로 전체가 접두사
+            int end = path.endsWith(upstreamPath) ? path.length() - upstreamPath.length() : path.length();
+            // 합쳐진 빈 세그먼트(//)는 접두사에 포함하지 않음
+            while (end > 1 && path.charAt(end - 1) == '/') {
+                end--;
+            }
+            upstreamRequest.header("X-Forwarded-Prefix", path.substring(0, end));
+        }
+    }
+
+    private static boolean isConditional(String name) {
+        return name.equalsIgnoreCase("if-none-match") || name.equalsIgnoreCase("if-modified-since");
+    }
+
+    static boolean isHopByHop(String name) {
+        return HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"success\":false,\"message\":\"" + message.replace("\"", "\\\"") + "\"}");
+    }
+}
@@ -0,0 +1,28 @@
+package kr.minsol.api.gateway;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 요청 속도 제한 상태 조회 (/actuator/gatewayratelimit)
+ */
+@Component
+@Endpoint(id = "gatewayratelimit")
+@ConditionalOnProperty(name = "gateway.rate-limit.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayRateLimitEndpoint {
+
+    private final GatewayRateLimiter rateLimiter;
+
+    public GatewayRateLimitEndpoint(GatewayRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> rateLimit() {
+        return rateLimiter.describe();
+    }
+}
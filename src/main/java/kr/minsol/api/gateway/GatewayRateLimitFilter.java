@@ -0,0 +1,151 @@
+package kr.minsol.api.gateway;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.minsol.api.gateway.GatewayRateLimitProperties.Rule;
+import kr.minsol.api.services.oauthservice.jwt.JwtTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 속도 제한 필터
+ * gateway.rate-limit.rules 중 경로(paths) 또는 프록시 라우트(routes)가 일치하는 규칙마다 토큰 1개를 차감하고,
+ * 하나라도 한도를 넘으면 429 + Retry-After로 거절합니다.
+ * - key: ip(클라이언트 IP), user(검증된 JWT subject, 토큰이 없거나 유효하지 않으면 IP), route(라우트 전체)
+ * - 클라이언트 IP는 trusted-proxy-hops만큼 X-Forwarded-For 뒤쪽 값을 사용 (그 앞은 클라이언트가 위조 가능)
+ *
+ * 수락 제어(GatewayAdmissionFilter) 다음, 프록시(GatewayProxyFilter) 전에 실행됩니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "gateway.rate-limit.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayRateLimitFilter.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final GatewayRateLimiter rateLimiter;
+    private final GatewayRouteRegistry routeRegistry;
+    private final ObjectProvider<JwtTokenProvider> jwtTokenProviderProvider;
+    private final List<Rule> rules;
+    private final boolean hasRouteRules;
+    private final int trustedProxyHops;
+
+    public GatewayRateLimitFilter(
+            GatewayRateLimitProperties properties,
+            GatewayRateLimiter rateLimiter,
+            ObjectProvider<GatewayRouteRegistry> routeRegistryProvider,
+            ObjectProvider<JwtTokenProvider> jwtTokenProviderProvider) {
+        this.rateLimiter = rateLimiter;
+        this.routeRegistry = routeRegistryProvider.getIfAvailable();
+        this.jwtTokenProviderProvider = jwtTokenProviderProvider;
+        for (Rule rule : properties.getRules()) {
+            if (rule.getId() == null || rule.getLimit() <= 0 || rule.getPeriod().isZero()) {
+                throw new IllegalArgumentException("gateway.rate-limit.rules 항목에는 id, limit, period가 필요합니다: "
+                        + rule.getId());
+            }
+        }
+        this.rules = List.copyOf(properties.getRules());
+        this.hasRouteRules = rules.stream().anyMatch(rule -> !rule.getRoutes().isEmpty());
+        this.trustedProxyHops = properties.getTrustedProxyHops();
+        logger.info("요청 속도 제한 규칙 {}개 등록", rules.size());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String routeId = null;
+        if (hasRouteRules && routeRegistry != null) {
+            GatewayRoute route = routeRegistry.current().match(path);
+            routeId = route != null ? route.id() : null;
+        }
+        for (Rule rule : rules) {
+            if (!matches(rule, path, routeId)) {
+                continue;
+            }
+            if (!rateLimiter.tryAcquire(rule, key(rule, request))) {
+                reject(response, rule);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean matches(Rule rule, String path, String routeId) {
+        if (routeId != null && rule.getRoutes().contains(routeId)) {
+            return true;
+        }
+        for (String pattern : rule.getPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String key(Rule rule, HttpServletRequest request) {
+        return switch (rule.getKey()) {
+            case ROUTE -> "route";
+            case USER -> {
+                String userId = userId(request);
+                yield userId != null ? "user:" + userId : "ip:" + clientIp(request);
+            }
+            case IP -> "ip:" + clientIp(request);
+        };
+    }
+
+    private String userId(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        JwtTokenProvider jwtTokenProvider = jwtTokenProviderProvider.getIfAvailable();
+        if (authorization == null || !authorization.startsWith("Bearer ") || jwtTokenProvider == null) {
+            return null;
+        }
+        try {
+            // 서명을 검증한 subject만 사용 (위조한 subject로 버킷을 분산시키지 못하도록)
+            return jwtTokenProvider.getUserIdFromToken(authorization.substring(7));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    String clientIp(HttpServletRequest request) {
+        if (trustedProxyHops > 0) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null) {
+                String[] hops = forwardedFor.split(",");
+                int index = Math.max(0, hops.length - trustedProxyHops);
+                String ip = hops[index].trim();
+                if (!ip.isEmpty()) {
+                    return ip;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, Rule rule) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(GatewayRateLimiter.nanosPerPermit(rule)));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"success\":false,\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\"}");
+    }
+}
@@ -0,0 +1,80 @@
+package kr.minsol.api.gateway;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (gateway.rate-limit.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+@ConditionalOnProperty(name = "gateway.rate-limit.enabled", havingValue = "true", matchIfMissing = false)
+@Getter
+@Setter
+public class GatewayRateLimitProperties {
+
+    /**
+     * 제한 키 기준
+     */
+    public enum KeyType {
+        IP, USER, ROUTE
+    }
+
+    /**
+     * 클라이언트 IP로 쓸 X-Forwarded-For 위치 (0이면 소켓 주소, 1이면 마지막 값 - 프록시 1단 뒤)
+     */
+    private int trustedProxyHops = 0;
+
+    /**
+     * Redis에서 한 번에 빌려오는 최대 토큰 수 (버킷 크기의 1/10을 넘지 않음)
+     */
+    private int leaseSize = 10;
+
+    /**
+     * 빌려온 토큰 유효 시간 (지나면 남은 토큰은 버림)
+     */
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    /**
+     * Redis 호출 실패 후 로컬 제한만 사용하는 시간
+     */
+    private Duration redisRetryInterval = Duration.ofSeconds(10);
+
+    /**
+     * 노드가 로컬 상태를 들고 있는 최대 키 수 (넘으면 오래 안 쓴 키부터 버림)
+     */
+    private int maxTrackedKeys = 100_000;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String id;
+        /** 적용 경로 (Ant 패턴) */
+        private List<String> paths = new ArrayList<>();
+        /** 적용 프록시 라우트 id */
+        private List<String> routes = new ArrayList<>();
+        private KeyType key = KeyType.IP;
+        /** period당 허용 요청 수 */
+        private int limit;
+        private Duration period = Duration.ofMinutes(1);
+        /** 순간 허용량 (기본값 limit) */
+        private Integer burst;
+
+        public int capacity() {
+            return burst != null ? burst : limit;
+        }
+
+        public double permitsPerSecond() {
+            return limit / (period.toMillis() / 1000.0);
+        }
+    }
+}
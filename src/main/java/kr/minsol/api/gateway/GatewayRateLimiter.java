@@ -0,0 +1,278 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.minsol.api.gateway.GatewayRateLimitProperties.Rule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분산 토큰 버킷 속도 제한
+ * - 전역 버킷은 Redis Lua 스크립트로 원자적으로 갱신 (노드가 여러 개여도 합산 한도 유지)
+ * - 노드는 Redis에서 토큰을 묶음(lease)으로 빌려와 로컬에서 차감 → 대부분의 요청은 네트워크 호출 없이 판정
+ *   빌린 토큰은 lease-ttl이 지나면 버려 노드 간 편차가 오래 남지 않도록 함
+ * - 한도를 다 쓴 키는 토큰 1개가 채워질 때까지 Redis를 다시 호출하지 않음
+ * - Redis가 없거나 호출이 실패하면 redis-retry-interval 동안 노드 로컬 토큰 버킷으로만 제한
+ * - 로컬 상태는 버킷이 다 채워질 만큼 쉰 키부터 버리고, max-tracked-keys를 넘으면 오래 안 쓴 키를 표본 중에서 골라 버림
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.rate-limit.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayRateLimiter.class);
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // KEYS[1] 버킷, ARGV: 용량, 초당 충전량, 요청 토큰 수 → 받은 토큰 수
+    private static final RedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) "
+                    + "local rate = tonumber(ARGV[2]) "
+                    + "local requested = tonumber(ARGV[3]) "
+                    + "local time = redis.call('TIME') "
+                    + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+                    + "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') "
+                    + "local tokens = tonumber(bucket[1]) or capacity "
+                    + "local ts = tonumber(bucket[2]) or now "
+                    + "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000) "
+                    + "local granted = math.min(requested, math.floor(tokens)) "
+                    + "tokens = tokens - granted "
+                    + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) "
+                    + "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate * 1000) + 1000) "
+                    + "return granted",
+            Long.class);
+
+    // 상한 초과 시 이 수만큼 훑어 가장 오래 안 쓴 키를 버림 (근사 LRU)
+    private static final int EVICTION_SAMPLES = 8;
+
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    /**
+     * 키 하나의 로컬 상태 (빌린 토큰 + Redis 미사용 시 로컬 버킷)
+     */
+    private static final class Lease {
+        int permits;
+        long expiresAt;
+        long deniedUntil;
+        double localTokens = -1;
+        long localRefilledAt;
+        volatile long lastUsedAt;
+        // 이만큼 쉬면 버킷이 다 채워져 새 상태와 같아짐 → 버려도 됨
+        final long idleNanos;
+
+        Lease(long now, long idleNanos) {
+            expiresAt = now;
+            deniedUntil = now;
+            lastUsedAt = now;
+            this.idleNanos = idleNanos;
+        }
+    }
+
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    private final MeterRegistry meterRegistry;
+    private final int leaseSize;
+    private final long leaseTtlNanos;
+    private final long redisRetryIntervalNanos;
+    private final int maxTrackedKeys;
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<String, Counter[]> ruleCounters = new ConcurrentHashMap<>();
+    private final LongAdder redisCalls = new LongAdder();
+    private final LongAdder localFallbacks = new LongAdder();
+    private volatile long redisUnavailableUntil;
+
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "gateway-rate-limit-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public GatewayRateLimiter(
+            GatewayRateLimitProperties properties,
+            ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable();
+        this.leaseSize = Math.max(1, properties.getLeaseSize());
+        this.leaseTtlNanos = properties.getLeaseTtl().toNanos();
+        this.redisRetryIntervalNanos = properties.getRedisRetryInterval().toNanos();
+        this.maxTrackedKeys = Math.max(1, properties.getMaxTrackedKeys());
+        this.redisUnavailableUntil = System.nanoTime();
+        sweeper.scheduleWithFixedDelay(this::sweepIdle, 10, 10, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * 토큰 1개 차감
+     *
+     * @param key 제한 키 (예: ip:1.2.3.4)
+     * @return 한도 내면 true
+     */
+    public boolean tryAcquire(Rule rule, String key) {
+        String bucketKey = KEY_PREFIX + rule.getId() + ":" + key;
+        Lease lease = leases.get(bucketKey);
+        if (lease == null) {
+            if (leases.size() >= maxTrackedKeys) {
+                evictOne();
+            }
+            lease = leases.computeIfAbsent(bucketKey, k -> new Lease(System.nanoTime(), idleNanos(rule)));
+        }
+        boolean allowed;
+        // 같은 키의 동시 요청은 Redis 호출 1회로 받은 토큰을 나눠 씀
+        synchronized (lease) {
+            long now = System.nanoTime();
+            lease.lastUsedAt = now;
+            allowed = acquire(rule, bucketKey, lease, now);
+        }
+        increment(rule, allowed);
+        return allowed;
+    }
+
+    private boolean acquire(Rule rule, String bucketKey, Lease lease, long now) {
+        if (lease.permits > 0 && now - lease.expiresAt < 0) {
+            lease.permits--;
+            return true;
+        }
+        lease.permits = 0;
+        if (now - lease.deniedUntil < 0) {
+            return false;
+        }
+        RedisTemplate<String, Object> redisTemplate = now - redisUnavailableUntil < 0
+                ? null
+                : redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            localFallbacks.increment();
+            return acquireLocal(rule, lease, now);
+        }
+
+        long granted;
+        try {
+            redisCalls.increment();
+            int requested = Math.min(leaseSize, Math.max(1, rule.capacity() / 10));
+            Long result = redisTemplate.execute(LEASE_SCRIPT, RedisSerializer.string(), LONG_SERIALIZER,
+                    List.of(bucketKey), Integer.toString(rule.capacity()),
+                    Double.toString(rule.permitsPerSecond()), Integer.toString(requested));
+            granted = result != null ? result : 0;
+        } catch (RuntimeException e) {
+            redisUnavailableUntil = now + redisRetryIntervalNanos;
+            logger.warn("⚠️ 속도 제한 Redis 호출 실패 - {}초 동안 로컬 제한만 사용: {}",
+                    TimeUnit.NANOSECONDS.toSeconds(redisRetryIntervalNanos), e.getMessage());
+            localFallbacks.increment();
+            return acquireLocal(rule, lease, now);
+        }
+        if (granted <= 0) {
+            lease.deniedUntil = now + nanosPerPermit(rule);
+            return false;
+        }
+        lease.permits = (int) granted - 1;
+        lease.expiresAt = now + leaseTtlNanos;
+        return true;
+    }
+
+    /**
+     * 노드 로컬 토큰 버킷 (Redis를 쓸 수 없을 때)
+     */
+    private static boolean acquireLocal(Rule rule, Lease lease, long now) {
+        int capacity = rule.capacity();
+        if (lease.localTokens < 0) {
+            lease.localTokens = capacity;
+        } else {
+            double elapsedSeconds = (now - lease.localRefilledAt) / (double) TimeUnit.SECONDS.toNanos(1);
+            lease.localTokens = Math.min(capacity, lease.localTokens + elapsedSeconds * rule.permitsPerSecond());
+        }
+        lease.localRefilledAt = now;
+        if (lease.localTokens < 1) {
+            return false;
+        }
+        lease.localTokens -= 1;
+        return true;
+    }
+
+    /**
+     * 토큰 1개가 채워지기까지 걸리는 시간 (Retry-After 계산용)
+     */
+    public static long nanosPerPermit(Rule rule) {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / rule.permitsPerSecond());
+    }
+
+    private void increment(Rule rule, boolean allowed) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter[] counters = ruleCounters.computeIfAbsent(rule.getId(), id -> new Counter[] {
+                meterRegistry.counter("gateway.ratelimit.requests", "rule", id, "result", "allowed"),
+                meterRegistry.counter("gateway.ratelimit.requests", "rule", id, "result", "limited") });
+        counters[allowed ? 0 : 1].increment();
+    }
+
+    /**
+     * 빌린 토큰이 만료되고 버킷이 다 채워질 때까지의 시간
+     */
+    private long idleNanos(Rule rule) {
+        long refillNanos = (long) (TimeUnit.SECONDS.toNanos(1) * rule.capacity() / rule.permitsPerSecond());
+        return Math.max(leaseTtlNanos, refillNanos);
+    }
+
+    private void sweepIdle() {
+        long now = System.nanoTime();
+        leases.values().removeIf(lease -> now - lease.lastUsedAt > lease.idleNanos);
+    }
+
+    /**
+     * 표본 중 가장 오래 안 쓴 키 하나를 버림
+     * 버려진 키는 다음 요청에서 새 상태로 시작 (Redis 버킷은 그대로라 전역 한도는 유지)
+     */
+    private void evictOne() {
+        Map.Entry<String, Lease> oldest = null;
+        Iterator<Map.Entry<String, Lease>> iterator = leases.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLES && iterator.hasNext(); i++) {
+            Map.Entry<String, Lease> entry = iterator.next();
+            if (oldest == null || entry.getValue().lastUsedAt - oldest.getValue().lastUsedAt < 0) {
+                oldest = entry;
+            }
+        }
+        if (oldest != null) {
+            leases.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    /**
+     * 현재 상태 요약
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("tracked_keys", leases.size());
+        state.put("redis_calls", redisCalls.sum());
+        state.put("local_fallbacks", localFallbacks.sum());
+        state.put("redis_available", System.nanoTime() - redisUnavailableUntil >= 0
+                && redisTemplateProvider.getIfAvailable() != null);
+        Map<String, Object> rules = new HashMap<>();
+        ruleCounters.forEach((id, counters) -> rules.put(id,
+                Map.of("allowed", (long) counters[0].count(), "limited", (long) counters[1].count())));
+        state.put("rules", rules);
+        return state;
+    }
+}
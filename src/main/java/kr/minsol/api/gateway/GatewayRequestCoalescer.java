@@ -0,0 +1,226 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동일한 업스트림 GET 동시 요청 병합 (RequestCoalescing 필터를 단 라우트만)
+ * 같은 라우트/경로/쿼리/키 헤더 값의 요청이 진행 중이면 업스트림을 다시 호출하지 않고 먼저 온 요청(leader)의
+ * 응답을 기다렸다가 그대로 받습니다.
+ * - 최대 대기 시간(max-wait) 안에 응답이 없으면 기다리던 요청은 각자 업스트림을 호출
+ * - 조건부 요청(If-None-Match 등)과 Range 요청은 병합하지 않음
+ * - 200이 아니거나 응답 본문이 max-body-size를 넘거나 Set-Cookie가 있거나 leader 호출이 실패하면 공유하지 않음 (각자 호출)
+ * - 응답 Vary에 키 헤더가 아닌 헤더(또는 *)가 있으면 요청마다 응답이 다를 수 있으므로 공유하지 않음
+ * - 응답 완료 후에는 결과를 보관하지 않음 (보관은 GatewayResponseCache 담당)
+ *
+ * 설정: gateway.proxy.coalescing.*
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayRequestCoalescer {
+
+    // 조건부 요청 헤더 - 응답(304/412)이 요청마다 달라지므로 병합하지 않음
+    private static final List<String> CONDITIONAL_HEADERS = List.of("If-None-Match", "If-Modified-Since", "If-Match",
+            "If-Unmodified-Since", "If-Range");
+
+    /**
+     * 공유할 업스트림 응답 (hop-by-hop 헤더 제외)
+     */
+    public record SharedResponse(int status, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    /**
+     * 요청 하나가 참여한 병합 단위
+     * leader면 업스트림을 호출하고 complete를 반드시 한 번 호출해야 합니다.
+     */
+    public final class Flight {
+        private final String key;
+        private final CompletableFuture<SharedResponse> future;
+        private final boolean leader;
+
+        private Flight(String key, CompletableFuture<SharedResponse> future, boolean leader) {
+            this.key = key;
+            this.future = future;
+            this.leader = leader;
+        }
+
+        public boolean isLeader() {
+            return leader;
+        }
+
+        /**
+         * leader 응답 대기 (follower 전용)
+         *
+         * @return 공유된 응답, 시간 초과/공유 불가면 null
+         */
+        public SharedResponse await(Duration maxWait) {
+            try {
+                SharedResponse response = future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+                increment(response != null ? joinedCounter : fallbackCounter);
+                return response;
+            } catch (TimeoutException | ExecutionException e) {
+                increment(fallbackCounter);
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        /**
+         * leader 응답 공유 후 병합 종료 (response가 null이면 기다리던 요청은 각자 호출)
+         */
+        public void complete(SharedResponse response) {
+            if (!leader) {
+                return;
+            }
+            flights.remove(key, future);
+            future.complete(response);
+        }
+
+        /**
+         * leader 응답 본문 캡처용 버퍼
+         *
+         * @return Content-Length가 max-body-size를 넘으면 null
+         */
+        BoundedBuffer newCapture(long contentLength) {
+            return contentLength > maxBodyBytes ? null : new BoundedBuffer(maxBodyBytes, contentLength);
+        }
+    }
+
+    private final Map<String, CompletableFuture<SharedResponse>> flights = new ConcurrentHashMap<>();
+    private final int maxBodyBytes;
+
+    private Counter leaderCounter;
+    private Counter joinedCounter;
+    private Counter fallbackCounter;
+
+    public GatewayRequestCoalescer(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${gateway.proxy.coalescing.max-body-size:2MB}") DataSize maxBodySize) {
+        this.maxBodyBytes = (int) Math.min(Integer.MAX_VALUE - 8, maxBodySize.toBytes());
+        meterRegistryProvider.ifAvailable(registry -> {
+            leaderCounter = registry.counter("gateway.coalescing.requests", "result", "leader");
+            joinedCounter = registry.counter("gateway.coalescing.requests", "result", "joined");
+            fallbackCounter = registry.counter("gateway.coalescing.requests", "result", "fallback");
+        });
+    }
+
+    /**
+     * 병합 가능한 요청인지 (GET, Range/조건부 헤더 없음)
+     */
+    public static boolean isCoalescable(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) || request.getHeader("Range") != null) {
+            return false;
+        }
+        for (String name : CONDITIONAL_HEADERS) {
+            if (request.getHeader(name) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 진행 중인 같은 요청에 합류하거나, 없으면 leader로 등록
+     */
+    public Flight join(GatewayRoute route, String path, HttpServletRequest request) {
+        String key = key(route, path, request);
+        CompletableFuture<SharedResponse> created = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> existing = flights.putIfAbsent(key, created);
+        if (existing != null) {
+            return new Flight(key, existing, false);
+        }
+        increment(leaderCounter);
+        return new Flight(key, created, true);
+    }
+
+    /**
+     * 업스트림 응답을 공유 가능한 형태로 변환
+     *
+     * @return 200이 아니거나, Set-Cookie가 있거나, Vary가 키 헤더 밖의 헤더에 의존하거나, 본문이 상한을 넘었으면 null
+     */
+    static SharedResponse share(GatewayRoute route, int status, HttpHeaders headers, BoundedBuffer capture) {
+        if (status != 200 || capture == null || capture.isOverflowed() || headers.firstValue("set-cookie").isPresent()
+                || !isVaryCovered(headers, route.coalescing().keyHeaders())) {
+            return null;
+        }
+        Map<String, List<String>> shared = new LinkedHashMap<>();
+        headers.map().forEach((name, values) -> {
+            if (!GatewayProxyFilter.isHopByHop(name)) {
+                shared.put(name, List.copyOf(values));
+            }
+        });
+        return new SharedResponse(status, shared, capture.toByteArray());
+    }
+
+    /**
+     * 공유된 응답을 기다린 요청에 기록
+     */
+    public static void write(SharedResponse shared, HttpServletResponse response) throws IOException {
+        response.setStatus(shared.status());
+        shared.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentLength(shared.body().length);
+        response.getOutputStream().write(shared.body());
+    }
+
+    /**
+     * 응답 Vary의 모든 헤더가 병합 키 헤더에 포함되는지 (같은 키의 요청이면 같은 응답을 받을 수 있음)
+     */
+    private static boolean isVaryCovered(HttpHeaders headers, List<String> keyHeaders) {
+        for (String vary : headers.allValues("vary")) {
+            for (String name : vary.split(",")) {
+                String trimmed = name.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                if ("*".equals(trimmed) || keyHeaders.stream().noneMatch(trimmed::equalsIgnoreCase)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String key(GatewayRoute route, String path, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(route.id()).append(' ').append(path);
+        String query = request.getQueryString();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String name : route.coalescing().keyHeaders()) {
+            key.append('\n').append(name).append('=');
+            Enumeration<String> values = request.getHeaders(name);
+            while (values != null && values.hasMoreElements()) {
+                key.append(values.nextElement()).append(',');
+            }
+        }
+        return key.toString();
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,690 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게이트웨이 응답 캐시 (LocalResponseCache 필터를 단 라우트의 GET 요청만)
+ * 업스트림의 Cache-Control / Expires / Vary / ETag / Last-Modified를 따르는 공유 캐시로 동작합니다.
+ * - 신선한 항목은 업스트림 호출 없이 응답하고, 클라이언트 조건부 요청(If-None-Match 등)에는 캐시로 304 응답
+ * - 만료된 항목은 검증자(ETag/Last-Modified)로 업스트림에 조건부 요청하여 304면 본문을 재사용
+ * - 메모리 계층은 전체 바이트 상한의 LRU, 밀려난 항목은 디스크 계층(선택)에 파일로 옮겨 메모리 매핑으로 전송
+ * - no-store/private, Set-Cookie, Vary: *, Authorization/Cookie 요청(public/s-maxage 없을 때)은 저장하지 않음
+ *
+ * 설정: gateway.proxy.response-cache.*
+ */
+@Component
+@ConditionalOnProperty(name = { "gateway.proxy.enabled", "gateway.proxy.response-cache.enabled" }, havingValue = "true",
+        matchIfMissing = false)
+public class GatewayResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayResponseCache.class);
+
+    private static final String FILE_SUFFIX = ".cache";
+
+    // URL별 Vary 헤더 이름 색인 상한 (넘으면 비우고 다시 채움)
+    private static final int MAX_VARY_INDEX_SIZE = 100_000;
+
+    // 저장하지 않는 응답 헤더 (hop-by-hop 외에 캐시가 직접 다시 만드는 헤더 포함)
+    private static final Set<String> UNSTORED_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-connection", "te", "trailer",
+            "transfer-encoding", "upgrade", "content-length", "set-cookie", "age");
+
+    // 304 응답에 포함하는 헤더 (RFC 9110 15.4.5)
+    private static final Set<String> NOT_MODIFIED_HEADERS = Set.of(
+            "cache-control", "content-location", "date", "etag", "expires", "vary");
+
+    /**
+     * 캐시 항목 (불변) - 본문은 메모리(body) 또는 디스크(file) 중 한 곳에만 있음
+     */
+    public static final class CachedResponse {
+        private final String key;
+        private final int status;
+        private final Map<String, List<String>> headers;
+        private final String etag;
+        private final String lastModified;
+        private final long storedAt;
+        private final long initialAgeSeconds;
+        private final long freshnessNanos;
+        private final int size;
+        private final byte[] body;
+        private final Path file;
+
+        private CachedResponse(String key, int status, Map<String, List<String>> headers, long storedAt,
+                long initialAgeSeconds, long freshnessNanos, int size, byte[] body, Path file) {
+            this.key = key;
+            this.status = status;
+            this.headers = headers;
+            this.etag = first(headers, "etag");
+            this.lastModified = first(headers, "last-modified");
+            this.storedAt = storedAt;
+            this.initialAgeSeconds = initialAgeSeconds;
+            this.freshnessNanos = freshnessNanos;
+            this.size = size;
+            this.body = body;
+            this.file = file;
+        }
+
+        private CachedResponse onDisk(Path file) {
+            return new CachedResponse(key, status, headers, storedAt, initialAgeSeconds, freshnessNanos, size,
+                    null, file);
+        }
+
+        public boolean isFresh(long now) {
+            return now - storedAt < freshnessNanos - TimeUnit.SECONDS.toNanos(initialAgeSeconds);
+        }
+
+        boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+
+        long ageSeconds(long now) {
+            return initialAgeSeconds + TimeUnit.NANOSECONDS.toSeconds(now - storedAt);
+        }
+    }
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, CachedResponse> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private final LinkedHashMap<String, CachedResponse> disk = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, List<String>> varyNames = new ConcurrentHashMap<>();
+    private long memoryBytes;
+    private long diskBytes;
+
+    private final long maxMemoryBytes;
+    private final int maxEntryBytes;
+    private final boolean diskEnabled;
+    private final Path diskPath;
+    private final long maxDiskBytes;
+    private final AtomicLong fileSequence = new AtomicLong();
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    public GatewayResponseCache(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${gateway.proxy.response-cache.max-memory:64MB}") DataSize maxMemory,
+            @Value("${gateway.proxy.response-cache.max-entry-size:2MB}") DataSize maxEntrySize,
+            @Value("${gateway.proxy.response-cache.disk.enabled:false}") boolean diskEnabled,
+            @Value("${gateway.proxy.response-cache.disk.path:${java.io.tmpdir}/gateway-response-cache}") Path diskPath,
+            @Value("${gateway.proxy.response-cache.disk.max-size:1GB}") DataSize maxDiskSize) throws IOException {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.maxMemoryBytes = maxMemory.toBytes();
+        this.maxEntryBytes = (int) Math.min(Integer.MAX_VALUE - 8, maxEntrySize.toBytes());
+        this.diskEnabled = diskEnabled;
+        this.diskPath = diskPath;
+        this.maxDiskBytes = maxDiskSize.toBytes();
+        if (diskEnabled) {
+            // 색인은 메모리에만 있으므로 이전 실행의 파일은 정리
+            Files.createDirectories(diskPath);
+            deleteCacheFiles();
+        }
+        logger.info("게이트웨이 응답 캐시 활성화 - 메모리 {}{}", maxMemory,
+                diskEnabled ? ", 디스크 " + maxDiskSize + " (" + diskPath + ")" : "");
+    }
+
+    @PostConstruct
+    public void registerMeters() {
+        meterRegistryProvider.ifAvailable(registry -> {
+            FunctionCounter.builder("gateway.cache.requests", memoryHits, LongAdder::sum)
+                    .tags("result", "hit", "tier", "memory").register(registry);
+            FunctionCounter.builder("gateway.cache.requests", diskHits, LongAdder::sum)
+                    .tags("result", "hit", "tier", "disk").register(registry);
+            FunctionCounter.builder("gateway.cache.requests", revalidations, LongAdder::sum)
+                    .tags("result", "revalidated", "tier", "upstream").register(registry);
+            FunctionCounter.builder("gateway.cache.requests", misses, LongAdder::sum)
+                    .tags("result", "miss", "tier", "upstream").register(registry);
+            Gauge.builder("gateway.cache.hit.ratio", this, GatewayResponseCache::getHitRatio)
+                    .description("캐시 응답 비율 (재검증 304 포함)")
+                    .register(registry);
+            Gauge.builder("gateway.cache.size", this, cache -> cache.getSizeBytes(false))
+                    .baseUnit("bytes").tag("tier", "memory").register(registry);
+            Gauge.builder("gateway.cache.size", this, cache -> cache.getSizeBytes(true))
+                    .baseUnit("bytes").tag("tier", "disk").register(registry);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (diskEnabled) {
+            deleteCacheFiles();
+        }
+    }
+
+    public static String key(String path, String query) {
+        return query != null ? path + "?" + query : path;
+    }
+
+    /**
+     * 캐시를 사용할 수 있는 요청인지 (GET, Range 아님, 요청 Cache-Control: no-store 아님)
+     */
+    public boolean isCacheableRequest(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+                && request.getHeader("Range") == null
+                && directive(join(request.getHeaders("Cache-Control")), "no-store") == null;
+    }
+
+    /**
+     * 요청이 캐시된 응답을 검증 없이 쓰지 못하게 하는지 (Cache-Control: no-cache / max-age=0, Pragma: no-cache)
+     */
+    public static boolean requiresRevalidation(HttpServletRequest request) {
+        String cacheControl = join(request.getHeaders("Cache-Control"));
+        if (directive(cacheControl, "no-cache") != null || "0".equals(directive(cacheControl, "max-age"))) {
+            return true;
+        }
+        String pragma = request.getHeader("Pragma");
+        return cacheControl == null && pragma != null && pragma.toLowerCase(Locale.ROOT).contains("no-cache");
+    }
+
+    /**
+     * 요청과 Vary 헤더 값이 같은 캐시 항목 조회
+     *
+     * @return 신선도와 무관한 항목 (검증자 없이 만료된 항목은 제거 후 null)
+     */
+    public CachedResponse lookup(String key, HttpServletRequest request) {
+        List<String> names = varyNames.get(key);
+        if (names == null) {
+            misses.increment();
+            return null;
+        }
+        String variantKey = variantKey(key, names, request);
+        CachedResponse entry;
+        synchronized (lock) {
+            entry = memory.get(variantKey);
+            if (entry == null) {
+                entry = disk.get(variantKey);
+            }
+        }
+        if (entry == null || (!entry.isFresh(System.nanoTime()) && !entry.hasValidator())) {
+            if (entry != null) {
+                remove(variantKey);
+            }
+            misses.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 캐시 항목으로 응답 (클라이언트 조건부 요청과 일치하면 304)
+     *
+     * @param revalidated 업스트림 재검증(304)을 거친 응답이면 true (지표 구분용)
+     * @return 디스크 파일이 사라져 응답하지 못했으면 false (아무것도 쓰지 않은 상태)
+     */
+    public boolean serve(CachedResponse entry, HttpServletRequest request, HttpServletResponse response,
+            boolean revalidated) throws IOException {
+        long now = System.nanoTime();
+        if (isNotModified(entry, request)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            for (Map.Entry<String, List<String>> header : entry.headers.entrySet()) {
+                if (NOT_MODIFIED_HEADERS.contains(header.getKey())) {
+                    header.getValue().forEach(value -> response.addHeader(header.getKey(), value));
+                }
+            }
+            response.setHeader("Age", Long.toString(entry.ageSeconds(now)));
+            count(entry, revalidated);
+            return true;
+        }
+
+        FileChannel channel = null;
+        MappedByteBuffer mapped = null;
+        if (entry.body == null) {
+            try {
+                channel = FileChannel.open(entry.file, StandardOpenOption.READ);
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, entry.size);
+            } catch (IOException e) {
+                if (channel != null) {
+                    channel.close();
+                }
+                remove(entry.key);
+                return false;
+            }
+        }
+        try {
+            response.setStatus(entry.status);
+            for (Map.Entry<String, List<String>> header : entry.headers.entrySet()) {
+                header.getValue().forEach(value -> response.addHeader(header.getKey(), value));
+            }
+            response.setHeader("Age", Long.toString(entry.ageSeconds(now)));
+            response.setContentLength(entry.size);
+            OutputStream out = response.getOutputStream();
+            if (entry.body != null) {
+                out.write(entry.body);
+            } else {
+                WritableByteChannel target = Channels.newChannel(out);
+                while (mapped.hasRemaining()) {
+                    target.write(mapped);
+                }
+            }
+        } finally {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+        count(entry, revalidated);
+        return true;
+    }
+
+    /**
+     * 만료된 항목 재검증용 조건부 헤더 추가
+     * (클라이언트의 조건부 헤더 대신 사용하며, 클라이언트 조건은 serve에서 캐시 기준으로 판단)
+     */
+    public void addValidators(CachedResponse entry, HttpRequest.Builder upstreamRequest) {
+        if (entry.etag != null) {
+            upstreamRequest.header("If-None-Match", entry.etag);
+        } else if (entry.lastModified != null) {
+            upstreamRequest.header("If-Modified-Since", entry.lastModified);
+        }
+    }
+
+    /**
+     * 업스트림 304 응답으로 항목 갱신 (본문은 재사용, 헤더/신선도는 304 응답 기준으로 갱신)
+     */
+    public CachedResponse revalidated(CachedResponse entry, HttpHeaders notModified, Duration defaultTtl)
+            throws IOException {
+        Map<String, List<String>> headers = new LinkedHashMap<>(entry.headers);
+        notModified.map().forEach((name, values) -> {
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            if (!UNSTORED_HEADERS.contains(lowerName)) {
+                headers.put(lowerName, List.copyOf(values));
+            }
+        });
+        byte[] body = entry.body != null ? entry.body : Files.readAllBytes(entry.file);
+        CachedResponse refreshed = new CachedResponse(entry.key, entry.status, Map.copyOf(headers),
+                System.nanoTime(), initialAge(notModified), freshnessNanos(notModified, defaultTtl),
+                body.length, body, null);
+        put(refreshed);
+        return refreshed;
+    }
+
+    /**
+     * 응답 본문 캡처 시작
+     *
+     * @return 저장할 수 없는 응답이면 null
+     */
+    public Capture startCapture(HttpServletRequest request, int status, HttpHeaders headers, Duration defaultTtl) {
+        if (status != 200) {
+            return null;
+        }
+        String cacheControl = join(headers.allValues("cache-control"));
+        if (directive(cacheControl, "no-store") != null || directive(cacheControl, "private") != null
+                || headers.firstValue("set-cookie").isPresent()
+                || headers.allValues("vary").stream().anyMatch(value -> value.contains("*"))) {
+            return null;
+        }
+        if (request.getHeader("Authorization") != null && directive(cacheControl, "public") == null
+                && directive(cacheControl, "s-maxage") == null
+                && directive(cacheControl, "must-revalidate") == null) {
+            return null;
+        }
+        // 쿠키 세션 인증 응답도 사용자별일 수 있으므로 명시적으로 공유 가능(public/s-maxage)할 때만 저장
+        if (request.getHeader("Cookie") != null && directive(cacheControl, "public") == null
+                && directive(cacheControl, "s-maxage") == null) {
+            return null;
+        }
+        long freshness = freshnessNanos(headers, defaultTtl);
+        if (freshness <= 0 && headers.firstValue("etag").isEmpty() && headers.firstValue("last-modified").isEmpty()) {
+            return null;
+        }
+        long contentLength = headers.firstValueAsLong("content-length").orElse(-1);
+        if (contentLength > maxEntryBytes) {
+            return null;
+        }
+        return new Capture(maxEntryBytes, contentLength, freshness);
+    }
+
+    /**
+     * 캡처한 응답 저장 (본문이 상한을 넘었으면 무시)
+     */
+    public void store(String key, HttpServletRequest request, int status, HttpHeaders upstreamHeaders,
+            Capture capture) {
+        if (capture.isOverflowed()) {
+            return;
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        upstreamHeaders.map().forEach((name, values) -> {
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            if (!UNSTORED_HEADERS.contains(lowerName)) {
+                headers.put(lowerName, List.copyOf(values));
+            }
+        });
+        List<String> names = new ArrayList<>();
+        for (String vary : upstreamHeaders.allValues("vary")) {
+            for (String name : vary.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        if (varyNames.size() >= MAX_VARY_INDEX_SIZE) {
+            varyNames.clear();
+        }
+        varyNames.put(key, List.copyOf(names));
+        byte[] body = capture.toByteArray();
+        put(new CachedResponse(variantKey(key, names, request), status, Map.copyOf(headers), System.nanoTime(),
+                initialAge(upstreamHeaders), capture.freshnessNanos, body.length, body, null));
+    }
+
+    /**
+     * 항목 제거 (재검증 결과 더 이상 저장할 수 없는 응답이 왔을 때)
+     */
+    public void invalidate(CachedResponse entry) {
+        remove(entry.key);
+    }
+
+    private void remove(String variantKey) {
+        Path file = null;
+        synchronized (lock) {
+            CachedResponse removed = memory.remove(variantKey);
+            if (removed != null) {
+                memoryBytes -= removed.size;
+            }
+            removed = disk.remove(variantKey);
+            if (removed != null) {
+                diskBytes -= removed.size;
+                file = removed.file;
+            }
+        }
+        deleteQuietly(file);
+    }
+
+    /**
+     * 만료 항목 재검증 결과 새 응답을 받은 경우 (lookup에서 반환됐지만 캐시로 응답하지 못함)
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public double getHitRatio() {
+        double hits = memoryHits.sum() + diskHits.sum() + revalidations.sum();
+        double total = hits + misses.sum();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    public long getSizeBytes(boolean diskTier) {
+        synchronized (lock) {
+            return diskTier ? diskBytes : memoryBytes;
+        }
+    }
+
+    /**
+     * 메모리 계층에 저장하고, 상한을 넘으면 오래 쓰이지 않은 항목부터 디스크 계층으로 이동(또는 폐기)
+     */
+    private void put(CachedResponse entry) {
+        List<CachedResponse> evicted = new ArrayList<>();
+        Path replacedFile = null;
+        synchronized (lock) {
+            CachedResponse previous = memory.put(entry.key, entry);
+            if (previous != null) {
+                memoryBytes -= previous.size;
+            }
+            CachedResponse previousOnDisk = disk.remove(entry.key);
+            if (previousOnDisk != null) {
+                diskBytes -= previousOnDisk.size;
+                replacedFile = previousOnDisk.file;
+            }
+            memoryBytes += entry.size;
+            Iterator<CachedResponse> iterator = memory.values().iterator();
+            while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+                CachedResponse eldest = iterator.next();
+                iterator.remove();
+                memoryBytes -= eldest.size;
+                evicted.add(eldest);
+            }
+        }
+        deleteQuietly(replacedFile);
+        if (diskEnabled) {
+            evicted.forEach(this::spill);
+        }
+    }
+
+    private void spill(CachedResponse entry) {
+        if (entry.size > maxDiskBytes) {
+            return;
+        }
+        Path file = diskPath.resolve(fileSequence.incrementAndGet() + FILE_SUFFIX);
+        try {
+            Files.write(file, entry.body);
+        } catch (IOException e) {
+            logger.warn("⚠️ 응답 캐시 디스크 저장 실패 - {}: {}", file, e.getMessage());
+            deleteQuietly(file);
+            return;
+        }
+        List<Path> deleted = new ArrayList<>();
+        synchronized (lock) {
+            if (memory.containsKey(entry.key) || disk.containsKey(entry.key)) {
+                // 파일을 쓰는 동안 새 응답이 저장됨
+                deleted.add(file);
+            } else {
+                disk.put(entry.key, entry.onDisk(file));
+                diskBytes += entry.size;
+                Iterator<CachedResponse> iterator = disk.values().iterator();
+                while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+                    CachedResponse eldest = iterator.next();
+                    iterator.remove();
+                    diskBytes -= eldest.size;
+                    deleted.add(eldest.file);
+                }
+            }
+        }
+        deleted.forEach(GatewayResponseCache::deleteQuietly);
+    }
+
+    private void count(CachedResponse entry, boolean revalidated) {
+        if (revalidated) {
+            revalidations.increment();
+        } else if (entry.body != null) {
+            memoryHits.increment();
+        } else {
+            diskHits.increment();
+        }
+    }
+
+    private static boolean isNotModified(CachedResponse entry, HttpServletRequest request) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            if (entry.etag == null) {
+                return false;
+            }
+            String etag = opaqueTag(entry.etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || opaqueTag(tag).equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        String ifModifiedSince = request.getHeader("If-Modified-Since");
+        if (ifModifiedSince == null || entry.lastModified == null) {
+            return false;
+        }
+        ZonedDateTime since = parseDate(ifModifiedSince);
+        ZonedDateTime modified = parseDate(entry.lastModified);
+        return since != null && modified != null && !modified.isAfter(since);
+    }
+
+    /**
+     * 약한 비교용 ETag (W/ 접두사 제거)
+     */
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * 신선도 수명: s-maxage > max-age > Expires - Date > 라우트 기본 TTL (no-cache면 0)
+     */
+    private static long freshnessNanos(HttpHeaders headers, Duration defaultTtl) {
+        String cacheControl = join(headers.allValues("cache-control"));
+        if (directive(cacheControl, "no-cache") != null) {
+            return 0;
+        }
+        for (String name : List.of("s-maxage", "max-age")) {
+            String value = directive(cacheControl, name);
+            if (value != null) {
+                try {
+                    return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value)));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        String expires = headers.firstValue("expires").orElse(null);
+        if (expires != null) {
+            ZonedDateTime expiresAt = parseDate(expires);
+            ZonedDateTime date = headers.firstValue("date").map(GatewayResponseCache::parseDate)
+                    .orElse(ZonedDateTime.now());
+            if (expiresAt == null || date == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(date, expiresAt).toNanos());
+        }
+        return defaultTtl.toNanos();
+    }
+
+    private static long initialAge(HttpHeaders headers) {
+        try {
+            return Math.max(0, headers.firstValueAsLong("age").orElse(0));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String variantKey(String key, List<String> names, HttpServletRequest request) {
+        if (names.isEmpty()) {
+            return key;
+        }
+        StringBuilder variant = new StringBuilder(key);
+        for (String name : names) {
+            variant.append('\n').append(name).append('=');
+            String value = join(request.getHeaders(name));
+            if (value != null) {
+                variant.append(value);
+            }
+        }
+        return variant.toString();
+    }
+
+    /**
+     * Cache-Control 지시자 값
+     *
+     * @return 없으면 null, 값 없는 지시자면 빈 문자열
+     */
+    private static String directive(String cacheControl, String name) {
+        if (cacheControl == null) {
+            return null;
+        }
+        for (String part : cacheControl.split(",")) {
+            String token = part.trim();
+            int equals = token.indexOf('=');
+            String directiveName = equals < 0 ? token : token.substring(0, equals).trim();
+            if (directiveName.equalsIgnoreCase(name)) {
+                return equals < 0 ? "" : token.substring(equals + 1).trim().replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    private static String join(Enumeration<String> values) {
+        if (values == null || !values.hasMoreElements()) {
+            return null;
+        }
+        StringBuilder joined = new StringBuilder(values.nextElement());
+        while (values.hasMoreElements()) {
+            joined.append(',').append(values.nextElement());
+        }
+        return joined.toString();
+    }
+
+    private static String join(List<String> values) {
+        return values.isEmpty() ? null : String.join(",", values);
+    }
+
+    private static String first(Map<String, List<String>> headers, String name) {
+        List<String> values = headers.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    private static ZonedDateTime parseDate(String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void deleteCacheFiles() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(diskPath, "*" + FILE_SUFFIX)) {
+            files.forEach(GatewayResponseCache::deleteQuietly);
+        } catch (IOException e) {
+            logger.warn("⚠️ 응답 캐시 디렉터리 정리 실패 - {}: {}", diskPath, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("응답 캐시 파일 삭제 실패 - {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 후보 응답 본문 버퍼 (저장 시 사용할 신선도 수명 포함)
+     */
+    public static final class Capture extends BoundedBuffer {
+        private final long freshnessNanos;
+
+        private Capture(int limit, long contentLength, long freshnessNanos) {
+            super(limit, contentLength);
+            this.freshnessNanos = freshnessNanos;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package kr.minsol.api.gateway;
+
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 컴파일된 프록시 라우트
+ *
+ * @param pathPrefix    Path 조건의 고정 접두사 (예: /api/erp/customer)
+ * @param matchSubpaths Path 조건이 /** 로 끝나면 true (하위 경로 포함)
+ * @param stripPrefix   업스트림으로 보내기 전에 제거할 앞쪽 경로 세그먼트 수
+ * @param stripOffset   제거할 세그먼트가 모두 고정 접두사 안에 있으면 그 문자 길이 (아니면 -1)
+ * @param cacheTtl      LocalResponseCache 필터의 기본 TTL (업스트림이 신선도를 주지 않을 때), 캐시 미사용이면 null
+ * @param coalescing    RequestCoalescing 필터 설정, 미사용이면 null
+ * @param policy        라우트별 타임아웃/동시 요청 한도/재시도 (null 항목은 gateway.proxy.* 기본값)
+ */
+public record GatewayRoute(String id, URI uri, String pathPrefix, boolean matchSubpaths, int stripPrefix,
+        int stripOffset, Duration cacheTtl, Coalescing coalescing, Policy policy) {
+
+    /**
+     * 라우트별 업스트림 호출 정책
+     *
+     * @param connectTimeout        연결 타임아웃 (metadata.connect-timeout)
+     * @param responseTimeout       응답 헤더까지의 타임아웃 (metadata.response-timeout)
+     * @param idleTimeout           응답 본문 수신 중 무응답 허용 시간 (metadata.idle-timeout, 스트리밍 응답용)
+     * @param maxConcurrentRequests 라우트 동시 요청 한도 (metadata.max-concurrent-requests)
+     * @param maxBodySize           요청 본문 최대 크기 (metadata.max-body-size)
+     * @param retries               멱등 요청 최대 재시도 횟수 (Retry 필터, 없으면 0)
+     */
+    public record Policy(Duration connectTimeout, Duration responseTimeout, Duration idleTimeout,
+            Integer maxConcurrentRequests, DataSize maxBodySize, int retries) {
+
+        public static final Policy DEFAULT = new Policy(null, null, null, null, null, 0);
+    }
+
+    /**
+     * 동일 요청 병합 설정
+     *
+     * @param maxWait    leader 응답을 기다리는 최대 시간
+     * @param keyHeaders 경로/쿼리 외에 병합 키에 포함할 요청 헤더
+     */
+    public record Coalescing(Duration maxWait, List<String> keyHeaders) {
+    }
+
+    public GatewayRoute(String id, URI uri, String pathPrefix, boolean matchSubpaths, int stripPrefix) {
+        this(id, uri, pathPrefix, matchSubpaths, stripPrefix, null, null, Policy.DEFAULT);
+    }
+
+    public GatewayRoute(String id, URI uri, String pathPrefix, boolean matchSubpaths, int stripPrefix,
+            Duration cacheTtl, Coalescing coalescing, Policy policy) {
+        this(id, uri, pathPrefix, matchSubpaths, stripPrefix, stripOffset(pathPrefix, stripPrefix), cacheTtl,
+                coalescing, policy);
+    }
+
+    /**
+     * 업스트림 경로 계산 (앞쪽 stripPrefix개 세그먼트 제거, 남는 경로가 없으면 "/")
+     * 대부분의 라우트는 미리 계산한 stripOffset으로 substring 한 번이면 됩니다.
+     * 남은 경로가 //로 시작하면(/api/ml//host/x) 앞쪽 빈 세그먼트를 합쳐 /로 시작하도록 합니다.
+     *
+     * @param path 라우트와 일치한 인코딩된 요청 경로 (/로 시작)
+     */
+    public String upstreamPath(String path) {
+        if (stripOffset >= 0) {
+            return path.length() > stripOffset ? collapseLeadingSlashes(path, stripOffset) : "/";
+        }
+        int index = 0;
+        for (int i = 0; i < stripPrefix; i++) {
+            int next = path.indexOf('/', index + 1);
+            if (next < 0) {
+                return "/";
+            }
+            index = next;
+        }
+        return collapseLeadingSlashes(path, index);
+    }
+
+    /**
+     * 업스트림 요청 URI
+     * 인스턴스 URI의 scheme/authority는 그대로 두고 경로와 쿼리만 붙입니다.
+     * (URI.resolve는 //로 시작하는 경로를 다른 호스트로 해석하므로 사용하지 않음)
+     *
+     * @param upstreamPath upstreamPath()로 계산한 경로
+     * @param query        인코딩된 쿼리 문자열 (없으면 null)
+     * @throws IllegalArgumentException 경로나 쿼리가 URI 문법에 맞지 않으면
+     */
+    public static URI upstreamUri(URI instanceUri, String upstreamPath, String query) {
+        return URI.create(instanceUri.getScheme() + "://" + instanceUri.getRawAuthority() + upstreamPath
+                + (query != null ? "?" + query : ""));
+    }
+
+    private static String collapseLeadingSlashes(String path, int index) {
+        while (index + 1 < path.length() && path.charAt(index + 1) == '/') {
+            index++;
+        }
+        return path.substring(index);
+    }
+
+    private static int stripOffset(String pathPrefix, int stripPrefix) {
+        int index = 0;
+        for (int i = 0; i < stripPrefix; i++) {
+            int next = pathPrefix.indexOf('/', index + 1);
+            if (next < 0) {
+                // 마지막 세그먼트까지 제거하는 경우 접두사 길이, 그 이상은 요청마다 계산
+                return i == stripPrefix - 1 && index < pathPrefix.length() - 1 ? pathPrefix.length() : -1;
+            }
+            index = next;
+        }
+        return index;
+    }
+}
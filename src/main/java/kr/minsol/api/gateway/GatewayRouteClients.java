@@ -0,0 +1,153 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 라우트별 RouteClient 레지스트리
+ * 라우트마다 HttpClient(커넥션 풀)와 동시 요청 한도를 따로 두어 느린 업스트림(chatbot, ml 등)이
+ * 빠른 업스트림의 커넥션/스레드를 잠식하지 않도록 합니다.
+ * 설정 갱신으로 라우트 정책이 바뀌면 새 RouteClient로 교체하고, 이전 HttpClient는 진행 중 요청이 끝나면 종료됩니다.
+ *
+ * 설정: gateway.proxy.* 기본값, 라우트 metadata(connect-timeout, response-timeout, idle-timeout,
+ * max-concurrent-requests, max-body-size)와 Retry 필터로 라우트별 재정의
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayRouteClients {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteClient> clients = new ConcurrentHashMap<>();
+
+    private final Duration connectTimeout;
+    private final Duration responseTimeout;
+    private final Duration idleTimeout;
+    private final int maxConcurrentRequests;
+    private final DataSize maxBodySize;
+    private final int retryBudgetPercent;
+    private final double minRetriesPerSecond;
+
+    public GatewayRouteClients(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${gateway.proxy.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${gateway.proxy.response-timeout:30s}") Duration responseTimeout,
+            @Value("${gateway.proxy.idle-timeout:60s}") Duration idleTimeout,
+            @Value("${gateway.proxy.max-concurrent-requests:200}") int maxConcurrentRequests,
+            @Value("${gateway.proxy.max-body-size:10MB}") DataSize maxBodySize,
+            @Value("${gateway.proxy.retry.budget-percent:20}") int retryBudgetPercent,
+            @Value("${gateway.proxy.retry.min-per-second:5}") double minRetriesPerSecond) {
+        this.meterRegistry = meterRegistryProvider.getIfAvailable();
+        this.connectTimeout = connectTimeout;
+        this.responseTimeout = responseTimeout;
+        this.idleTimeout = idleTimeout;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxBodySize = maxBodySize;
+        this.retryBudgetPercent = retryBudgetPercent;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.values().forEach(client -> client.httpClient().shutdownNow());
+    }
+
+    /**
+     * 라우트의 RouteClient (정책이 바뀌었으면 새로 생성)
+     */
+    public RouteClient get(GatewayRoute route) {
+        RouteClient client = clients.get(route.id());
+        if (client != null && client.policy().equals(route.policy())) {
+            return client;
+        }
+        return clients.compute(route.id(), (id, existing) -> {
+            if (existing != null && existing.policy().equals(route.policy())) {
+                return existing;
+            }
+            if (existing != null) {
+                existing.httpClient().shutdown();
+            } else {
+                registerMeters(id);
+            }
+            return create(id, route.policy());
+        });
+    }
+
+    /**
+     * 생성된 모든 라우트의 현재 상태
+     */
+    public Map<String, Map<String, Object>> describe() {
+        Map<String, Map<String, Object>> states = new LinkedHashMap<>();
+        clients.values().stream()
+                .sorted((a, b) -> a.getRouteId().compareTo(b.getRouteId()))
+                .forEach(client -> states.put(client.getRouteId(), client.describe()));
+        return states;
+    }
+
+    private RouteClient create(String routeId, GatewayRoute.Policy policy) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(policy.connectTimeout() != null ? policy.connectTimeout() : connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        return new RouteClient(routeId, policy, httpClient,
+                policy.responseTimeout() != null ? policy.responseTimeout() : responseTimeout,
+                policy.idleTimeout() != null ? policy.idleTimeout() : idleTimeout,
+                policy.maxConcurrentRequests() != null ? policy.maxConcurrentRequests() : maxConcurrentRequests,
+                (policy.maxBodySize() != null ? policy.maxBodySize() : maxBodySize).toBytes(),
+                retryBudgetPercent, minRetriesPerSecond);
+    }
+
+    /**
+     * 라우트 id당 한 번 등록 - 교체된 RouteClient도 같은 미터로 집계되도록 레지스트리를 통해 조회
+     */
+    private void registerMeters(String routeId) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("gateway.route.bulkhead.available", this,
+                        clientValue(routeId, RouteClient::getAvailableConcurrentRequests))
+                .tag("route", routeId)
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.route.rejected", this, clientValue(routeId, RouteClient::getRejectedRequests))
+                .description("동시 요청 한도 초과로 거절된 요청")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.route.timeouts", this, clientValue(routeId, RouteClient::getConnectTimeouts))
+                .tags("route", routeId, "type", "connect")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.route.timeouts", this, clientValue(routeId, RouteClient::getResponseTimeouts))
+                .tags("route", routeId, "type", "response")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.route.timeouts", this, clientValue(routeId, RouteClient::getIdleTimeouts))
+                .tags("route", routeId, "type", "idle")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.route.retries", this, clientValue(routeId, RouteClient::getRetries))
+                .tags("route", routeId, "result", "attempted")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.route.retries", this, clientValue(routeId, RouteClient::getRetriesDenied))
+                .tags("route", routeId, "result", "budget_exhausted")
+                .register(meterRegistry);
+    }
+
+    private static ToDoubleFunction<GatewayRouteClients> clientValue(String routeId,
+            ToDoubleFunction<RouteClient> value) {
+        return registry -> {
+            RouteClient client = registry.clients.get(routeId);
+            return client != null ? value.applyAsDouble(client) : 0;
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package kr.minsol.api.gateway;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 라우트별 벌크헤드/타임아웃/재시도 상태 조회 (/actuator/gatewayroutes)
+ */
+@Component
+@Endpoint(id = "gatewayroutes")
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayRouteEndpoint {
+
+    private final GatewayRouteClients routeClients;
+
+    public GatewayRouteEndpoint(GatewayRouteClients routeClients) {
+        this.routeClients = routeClients;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> routes() {
+        return routeClients.describe();
+    }
+}
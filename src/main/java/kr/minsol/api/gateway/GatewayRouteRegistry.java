@@ -0,0 +1,56 @@
+package kr.minsol.api.gateway;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 프록시 라우트 테이블
+ * 시작 시 한 번 컴파일하고, Spring Cloud Config 갱신(EnvironmentChangeEvent) 시 새로 컴파일하여 원자적으로 교체합니다.
+ * 요청은 교체 전후 중 하나의 완성된 테이블만 보므로 갱신 중에도 라우트가 섞이지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayRouteRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayRouteRegistry.class);
+
+    private final Environment environment;
+    private final AtomicReference<GatewayRouteTable> table = new AtomicReference<>();
+
+    public GatewayRouteRegistry(Environment environment) {
+        this.environment = environment;
+        GatewayRouteTable initial = GatewayRouteTable.build(environment);
+        table.set(initial);
+        logger.info("게이트웨이 프록시 라우트 {}개 등록", initial.routes().size());
+    }
+
+    public GatewayRouteTable current() {
+        return table.get();
+    }
+
+    /**
+     * 설정 갱신 시 라우트 테이블 재생성
+     * 라우트 설정이 바뀌지 않았으면 건너뛰고, 재생성에 실패하면 기존 테이블을 유지합니다.
+     */
+    @EventListener(EnvironmentChangeEvent.class)
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        boolean routesChanged = event.getKeys().stream().anyMatch(key -> key.startsWith("spring.cloud.gateway."));
+        if (!routesChanged) {
+            return;
+        }
+        try {
+            GatewayRouteTable refreshed = GatewayRouteTable.build(environment);
+            table.set(refreshed);
+            logger.info("게이트웨이 프록시 라우트 갱신 - {}개", refreshed.routes().size());
+        } catch (RuntimeException e) {
+            logger.warn("⚠️ 게이트웨이 프록시 라우트 갱신 실패 (기존 라우트 유지): {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package kr.minsol.api.gateway;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 프록시 라우트 테이블 (불변)
+ * spring.cloud.gateway.routes를 시작 시(및 설정 갱신 시) 경로 세그먼트 트라이로 컴파일하며,
+ * 요청 처리 중에는 조회만 합니다.
+ *
+ * 매칭은 요청 경로를 '/' 단위로 한 번 훑으며 세그먼트마다 정렬된 자식 배열을 이진 탐색하므로
+ * 라우트 수와 무관하게 O(세그먼트 수)이고, 부분 문자열을 만들지 않아 할당이 없습니다.
+ * 여러 라우트가 일치하면 가장 긴 접두사가 우선합니다.
+ */
+public final class GatewayRouteTable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayRouteTable.class);
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    // RequestCoalescing 기본 키 헤더 - 사용자별 + 콘텐츠 협상 값별
+    private static final List<String> DEFAULT_COALESCING_KEY_HEADERS = List.of("Authorization", "Cookie", "Accept",
+            "Accept-Encoding", "Accept-Language");
+
+    /**
+     * 트라이 노드 (컴파일 후 변경되지 않음)
+     *
+     * @param children     세그먼트 사전순으로 정렬된 자식
+     * @param exactRoute   경로가 이 노드에서 끝날 때만 일치하는 라우트 (Path=/a/b)
+     * @param subtreeRoute 이 노드와 모든 하위 경로에 일치하는 라우트 (Path=/a/b/**)
+     */
+    private record Node(String segment, Node[] children, GatewayRoute exactRoute, GatewayRoute subtreeRoute) {
+
+        Node find(String path, int start, int end) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(children[mid].segment, path, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * segment와 path[start, end) 사전순 비교 (String.compareTo와 같은 순서)
+         */
+        private static int compare(String segment, String path, int start, int end) {
+            int length = Math.min(segment.length(), end - start);
+            for (int i = 0; i < length; i++) {
+                int diff = segment.charAt(i) - path.charAt(start + i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return segment.length() - (end - start);
+        }
+    }
+
+    private final List<GatewayRoute> routes;
+    private final Node root;
+
+    GatewayRouteTable(List<GatewayRoute> routes) {
+        this.routes = List.copyOf(routes);
+        MutableNode builder = new MutableNode("");
+        for (GatewayRoute route : this.routes) {
+            builder.insert(route);
+        }
+        this.root = builder.freeze();
+    }
+
+    public List<GatewayRoute> routes() {
+        return routes;
+    }
+
+    /**
+     * @param path 인코딩된 요청 경로
+     * @return 일치하는 라우트 중 접두사가 가장 긴 라우트, 없으면 null
+     */
+    public GatewayRoute match(String path) {
+        Node node = root;
+        GatewayRoute best = root.subtreeRoute();
+        int length = path.length();
+        if (length <= 1) {
+            return root.exactRoute() != null ? root.exactRoute() : best;
+        }
+        int start = path.charAt(0) == '/' ? 1 : 0;
+        while (true) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            Node child = node.find(path, start, end);
+            if (child == null) {
+                return best;
+            }
+            node = child;
+            if (end == length) {
+                if (node.exactRoute() != null) {
+                    return node.exactRoute();
+                }
+                return node.subtreeRoute() != null ? node.subtreeRoute() : best;
+            }
+            if (node.subtreeRoute() != null) {
+                best = node.subtreeRoute();
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * 컴파일 중에만 사용하는 가변 노드
+     */
+    private static final class MutableNode {
+        private final String segment;
+        private final Map<String, MutableNode> children = new TreeMap<>();
+        private GatewayRoute exactRoute;
+        private GatewayRoute subtreeRoute;
+
+        MutableNode(String segment) {
+            this.segment = segment;
+        }
+
+        void insert(GatewayRoute route) {
+            MutableNode node = this;
+            String prefix = route.pathPrefix();
+            if (prefix.length() > 1) {
+                for (String segment : prefix.substring(1).split("/", -1)) {
+                    node = node.children.computeIfAbsent(segment, MutableNode::new);
+                }
+            }
+            if (route.matchSubpaths()) {
+                if (node.subtreeRoute != null) {
+                    logger.warn("⚠️ 게이트웨이 라우트 경로 중복 - {}와 {}: {} (먼저 선언된 라우트 사용)",
+                            node.subtreeRoute.id(), route.id(), prefix);
+                    return;
+                }
+                node.subtreeRoute = route;
+            } else {
+                if (node.exactRoute != null) {
+                    logger.warn("⚠️ 게이트웨이 라우트 경로 중복 - {}와 {}: {} (먼저 선언된 라우트 사용)",
+                            node.exactRoute.id(), route.id(), prefix);
+                    return;
+                }
+                node.exactRoute = route;
+            }
+        }
+
+        Node freeze() {
+            Node[] frozen = children.isEmpty() ? NO_CHILDREN : new Node[children.size()];
+            int i = 0;
+            for (MutableNode child : children.values()) {
+                frozen[i++] = child.freeze();
+            }
+            return new Node(segment, frozen, exactRoute, subtreeRoute);
+        }
+    }
+
+    /**
+     * 설정에서 라우트 테이블 생성
+     * 지원하지 않는 조건/필터가 있는 라우트는 잘못 라우팅하지 않도록 건너뜁니다.
+     */
+    public static GatewayRouteTable build(Environment environment) {
+        List<RouteDefinition> definitions = Binder.get(environment)
+                .bind("spring.cloud.gateway.routes", Bindable.listOf(RouteDefinition.class))
+                .orElse(List.of());
+        List<GatewayRoute> routes = new ArrayList<>();
+        for (RouteDefinition definition : definitions) {
+            try {
+                routes.addAll(compile(definition));
+            } catch (IllegalArgumentException e) {
+                logger.warn("⚠️ 게이트웨이 라우트 건너뜀 - {}: {}", definition.id(), e.getMessage());
+            }
+        }
+        return new GatewayRouteTable(routes);
+    }
+
+    static List<GatewayRoute> compile(RouteDefinition definition) {
+        if (definition.uri() == null || definition.uri().getHost() == null) {
+            throw new IllegalArgumentException("uri가 없습니다.");
+        }
+        int stripPrefix = 0;
+        Duration cacheTtl = null;
+        GatewayRoute.Coalescing coalescing = null;
+        int retries = 0;
+        for (String filter : nullToEmpty(definition.filters())) {
+            String[] parts = filter.split("=", 2);
+            if (parts[0].trim().equals("StripPrefix") && parts.length == 2) {
+                stripPrefix = Integer.parseInt(parts[1].trim());
+            } else if (parts[0].trim().equals("LocalResponseCache")) {
+                // 용량(두 번째 인자)은 라우트별이 아니라 gateway.proxy.response-cache.* 전체 상한으로 관리
+                cacheTtl = parts.length == 2 ? DurationStyle.detectAndParse(parts[1].split(",")[0].trim())
+                        : Duration.ofMinutes(5);
+            } else if (parts[0].trim().equals("Retry") && parts.length == 2) {
+                retries = Math.max(0, Integer.parseInt(parts[1].split(",")[0].trim()));
+            } else if (parts[0].trim().equals("RequestCoalescing")) {
+                coalescing = compileCoalescing(parts.length == 2 ? parts[1] : "");
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 필터: " + filter);
+            }
+        }
+
+        Map<String, String> metadata = definition.metadata() != null ? definition.metadata() : Map.of();
+        GatewayRoute.Policy policy = new GatewayRoute.Policy(
+                durationOrNull(metadata.get("connect-timeout")),
+                durationOrNull(metadata.get("response-timeout")),
+                durationOrNull(metadata.get("idle-timeout")),
+                metadata.containsKey("max-concurrent-requests")
+                        ? Integer.valueOf(metadata.get("max-concurrent-requests").trim())
+                        : null,
+                metadata.containsKey("max-body-size") ? DataSize.parse(metadata.get("max-body-size").trim()) : null,
+                retries);
+
+        List<GatewayRoute> routes = new ArrayList<>();
+        for (String predicate : nullToEmpty(definition.predicates())) {
+            String[] parts = predicate.split("=", 2);
+            if (!parts[0].trim().equals("Path") || parts.length != 2) {
+                throw new IllegalArgumentException("지원하지 않는 조건: " + predicate);
+            }
+            for (String pattern : parts[1].split(",")) {
+                routes.add(compilePath(definition, pattern.trim(), stripPrefix, cacheTtl, coalescing,
+                        policy));
+            }
+        }
+        if (routes.isEmpty()) {
+            throw new IllegalArgumentException("Path 조건이 없습니다.");
+        }
+        return routes;
+    }
+
+    private static GatewayRoute compilePath(RouteDefinition definition, String pattern, int stripPrefix,
+            Duration cacheTtl, GatewayRoute.Coalescing coalescing, GatewayRoute.Policy policy) {
+        boolean matchSubpaths = pattern.endsWith("/**");
+        String prefix = matchSubpaths ? pattern.substring(0, pattern.length() - 3) : pattern;
+        if (prefix.isEmpty()) {
+            prefix = "/";
+        }
+        if (!prefix.startsWith("/") || prefix.contains("*") || prefix.contains("{")) {
+            throw new IllegalArgumentException("지원하지 않는 Path 패턴: " + pattern);
+        }
+        return new GatewayRoute(definition.id(), definition.uri(), prefix, matchSubpaths, stripPrefix, cacheTtl,
+                coalescing, policy);
+    }
+
+    /**
+     * RequestCoalescing=maxWait[,Header...]
+     * 키 헤더를 생략하면 사용자별(Authorization, Cookie), 콘텐츠 협상 값별(Accept, Accept-Encoding, Accept-Language)로 병합
+     */
+    private static GatewayRoute.Coalescing compileCoalescing(String arguments) {
+        String[] parts = arguments.split(",");
+        Duration maxWait = parts[0].isBlank() ? Duration.ofSeconds(2) : DurationStyle.detectAndParse(parts[0].trim());
+        List<String> keyHeaders = new ArrayList<>();
+        for (int i = 1; i < parts.length; i++) {
+            if (!parts[i].isBlank()) {
+                keyHeaders.add(parts[i].trim());
+            }
+        }
+        return new GatewayRoute.Coalescing(maxWait,
+                keyHeaders.isEmpty() ? DEFAULT_COALESCING_KEY_HEADERS : List.copyOf(keyHeaders));
+    }
+
+    /**
+     * Spring Cloud Gateway 라우트 metadata와 같이 단위 없는 숫자는 ms로 해석
+     */
+    private static Duration durationOrNull(String value) {
+        return value != null && !value.isBlank() ? DurationStyle.detectAndParse(value.trim()) : null;
+    }
+
+    private static List<String> nullToEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+}
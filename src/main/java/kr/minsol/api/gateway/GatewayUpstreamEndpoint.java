@@ -0,0 +1,29 @@
+package kr.minsol.api.gateway;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업스트림 인스턴스별 상태/부하 조회 (/actuator/gatewayupstreams)
+ */
+@Component
+@Endpoint(id = "gatewayupstreams")
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class GatewayUpstreamEndpoint {
+
+    private final GatewayLoadBalancer loadBalancer;
+
+    public GatewayUpstreamEndpoint(GatewayLoadBalancer loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    @ReadOperation
+    public Map<String, List<Map<String, Object>>> upstreams() {
+        return loadBalancer.describe();
+    }
+}
@@ -0,0 +1,283 @@
+package kr.minsol.api.gateway;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업스트림으로 보낼 요청 본문
+ * - streaming: 클라이언트 입력을 고정 크기 청크로 바로 업스트림에 전달 (재전송 불가, 힙 사용량은 청크 몇 개로 일정)
+ * - replayable: 재시도를 위해 본문 보관 - memory-threshold 이하는 힙 배열, 넘으면 임시 파일로 옮긴 뒤(FileChannel.transferFrom)
+ *   시도마다 파일 위치 지정 읽기로 64KB씩 전송 (힙에는 청크 버퍼 하나만, 업스트림이 다 쓴 버퍼는 다시 사용)
+ * 어느 쪽이든 max-body-size를 넘으면 TooLargeException
+ * 임시 파일은 close()에서 채널을 닫고 삭제하므로 교환과 재시도가 모두 끝난 뒤 닫아야 합니다.
+ */
+final class RequestBody implements Closeable {
+
+    /**
+     * 요청 본문이 라우트 최대 크기를 넘음 (413)
+     */
+    static final class TooLargeException extends IOException {
+        TooLargeException(long maxBytes) {
+            super("요청 본문이 최대 크기(" + maxBytes + " bytes)를 넘었습니다.");
+        }
+    }
+
+    static final RequestBody NONE = new RequestBody(HttpRequest.BodyPublishers.noBody(), true, null, null);
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private final HttpRequest.BodyPublisher publisher;
+    private final boolean replayable;
+    private final FileChannel channel;
+    private final Path file;
+
+    private RequestBody(HttpRequest.BodyPublisher publisher, boolean replayable, FileChannel channel, Path file) {
+        this.publisher = publisher;
+        this.replayable = replayable;
+        this.channel = channel;
+        this.file = file;
+    }
+
+    /**
+     * 클라이언트 입력을 그대로 흘려보내는 본문 (한 번만 전송 가능)
+     */
+    static RequestBody streaming(HttpServletRequest request, long maxBytes) {
+        long contentLength = request.getContentLengthLong();
+        HttpRequest.BodyPublisher stream = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return new LimitedInputStream(request.getInputStream(), maxBytes);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return new RequestBody(contentLength > 0 ? HttpRequest.BodyPublishers.fromPublisher(stream, contentLength)
+                : stream, false, null, null);
+    }
+
+    /**
+     * 재전송할 수 있도록 본문을 모두 받아 둔 본문
+     *
+     * @param memoryThreshold 이 크기까지는 힙에 보관
+     * @param spillDirectory  큰 본문을 옮길 디렉터리
+     */
+    static RequestBody replayable(HttpServletRequest request, long maxBytes, int memoryThreshold,
+            Path spillDirectory) throws IOException {
+        InputStream in = new LimitedInputStream(request.getInputStream(), maxBytes);
+        byte[] head = in.readNBytes(memoryThreshold + 1);
+        if (head.length <= memoryThreshold) {
+            return new RequestBody(HttpRequest.BodyPublishers.ofByteArray(head), true, null, null);
+        }
+
+        Path file = Files.createTempFile(spillDirectory, "body-", ".tmp");
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ReadableByteChannel source = Channels.newChannel(in);
+            long position = channel.write(ByteBuffer.wrap(head));
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+            return new RequestBody(HttpRequest.BodyPublishers.fromPublisher(new FilePublisher(channel, position),
+                    position), true, channel, file);
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    HttpRequest.BodyPublisher publisher() {
+        return publisher;
+    }
+
+    /**
+     * 임시 파일 채널을 닫고 삭제 (힙/스트리밍 본문은 할 일 없음)
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 여러 번 전송할 수 있는지 (재시도 가능 여부)
+     */
+    boolean isReplayable() {
+        return replayable;
+    }
+
+    /**
+     * 업스트림 호출 실패 원인이 본문 크기 초과인지
+     */
+    static boolean isTooLarge(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TooLargeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 최대 크기를 넘으면 읽기를 중단하는 입력 스트림 (Content-Length 없는 chunked 업로드용)
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long maxBytes;
+        private long count;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            int read = super.read(buffer, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(long read) throws TooLargeException {
+            count += read;
+            if (count > maxBytes) {
+                throw new TooLargeException(maxBytes);
+            }
+        }
+    }
+
+    /**
+     * 임시 파일 본문을 64KB 청크로 내보내는 publisher (구독마다 처음부터 - 재시도 시 재전송)
+     */
+    private static final class FilePublisher implements Flow.Publisher<ByteBuffer> {
+        private final FileChannel channel;
+        private final long size;
+
+        FilePublisher(FileChannel channel, long size) {
+            this.channel = channel;
+            this.size = size;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new ChunkSubscription(channel, size, subscriber));
+        }
+    }
+
+    private static final class ChunkSubscription implements Flow.Subscription {
+        private final FileChannel channel;
+        private final long size;
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private long position;
+        private ByteBuffer chunk;
+        private volatile boolean done;
+
+        ChunkSubscription(FileChannel channel, long size, Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.channel = channel;
+            this.size = size;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                done = true;
+                subscriber.onError(new IllegalArgumentException("request(" + n + ")"));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        /**
+         * onNext 안에서 request가 다시 호출되어도 재귀하지 않고 현재 루프에서 이어서 처리
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!done && demand.get() > 0 && position < size) {
+                    ByteBuffer next;
+                    try {
+                        next = read();
+                    } catch (IOException e) {
+                        done = true;
+                        subscriber.onError(e);
+                        break;
+                    }
+                    demand.decrementAndGet();
+                    subscriber.onNext(next);
+                }
+                if (!done && position >= size) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * 다음 청크를 위치 지정 읽기로 채움
+         * 직전 청크를 업스트림이 모두 썼으면(남은 바이트 없음) 같은 버퍼를 다시 쓰고, 아직 쓰는 중이면 새로 할당
+         */
+        private ByteBuffer read() throws IOException {
+            if (chunk == null || chunk.hasRemaining()) {
+                chunk = ByteBuffer.allocate(CHUNK_SIZE);
+            }
+            chunk.clear().limit((int) Math.min(CHUNK_SIZE, size - position));
+            while (chunk.hasRemaining()) {
+                int read = channel.read(chunk, position + chunk.position());
+                if (read < 0) {
+                    throw new EOFException("임시 파일 본문이 예상보다 짧습니다.");
+                }
+            }
+            position += chunk.flip().remaining();
+            return chunk;
+        }
+    }
+}
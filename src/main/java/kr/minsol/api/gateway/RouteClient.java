@@ -0,0 +1,190 @@
+package kr.minsol.api.gateway;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트 하나의 업스트림 호출 자원 (벌크헤드)
+ * - 라우트 전용 HttpClient: 커넥션 풀과 연결 타임아웃이 다른 라우트와 분리됨
+ * - 동시 요청 한도(Semaphore): 느린 업스트림이 서블릿 스레드를 모두 점유하지 않도록 초과분은 즉시 거절
+ * - 재시도 예산: 요청마다 budgetPercent% 만큼 적립, 재시도마다 1 차감 (+ 초당 최소 재시도 허용량)
+ *   장애 시 재시도가 요청량을 몇 배로 불리지 않도록 제한
+ */
+public class RouteClient {
+
+    private final String routeId;
+    private final GatewayRoute.Policy policy;
+    private final HttpClient httpClient;
+    private final Duration responseTimeout;
+    private final Duration idleTimeout;
+    private final int maxConcurrentRequests;
+    private final long maxBodyBytes;
+    private final Semaphore bulkhead;
+
+    private final double depositPerRequest;
+    private final double minRetriesPerSecond;
+    private final double maxBalance;
+    private double balance;
+    private long refilledAt = System.nanoTime();
+
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final LongAdder connectTimeouts = new LongAdder();
+    private final LongAdder responseTimeouts = new LongAdder();
+    private final LongAdder idleTimeouts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retriesDenied = new LongAdder();
+
+    RouteClient(String routeId, GatewayRoute.Policy policy, HttpClient httpClient, Duration responseTimeout,
+            Duration idleTimeout, int maxConcurrentRequests, long maxBodyBytes, int budgetPercent,
+            double minRetriesPerSecond) {
+        this.routeId = routeId;
+        this.policy = policy;
+        this.httpClient = httpClient;
+        this.responseTimeout = responseTimeout;
+        this.idleTimeout = idleTimeout;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxBodyBytes = maxBodyBytes;
+        this.bulkhead = new Semaphore(maxConcurrentRequests);
+        this.depositPerRequest = budgetPercent / 100.0;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxBalance = Math.max(10, minRetriesPerSecond * 10);
+        this.balance = maxBalance;
+    }
+
+    public String getRouteId() {
+        return routeId;
+    }
+
+    GatewayRoute.Policy policy() {
+        return policy;
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    Duration responseTimeout() {
+        return responseTimeout;
+    }
+
+    Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    long maxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    int maxRetries() {
+        return policy.retries();
+    }
+
+    /**
+     * 동시 요청 한도 내에서 진입 (성공 시 release 필수)
+     */
+    boolean tryAcquire() {
+        if (bulkhead.tryAcquire()) {
+            deposit();
+            return true;
+        }
+        rejectedRequests.increment();
+        return false;
+    }
+
+    void release() {
+        bulkhead.release();
+    }
+
+    /**
+     * 재시도 예산에서 1회 차감
+     *
+     * @return 예산이 부족하면 false (재시도하지 않음)
+     */
+    synchronized boolean tryRetry() {
+        refill();
+        if (balance < 1) {
+            retriesDenied.increment();
+            return false;
+        }
+        balance -= 1;
+        retries.increment();
+        return true;
+    }
+
+    void onConnectTimeout() {
+        connectTimeouts.increment();
+    }
+
+    void onResponseTimeout() {
+        responseTimeouts.increment();
+    }
+
+    void onIdleTimeout() {
+        idleTimeouts.increment();
+    }
+
+    private synchronized void deposit() {
+        refill();
+        balance = Math.min(maxBalance, balance + depositPerRequest);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double seconds = (now - refilledAt) / (double) TimeUnit.SECONDS.toNanos(1);
+        refilledAt = now;
+        balance = Math.min(maxBalance, balance + seconds * minRetriesPerSecond);
+    }
+
+    public int getAvailableConcurrentRequests() {
+        return bulkhead.availablePermits();
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    public long getConnectTimeouts() {
+        return connectTimeouts.sum();
+    }
+
+    public long getResponseTimeouts() {
+        return responseTimeouts.sum();
+    }
+
+    public long getIdleTimeouts() {
+        return idleTimeouts.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getRetriesDenied() {
+        return retriesDenied.sum();
+    }
+
+    /**
+     * 현재 상태 요약
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("response_timeout_ms", responseTimeout.toMillis());
+        state.put("idle_timeout_ms", idleTimeout.toMillis());
+        state.put("max_concurrent_requests", maxConcurrentRequests);
+        state.put("available_concurrent_requests", getAvailableConcurrentRequests());
+        state.put("max_body_bytes", maxBodyBytes);
+        state.put("max_retries", maxRetries());
+        state.put("rejected_requests", getRejectedRequests());
+        state.put("connect_timeouts", getConnectTimeouts());
+        state.put("response_timeouts", getResponseTimeouts());
+        state.put("idle_timeouts", getIdleTimeouts());
+        state.put("retries", getRetries());
+        state.put("retries_denied", getRetriesDenied());
+        return state;
+    }
+}
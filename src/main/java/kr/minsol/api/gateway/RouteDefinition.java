@@ -0,0 +1,18 @@
+package kr.minsol.api.gateway;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * spring.cloud.gateway.routes 항목 (application-railway.yaml)
+ *
+ * @param predicates 라우트 조건 (지원: Path=/a/**,/b)
+ * @param filters    라우트 필터 (지원: StripPrefix=n, LocalResponseCache=ttl[,size],
+ *                   RequestCoalescing=maxWait[,Header...], Retry=retries)
+ * @param metadata   라우트별 설정 (지원: connect-timeout, response-timeout, idle-timeout,
+ *                   max-concurrent-requests, max-body-size - 시간은 단위가 없으면 ms, 크기는 bytes)
+ */
+public record RouteDefinition(String id, URI uri, List<String> predicates, List<String> filters,
+        Map<String, String> metadata) {
+}
@@ -0,0 +1,112 @@
+package kr.minsol.api.gateway;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업스트림 응답 본문 무응답(idle) 감시
+ * JDK HttpClient는 본문 읽기 타임아웃이 없어 업스트림이 멈추면 서블릿 스레드가 무기한 대기합니다.
+ * 읽는 쪽은 데이터를 받으면 pause, 클라이언트에 다 쓰고 나면 resume하고(느린 클라이언트에 막힌 시간은 업스트림 무응답이 아님),
+ * 1초마다 감시 중인 스트림 중 idle-timeout을 넘긴 스트림을 닫아 대기를 끝냅니다.
+ * (요청마다 타이머를 만들지 않고 스레드 하나가 진행 중인 스트림 전체를 확인)
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.proxy.enabled", havingValue = "true", matchIfMissing = false)
+public class StreamIdleWatchdog {
+
+    /**
+     * 감시 중인 스트림 하나 (close로 감시 종료)
+     */
+    public final class Watch implements AutoCloseable {
+        private final Closeable stream;
+        private final long idleTimeoutNanos;
+        private volatile long lastActivityAt = System.nanoTime();
+        private volatile boolean timedOut;
+        private volatile boolean paused;
+
+        private Watch(Closeable stream, long idleTimeoutNanos) {
+            this.stream = stream;
+            this.idleTimeoutNanos = idleTimeoutNanos;
+        }
+
+        /**
+         * 감시 일시 중지 (클라이언트 쓰기 시작 - 업스트림을 읽지 않는 동안)
+         */
+        public void pause() {
+            paused = true;
+        }
+
+        /**
+         * 감시 재개 (클라이언트 쓰기 완료 - 무응답 시간은 지금부터 다시 셈)
+         */
+        public void resume() {
+            lastActivityAt = System.nanoTime();
+            paused = false;
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        @Override
+        public void close() {
+            watches.remove(this);
+        }
+
+        private void expireIfIdle(long now) {
+            if (paused || now - lastActivityAt <= idleTimeoutNanos) {
+                return;
+            }
+            timedOut = true;
+            watches.remove(this);
+            // 닫으면 블로킹 중인 read가 IOException으로 끝남
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+                // 이미 닫힌 스트림
+            }
+        }
+    }
+
+    private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "gateway-stream-idle-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StreamIdleWatchdog() {
+        scheduler.scheduleWithFixedDelay(this::expireIdle, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 스트림 감시 시작
+     */
+    public Watch watch(Closeable stream, Duration idleTimeout) {
+        Watch watch = new Watch(stream, idleTimeout.toNanos());
+        watches.add(watch);
+        return watch;
+    }
+
+    private void expireIdle() {
+        long now = System.nanoTime();
+        for (Watch watch : watches) {
+            watch.expireIfIdle(now);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업스트림 인스턴스 하나의 부하/상태
+ * - 진행 중 요청 수와 응답 시간 지수이동평균(EWMA)으로 부하를 판단
+ * - 연속 실패(패시브) 또는 헬스 체크 실패(액티브) 시 일정 시간 제외(ejection)
+ * - 복귀 후 slow-start 동안 선택 가중치를 0에서 1까지 서서히 올림
+ */
+public class UpstreamInstance {
+
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final String serviceId;
+    private final URI uri;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger consecutiveHealthFailures = new AtomicInteger();
+    private final LongAdder successCalls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+    private final LongAdder ejections = new LongAdder();
+
+    private volatile double latencyEwmaMillis;
+    private volatile boolean healthy = true;
+    private volatile long ejectedUntil;
+    private volatile long recoveringSince;
+    private int ejectionCount;
+
+    // 요청마다 레지스트리를 조회하지 않도록 등록한 미터를 보관 (인스턴스가 빠지면 레지스트리에서 제거)
+    private volatile Timer successTimer;
+    private volatile Timer failureTimer;
+    private volatile List<Meter> meters = List.of();
+
+    UpstreamInstance(String serviceId, URI uri) {
+        this.serviceId = serviceId;
+        this.uri = uri;
+        // 처음부터 slow-start가 끝난 상태로 시작
+        long past = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+        this.ejectedUntil = past;
+        this.recoveringSince = past;
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * 인스턴스 미터 연결 (생성 직후 한 번)
+     *
+     * @param meters 인스턴스가 빠질 때 제거할 전체 미터 (타이머 포함)
+     */
+    void bindMeters(Timer successTimer, Timer failureTimer, List<Meter> meters) {
+        this.successTimer = successTimer;
+        this.failureTimer = failureTimer;
+        this.meters = List.copyOf(meters);
+    }
+
+    /**
+     * 결과별 응답 시간 타이머 (미터 레지스트리가 없으면 null)
+     */
+    Timer timer(boolean failed) {
+        return failed ? failureTimer : successTimer;
+    }
+
+    List<Meter> meters() {
+        return meters;
+    }
+
+    /**
+     * 요청 시작 (반드시 complete와 짝을 이뤄야 함)
+     */
+    void begin() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * 요청 종료
+     *
+     * @return 연속 실패 횟수가 threshold 이상이면 true (제외되지 못했으면 다음 실패에도 다시 true, 제외 시 초기화)
+     */
+    boolean complete(long elapsedNanos, boolean success, int threshold) {
+        outstanding.decrementAndGet();
+        double elapsedMillis = elapsedNanos / 1_000_000.0;
+        double previous = latencyEwmaMillis;
+        latencyEwmaMillis = previous == 0 ? elapsedMillis : previous + EWMA_ALPHA * (elapsedMillis - previous);
+        if (success) {
+            successCalls.increment();
+            consecutiveFailures.set(0);
+            return false;
+        }
+        failedCalls.increment();
+        return consecutiveFailures.incrementAndGet() >= threshold;
+    }
+
+    /**
+     * 선택 가능 여부 (헬스 체크 통과 + 제외 기간 아님)
+     */
+    boolean isAvailable(long now) {
+        return healthy && now - ejectedUntil >= 0;
+    }
+
+    /**
+     * 선택 가중치 (0 초과 1 이하) - 복귀 직후에는 작게 시작해 slowStart에 걸쳐 1이 됨
+     */
+    double weight(long now, long slowStartNanos) {
+        long since = now - Math.max(recoveringSince, ejectedUntil);
+        if (slowStartNanos <= 0 || since >= slowStartNanos) {
+            return 1.0;
+        }
+        return Math.max(0.05, (double) Math.max(since, 0) / slowStartNanos);
+    }
+
+    /**
+     * 제외 - 반복될수록 제외 시간이 길어짐 (baseNanos × 제외 횟수, 최대 maxNanos)
+     */
+    synchronized void eject(long now, long baseNanos, long maxNanos) {
+        ejectionCount++;
+        ejectedUntil = now + Math.min(baseNanos * ejectionCount, maxNanos);
+        consecutiveFailures.set(0);
+        ejections.increment();
+    }
+
+    /**
+     * 액티브 헬스 체크 결과 반영
+     *
+     * @return 상태가 바뀌었으면 true
+     */
+    synchronized boolean onHealthCheck(boolean passed, int unhealthyThreshold, long now) {
+        if (passed) {
+            consecutiveHealthFailures.set(0);
+            if (!healthy) {
+                healthy = true;
+                recoveringSince = now;
+                return true;
+            }
+            if (now - ejectedUntil >= 0) {
+                // 정상 상태가 유지되면 제외 횟수 가중치를 초기화
+                ejectionCount = 0;
+            }
+            return false;
+        }
+        if (healthy && consecutiveHealthFailures.incrementAndGet() >= unhealthyThreshold) {
+            healthy = false;
+            ejections.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public double getLatencyEwmaMillis() {
+        return latencyEwmaMillis;
+    }
+
+    /**
+     * 선택 가능 여부 수치 (1 = 가능, 0 = 제외) - 메트릭용
+     */
+    public int getAvailableCode() {
+        return isAvailable(System.nanoTime()) ? 1 : 0;
+    }
+
+    public long getSuccessCalls() {
+        return successCalls.sum();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    public long getEjections() {
+        return ejections.sum();
+    }
+
+    /**
+     * 현재 상태 요약
+     */
+    public Map<String, Object> describe(long slowStartNanos) {
+        long now = System.nanoTime();
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("uri", uri.toString());
+        state.put("healthy", healthy);
+        state.put("available", isAvailable(now));
+        state.put("ejected_for_ms", Math.max(0, TimeUnit.NANOSECONDS.toMillis(ejectedUntil - now)));
+        state.put("weight", isAvailable(now) ? weight(now, slowStartNanos) : 0.0);
+        state.put("outstanding", getOutstanding());
+        state.put("latency_ewma_ms", Math.round(latencyEwmaMillis * 10) / 10.0);
+        state.put("success_calls", getSuccessCalls());
+        state.put("failed_calls", getFailedCalls());
+        state.put("ejections", getEjections());
+        return state;
+    }
+}
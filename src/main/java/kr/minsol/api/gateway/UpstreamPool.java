@@ -0,0 +1,141 @@
+package kr.minsol.api.gateway;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 한 서비스의 업스트림 인스턴스 집합과 선택 로직
+ * 인스턴스 목록은 통째로 교체되며(volatile), 목록이 바뀌어도 같은 URI 인스턴스의 상태는 유지됩니다.
+ */
+final class UpstreamPool {
+
+    private final String serviceId;
+    private volatile List<UpstreamInstance> instances = List.of();
+
+    UpstreamPool(String serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    String serviceId() {
+        return serviceId;
+    }
+
+    List<UpstreamInstance> instances() {
+        return instances;
+    }
+
+    /**
+     * 인스턴스 목록 갱신 (기존 인스턴스는 재사용, 새 URI만 factory로 생성)
+     *
+     * @param removed 목록에서 빠진 인스턴스 처리 (미터 제거 등)
+     */
+    synchronized void update(List<URI> uris, Function<URI, UpstreamInstance> factory,
+            Consumer<UpstreamInstance> removed) {
+        Map<URI, UpstreamInstance> existing = new HashMap<>();
+        for (UpstreamInstance instance : instances) {
+            existing.put(instance.getUri(), instance);
+        }
+        List<UpstreamInstance> updated = new ArrayList<>(uris.size());
+        for (URI uri : uris) {
+            UpstreamInstance instance = existing.remove(uri);
+            updated.add(instance != null ? instance : factory.apply(uri));
+        }
+        instances = List.copyOf(updated);
+        existing.values().forEach(removed);
+    }
+
+    /**
+     * 인스턴스 선택
+     * 사용 가능한 인스턴스 중 (진행 중 요청 수 + 1) / 가중치가 가장 작은 쪽을 고르며, 같으면 EWMA 응답 시간이 짧은 쪽.
+     * 모두 제외 상태면(panic) 제외 여부를 무시하고 전체에서 고릅니다.
+     *
+     * @param powerOfTwo true면 무작위 두 개만 비교(P2C), false면 전체 중 최소(least-outstanding)
+     * @return 인스턴스가 하나도 없으면 null
+     */
+    UpstreamInstance choose(boolean powerOfTwo, long slowStartNanos) {
+        List<UpstreamInstance> candidates = instances;
+        int size = candidates.size();
+        if (size <= 1) {
+            return size == 0 ? null : candidates.get(0);
+        }
+        long now = System.nanoTime();
+        int available = 0;
+        for (UpstreamInstance instance : candidates) {
+            if (instance.isAvailable(now)) {
+                available++;
+            }
+        }
+        boolean panic = available == 0;
+        int count = panic ? size : available;
+        if (count == 1) {
+            return nthCandidate(candidates, 0, panic, now);
+        }
+
+        if (powerOfTwo) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(count);
+            int second = random.nextInt(count - 1);
+            if (second >= first) {
+                second++;
+            }
+            UpstreamInstance a = nthCandidate(candidates, first, panic, now);
+            UpstreamInstance b = nthCandidate(candidates, second, panic, now);
+            return compare(a, b, now, slowStartNanos) <= 0 ? a : b;
+        }
+
+        UpstreamInstance best = null;
+        for (UpstreamInstance instance : candidates) {
+            if (panic || instance.isAvailable(now)) {
+                if (best == null || compare(instance, best, now, slowStartNanos) < 0) {
+                    best = instance;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 제외할 수 있는지 (제외 후에도 사용 가능한 인스턴스 비율이 (100 - maxEjectionPercent)% 이상 남아야 함)
+     */
+    boolean canEject(int maxEjectionPercent) {
+        List<UpstreamInstance> current = instances;
+        if (current.size() <= 1) {
+            return false;
+        }
+        long now = System.nanoTime();
+        int unavailable = 0;
+        for (UpstreamInstance instance : current) {
+            if (!instance.isAvailable(now)) {
+                unavailable++;
+            }
+        }
+        return (unavailable + 1) * 100 <= current.size() * maxEjectionPercent;
+    }
+
+    private static UpstreamInstance nthCandidate(List<UpstreamInstance> candidates, int n, boolean panic, long now) {
+        if (panic) {
+            return candidates.get(n);
+        }
+        for (UpstreamInstance instance : candidates) {
+            if (instance.isAvailable(now) && n-- == 0) {
+                return instance;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    private static int compare(UpstreamInstance a, UpstreamInstance b, long now, long slowStartNanos) {
+        double scoreA = (a.getOutstanding() + 1) / a.weight(now, slowStartNanos);
+        double scoreB = (b.getOutstanding() + 1) / b.weight(now, slowStartNanos);
+        if (scoreA != scoreB) {
+            return Double.compare(scoreA, scoreB);
+        }
+        return Double.compare(a.getLatencyEwmaMillis(), b.getLatencyEwmaMillis());
+    }
+}
@@ -0,0 +1,291 @@
+package kr.minsol.api.services.oauthservice.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인증 감사 로그 서비스
+ * 로그인/갱신/로그아웃 이벤트를 메모리 버퍼에 모았다가 Postgres COPY 프로토콜로 auth_events 테이블에 일괄 적재합니다.
+ * 요청 스레드는 큐에 넣기만 하므로 DB 왕복이 없고, 버퍼가 가득 차면 이벤트를 버리고 카운트만 증가시킵니다.
+ * COPY가 데이터 오류로 실패하면 배치를 반으로 나눠 다시 적재하고, 끝까지 실패하는 행은 로그로 남기고 버립니다(dead-letter).
+ * 연결 오류는 이벤트별 최대 횟수(max-attempts)까지만 다음 주기에 재시도합니다.
+ */
+@Service
+public class AuthAuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthAuditService.class);
+
+    private static final String CONNECTION_FAILURE_CLASS = "08";
+
+    private static final String COPY_SQL = "COPY auth_events (occurred_at, event_type, provider, user_id, success, detail) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final BlockingQueue<QueuedEvent> buffer;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "auth-audit-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration flushInterval;
+
+    private Counter recordedCounter;
+    private Counter droppedCounter;
+    private Counter flushedCounter;
+    private Counter deadLetteredCounter;
+
+    public AuthAuditService(
+            @Autowired(required = false) DataSource dataSource,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${audit.auth-events.enabled:true}") boolean enabled,
+            @Value("${audit.auth-events.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${audit.auth-events.batch-size:500}") int batchSize,
+            @Value("${audit.auth-events.max-attempts:5}") int maxAttempts,
+            @Value("${audit.auth-events.flush-interval:1s}") Duration flushInterval) {
+        this.dataSource = dataSource;
+        this.enabled = enabled && dataSource != null;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.flushInterval = flushInterval;
+        meterRegistryProvider.ifAvailable(registry -> {
+            recordedCounter = registry.counter("auth.audit.events", "result", "recorded");
+            droppedCounter = registry.counter("auth.audit.events", "result", "dropped");
+            flushedCounter = registry.counter("auth.audit.events", "result", "flushed");
+            deadLetteredCounter = registry.counter("auth.audit.events", "result", "dead_lettered");
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            System.out.println("⚠️ 인증 감사 로그가 비활성화되어 있습니다.");
+            return;
+        }
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 남은 이벤트 적재
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (enabled) {
+            flush();
+        }
+    }
+
+    public void record(AuthEventType type, String provider, String userId, boolean success, String detail) {
+        if (!enabled) {
+            return;
+        }
+        AuthEvent event = new AuthEvent(Instant.now(), type, provider, userId, success, detail);
+        if (buffer.offer(new QueuedEvent(event, 0))) {
+            increment(recordedCounter);
+            // 배치 크기에 도달하면 주기를 기다리지 않고 즉시 적재
+            if (buffer.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+                flusher.execute(() -> {
+                    flushScheduled.set(false);
+                    flush();
+                });
+            }
+        } else {
+            increment(droppedCounter);
+        }
+    }
+
+    public void recordSuccess(AuthEventType type, String provider, String userId) {
+        record(type, provider, userId, true, null);
+    }
+
+    public void recordFailure(AuthEventType type, String provider, String userId, String detail) {
+        record(type, provider, userId, false, detail);
+    }
+
+    /**
+     * 버퍼의 이벤트를 COPY로 일괄 적재
+     * 데이터 오류로 실패한 구간은 반씩 나눠 다시 적재하고, 단건까지 실패하면 dead-letter로 버립니다.
+     * 연결 오류면 아직 적재하지 못한 이벤트만 시도 횟수를 늘려 버퍼에 다시 넣습니다 (max-attempts 초과 시 버림).
+     */
+    synchronized void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<QueuedEvent> batch = new ArrayList<>(Math.min(buffer.size(), batchSize * 4));
+        buffer.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Deque<List<QueuedEvent>> pending = new ArrayDeque<>();
+        pending.push(batch);
+        try (Connection connection = dataSource.getConnection()) {
+            while (!pending.isEmpty()) {
+                List<QueuedEvent> events = pending.peek();
+                try {
+                    long rows = copy(connection, events);
+                    pending.pop();
+                    if (flushedCounter != null) {
+                        flushedCounter.increment(rows);
+                    }
+                } catch (SQLException e) {
+                    if (isConnectionFailure(e)) {
+                        throw e;
+                    }
+                    rollbackQuietly(connection);
+                    pending.pop();
+                    if (events.size() == 1) {
+                        deadLetter(events.get(0).event(), e);
+                    } else {
+                        // 오른쪽 절반을 먼저 넣어 왼쪽 절반부터 다시 적재
+                        int mid = events.size() / 2;
+                        pending.push(events.subList(mid, events.size()));
+                        pending.push(events.subList(0, mid));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            int remaining = pending.stream().mapToInt(List::size).sum();
+            logger.warn("⚠️ 인증 감사 이벤트 적재 실패 ({}건, 재시도 예정): {}", remaining, e.getMessage());
+            for (List<QueuedEvent> events : pending) {
+                requeue(events);
+            }
+        }
+    }
+
+    private static long copy(Connection connection, List<QueuedEvent> events) throws SQLException {
+        long rows;
+        try {
+            rows = connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(toCsv(events)));
+        } catch (IOException e) {
+            throw new SQLException(e.getMessage(), CONNECTION_FAILURE_CLASS, e);
+        }
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+        return rows;
+    }
+
+    /**
+     * SQLSTATE 08xxx(연결 예외) 또는 연결이 닫힌 경우 - 나눠서 다시 시도해도 소용없는 실패
+     */
+    private static boolean isConnectionFailure(SQLException e) {
+        String state = e.getSQLState();
+        return state == null || state.startsWith(CONNECTION_FAILURE_CLASS);
+    }
+
+    private static void rollbackQuietly(Connection connection) {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+        } catch (SQLException ignored) {
+            // 다음 COPY에서 연결 오류로 드러남
+        }
+    }
+
+    private void requeue(List<QueuedEvent> events) {
+        for (QueuedEvent queued : events) {
+            int attempts = queued.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                deadLetter(queued.event(), null);
+            } else if (!buffer.offer(new QueuedEvent(queued.event(), attempts))) {
+                increment(droppedCounter);
+            }
+        }
+    }
+
+    private void deadLetter(AuthEvent event, SQLException cause) {
+        increment(deadLetteredCounter);
+        logger.warn("⚠️ 인증 감사 이벤트 적재 포기: type={}, provider={}, userId={}, occurredAt={}, 원인={}",
+                event.type(), event.provider(), event.userId(), event.occurredAt(),
+                cause != null ? cause.getMessage() : "재시도 횟수 초과");
+    }
+
+    private static String toCsv(List<QueuedEvent> events) {
+        StringBuilder sb = new StringBuilder(events.size() * 96);
+        for (QueuedEvent queued : events) {
+            AuthEvent event = queued.event();
+            sb.append(event.occurredAt()).append(',')
+                    .append(event.type().name()).append(',');
+            appendCsv(sb, event.provider());
+            sb.append(',');
+            appendCsv(sb, event.userId());
+            sb.append(',').append(event.success()).append(',');
+            appendCsv(sb, event.detail());
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * CSV 필드 추가 (null은 따옴표 없는 빈 값 = NULL, 나머지는 따옴표로 감싸고 내부 따옴표는 이중화)
+     */
+    private static void appendCsv(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * 버퍼 항목 - 연결 오류로 다시 넣은 횟수를 함께 보관
+     */
+    private record QueuedEvent(AuthEvent event, int attempts) {
+    }
+}
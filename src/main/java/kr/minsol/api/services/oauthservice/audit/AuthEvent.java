@@ -0,0 +1,17 @@
+package kr.minsol.api.services.oauthservice.audit;
+
+import java.time.Instant;
+
+/**
+ * 인증 감사 이벤트 (auth_events 테이블의 한 행)
+ *
+ * @param occurredAt 발생 시각
+ * @param type       이벤트 종류
+ * @param provider   OAuth 제공자 (kakao, google, naver)
+ * @param userId     사용자 ID (실패 시 null 가능)
+ * @param success    성공 여부
+ * @param detail     부가 정보 (오류 메시지 등, null 가능)
+ */
+public record AuthEvent(Instant occurredAt, AuthEventType type, String provider, String userId,
+        boolean success, String detail) {
+}
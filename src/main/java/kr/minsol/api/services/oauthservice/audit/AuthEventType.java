@@ -0,0 +1,13 @@
+package kr.minsol.api.services.oauthservice.audit;
+
+/**
+ * 인증 감사 이벤트 종류
+ */
+public enum AuthEventType {
+    LOGIN,          // OAuth 콜백 로그인 성공
+    LOGIN_FAILURE,  // OAuth 콜백 로그인 실패
+    TOKEN_SAVE,     // 토큰 저장 (Redis/Neon)
+    REFRESH,        // 제공자 토큰 갱신
+    LOGOUT,         // JWT 토큰 삭제
+    TOKEN_DELETE    // OAuth 제공자 토큰 삭제
+}
@@ -0,0 +1,228 @@
+package kr.minsol.api.services.oauthservice.callback;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 같은 인가 코드로 들어온 중복 콜백 단일 실행 (single-flight)
+ * GET/POST 콜백이 함께 오거나 재시도되어도 (provider, code)당 토큰 교환은 한 번만 실행하고,
+ * 실행 중이거나 완료 후 retention 동안 들어온 요청은 같은 결과를 받습니다.
+ * (인가 코드는 1회용이므로 두 번째 교환은 제공자에서 항상 실패함)
+ *
+ * 기본은 노드 로컬 조정이며, redis-lock을 켜면 Redis SET NX 잠금으로 노드 간에도 한 번만 실행합니다.
+ * 잠금을 얻지 못한 노드는 실행 노드가 Redis에 남긴 결과를 기다렸다가 돌려줍니다.
+ * 제공자 보호 차단(503)은 코드가 소비되지 않았으므로 결과를 유지하지 않아 재시도가 가능합니다.
+ */
+@Component
+public class CallbackSingleFlight {
+
+    private static final String LOCK_KEY_PREFIX = "flight:lock:";
+    private static final String RESULT_KEY_PREFIX = "flight:result:";
+
+    private final Map<String, CompletableFuture<ResponseEntity<Map<String, Object>>>> flights = new ConcurrentHashMap<>();
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    private final ExecutorService executor;
+
+    private final boolean enabled;
+    private final boolean redisLock;
+    private final Duration retention;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    private Counter leaderCounter;
+    private Counter joinedCounter;
+    private Counter remoteCounter;
+
+    public CallbackSingleFlight(
+            ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
+            @Qualifier("oauthCallbackExecutor") ExecutorService executor,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${oauth.callback.single-flight.enabled:true}") boolean enabled,
+            @Value("${oauth.callback.single-flight.redis-lock:false}") boolean redisLock,
+            @Value("${oauth.callback.single-flight.retention:10s}") Duration retention,
+            @Value("${oauth.callback.single-flight.wait-timeout:15s}") Duration waitTimeout,
+            @Value("${oauth.callback.single-flight.poll-interval:100ms}") Duration pollInterval) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.redisLock = redisLock;
+        this.retention = retention;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+        meterRegistryProvider.ifAvailable(registry -> {
+            leaderCounter = registry.counter("oauth.callback.single_flight", "result", "leader");
+            joinedCounter = registry.counter("oauth.callback.single_flight", "result", "joined");
+            remoteCounter = registry.counter("oauth.callback.single_flight", "result", "remote");
+        });
+    }
+
+    /**
+     * (provider, code) 단위로 콜백 처리를 한 번만 실행하고 결과 공유
+     *
+     * @param call 실제 콜백 처리 (예외로 완료되지 않아야 함)
+     */
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> execute(String provider, String code,
+            Supplier<CompletableFuture<ResponseEntity<Map<String, Object>>>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        String key = provider + ":" + sha256(code);
+        CompletableFuture<ResponseEntity<Map<String, Object>>> created = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Map<String, Object>>> existing = flights.putIfAbsent(key, created);
+        if (existing != null) {
+            increment(joinedCounter);
+            System.out.println("[Callback] 중복 콜백 합류 - Provider: " + provider);
+            return existing;
+        }
+
+        RedisTemplate<String, Object> redisTemplate = redisLock ? redisTemplateProvider.getIfAvailable() : null;
+        CompletableFuture<ResponseEntity<Map<String, Object>>> result = redisTemplate != null
+                ? executeAcrossNodes(redisTemplate, key, call)
+                : lead(call);
+        result.whenComplete((response, throwable) -> {
+            if (throwable != null || response == null
+                    || response.getStatusCode().value() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                flights.remove(key, created);
+            } else {
+                CompletableFuture.delayedExecutor(retention.toMillis(), TimeUnit.MILLISECONDS)
+                        .execute(() -> flights.remove(key, created));
+            }
+        });
+        result.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                created.completeExceptionally(throwable);
+            } else {
+                created.complete(response);
+            }
+        });
+        return created;
+    }
+
+    private CompletableFuture<ResponseEntity<Map<String, Object>>> lead(
+            Supplier<CompletableFuture<ResponseEntity<Map<String, Object>>>> call) {
+        increment(leaderCounter);
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Redis 잠금으로 노드 간 단일 실행
+     * Redis 오류 시에는 노드 로컬 단일 실행으로 동작합니다.
+     */
+    private CompletableFuture<ResponseEntity<Map<String, Object>>> executeAcrossNodes(
+            RedisTemplate<String, Object> redisTemplate, String key,
+            Supplier<CompletableFuture<ResponseEntity<Map<String, Object>>>> call) {
+        String lockKey = LOCK_KEY_PREFIX + key;
+        String resultKey = RESULT_KEY_PREFIX + key;
+        boolean acquired;
+        try {
+            // 다른 노드에서 이미 끝난 콜백이면 결과만 반환
+            ResponseEntity<Map<String, Object>> finished = toResponse(redisTemplate.opsForValue().get(resultKey));
+            if (finished != null) {
+                increment(remoteCounter);
+                return CompletableFuture.completedFuture(finished);
+            }
+            acquired = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", waitTimeout));
+        } catch (Exception e) {
+            System.err.println("⚠️ Redis 콜백 잠금 실패 (로컬 단일 실행으로 진행): " + e.getMessage());
+            return lead(call);
+        }
+
+        if (acquired) {
+            return lead(call).whenComplete((response, throwable) -> {
+                try {
+                    if (response != null && response.getStatusCode().value() != HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                        Map<String, Object> stored = new HashMap<>();
+                        stored.put("status", response.getStatusCode().value());
+                        stored.put("body", response.getBody());
+                        redisTemplate.opsForValue().set(resultKey, stored, retention);
+                    }
+                    // 결과를 먼저 남긴 뒤 잠금 해제 (재시도 가능한 실패는 결과 없이 해제)
+                    redisTemplate.delete(lockKey);
+                } catch (Exception e) {
+                    System.err.println("⚠️ Redis 콜백 결과 저장 실패 (계속 진행): " + e.getMessage());
+                }
+            });
+        }
+        return CompletableFuture.supplyAsync(() -> awaitRemoteResult(redisTemplate, lockKey, resultKey), executor)
+                .thenCompose(remote -> remote != null ? CompletableFuture.completedFuture(remote) : lead(call));
+    }
+
+    /**
+     * 다른 노드의 실행 결과 대기
+     *
+     * @return 결과, 잠금이 풀렸는데 결과가 없거나 대기 시간을 넘으면 null (직접 실행)
+     */
+    private ResponseEntity<Map<String, Object>> awaitRemoteResult(RedisTemplate<String, Object> redisTemplate,
+            String lockKey, String resultKey) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                ResponseEntity<Map<String, Object>> remote = toResponse(redisTemplate.opsForValue().get(resultKey));
+                if (remote != null) {
+                    increment(remoteCounter);
+                    System.out.println("[Callback] 다른 노드의 콜백 결과 사용");
+                    return remote;
+                }
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                    return null;
+                }
+                Thread.sleep(pollInterval.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.err.println("⚠️ Redis 콜백 결과 조회 실패 (직접 처리): " + e.getMessage());
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResponseEntity<Map<String, Object>> toResponse(Object stored) {
+        if (stored instanceof Map<?, ?> map && map.get("status") instanceof Number status) {
+            return ResponseEntity.status(status.intValue()).body((Map<String, Object>) map.get("body"));
+        }
+        return null;
+    }
+
+    /**
+     * 인가 코드는 해시로만 키에 사용 (Redis/메모리에 원문을 남기지 않음)
+     */
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
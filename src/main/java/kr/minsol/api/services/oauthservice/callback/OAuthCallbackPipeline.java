@@ -0,0 +1,318 @@
+package kr.minsol.api.services.oauthservice.callback;
+
+import kr.minsol.api.services.oauthservice.audit.AuthAuditService;
+import kr.minsol.api.services.oauthservice.audit.AuthEventType;
+import kr.minsol.api.services.oauthservice.client.OAuthTokenResponse;
+import kr.minsol.api.services.oauthservice.jwt.JwtTokenProvider;
+import kr.minsol.api.services.oauthservice.provider.OAuthProvider;
+import kr.minsol.api.services.oauthservice.provider.ProviderConfigSnapshot;
+import kr.minsol.api.services.oauthservice.provider.ProviderCredentials;
+import kr.minsol.api.services.oauthservice.provider.ProviderDescriptor;
+import kr.minsol.api.services.oauthservice.resilience.ProviderGuard;
+import kr.minsol.api.services.oauthservice.resilience.ProviderGuards;
+import kr.minsol.api.services.oauthservice.resilience.ProviderUnavailableException;
+import kr.minsol.api.services.oauthservice.token.TokenService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * OAuth 콜백 비동기 처리 파이프라인
+ * 제공자 HTTPS 호출과 토큰 저장을 서블릿 스레드가 아닌 oauthCallbackExecutor에서 실행하고,
+ * 컨트롤러는 CompletableFuture를 반환하여 Tomcat 스레드를 즉시 반환합니다.
+ *
+ * 단계: 토큰 교환 → 사용자 정보 조회 → JWT 생성 → (토큰 저장 ∥ 리다이렉트 URL 생성)
+ * 각 단계는 개별 타임아웃을 가집니다.
+ * 제공자 호출 단계는 제공자별 ProviderGuard(벌크헤드 + 서킷 브레이커)를 거치며,
+ * 거부되면 즉시 503과 프론트엔드 리다이렉트 URL로 응답합니다.
+ */
+@Component
+public class OAuthCallbackPipeline {
+
+    private record LoginTokens(String userId, String oauthAccessToken, String oauthRefreshToken,
+            long oauthExpiresIn, String jwtAccessToken, String jwtRefreshToken) {
+    }
+
+    /**
+     * 서버가 발급하지 않았거나 이미 사용된 state (400 응답)
+     */
+    private static final class InvalidStateException extends IllegalStateException {
+        InvalidStateException(String message) {
+            super(message);
+        }
+    }
+
+    private static final long JWT_ACCESS_EXPIRE_TIME = 3600; // 1시간 (초)
+    private static final long JWT_REFRESH_EXPIRE_TIME = 2592000; // 30일 (초)
+
+    private final TokenService tokenService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AuthAuditService authAuditService;
+    private final ProviderGuards providerGuards;
+    private final CallbackSingleFlight singleFlight;
+    private final ExecutorService executor;
+
+    @Value("${oauth.callback.token-exchange-timeout:5s}")
+    private Duration tokenExchangeTimeout;
+
+    @Value("${oauth.callback.user-info-timeout:5s}")
+    private Duration userInfoTimeout;
+
+    @Value("${oauth.callback.persist-timeout:3s}")
+    private Duration persistTimeout;
+
+    // true면 /auth-url에서 발급한 state가 아닌 콜백을 거부 (false면 소비만 하고 통과)
+    @Value("${oauth.state.enforce:false}")
+    private boolean stateEnforced;
+
+    public OAuthCallbackPipeline(
+            TokenService tokenService,
+            JwtTokenProvider jwtTokenProvider,
+            AuthAuditService authAuditService,
+            ProviderGuards providerGuards,
+            CallbackSingleFlight singleFlight,
+            @Qualifier("oauthCallbackExecutor") ExecutorService executor) {
+        this.tokenService = tokenService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.authAuditService = authAuditService;
+        this.providerGuards = providerGuards;
+        this.singleFlight = singleFlight;
+        this.executor = executor;
+    }
+
+    /**
+     * 콜백 처리
+     * 성공/실패 모두 redirectUrl을 포함한 응답으로 완료되며, 예외로 완료되지 않습니다.
+     * 같은 인가 코드의 중복 콜백은 CallbackSingleFlight로 한 번만 처리하고 결과를 공유합니다.
+     */
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> process(
+            ProviderConfigSnapshot.ProviderRuntime runtime, String code, String state, String error,
+            String errorDescription, String frontendUrl) {
+        if (error != null || code == null) {
+            return process(runtime.provider(), runtime.credentials(), code, state, error, errorDescription,
+                    frontendUrl);
+        }
+        return singleFlight.execute(runtime.descriptor().id(), code,
+                () -> process(runtime.provider(), runtime.credentials(), code, state, null, errorDescription,
+                        frontendUrl));
+    }
+
+    private <U> CompletableFuture<ResponseEntity<Map<String, Object>>> process(
+            OAuthProvider<U> provider, ProviderCredentials credentials, String code, String state, String error,
+            String errorDescription, String frontendUrl) {
+
+        ProviderDescriptor descriptor = provider.descriptor();
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (error != null) {
+            // 에러 발생 - URL에 에러 파라미터 포함하지 않음
+            response.put("success", false);
+            response.put("error", error);
+            response.put("error_description", errorDescription);
+            response.put("redirectUrl", frontendUrl);
+            System.err.println("[" + descriptor.label() + " Callback] OAuth 에러 발생: " + error);
+            authAuditService.recordFailure(AuthEventType.LOGIN_FAILURE, descriptor.id(), null, error);
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response));
+        }
+
+        if (code == null) {
+            // 인증 코드가 없는 경우 - URL에 에러 파라미터 포함하지 않음
+            response.put("success", false);
+            response.put("message", "인증 코드가 없습니다.");
+            response.put("redirectUrl", frontendUrl);
+            System.err.println("[" + descriptor.label() + " Callback] 인증 코드가 없습니다.");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response));
+        }
+
+        ProviderGuard guard = providerGuards.get(descriptor.id());
+        return stage("토큰 교환", () -> {
+            checkState(descriptor, state);
+            OAuthTokenResponse tokenResponse = guard.execute("토큰 교환",
+                    () -> provider.getAccessToken(credentials, code, state));
+            if (tokenResponse != null && tokenResponse.accessToken() != null) {
+                consumeState(descriptor, state);
+            }
+            return tokenResponse;
+        }, tokenExchangeTimeout)
+                .thenCompose(tokenResponse -> {
+                    String accessToken = tokenResponse != null ? tokenResponse.accessToken() : null;
+                    if (accessToken == null) {
+                        String reason = tokenResponse != null && tokenResponse.error() != null
+                                ? " (" + tokenResponse.error() + ")"
+                                : "";
+                        throw new IllegalStateException(descriptor.displayName() + " Access Token을 받을 수 없습니다." + reason);
+                    }
+                    return stage("사용자 정보 조회",
+                            () -> resolveUserInfo(provider, credentials, guard, tokenResponse, accessToken), userInfoTimeout)
+                            .thenApply(extractedUserInfo -> mintTokens(descriptor, tokenResponse, accessToken,
+                                    extractedUserInfo));
+                })
+                .thenCompose(tokens -> {
+                    // 토큰 저장과 리다이렉트 URL 생성을 겹쳐서 수행
+                    CompletableFuture<Void> persisted = persist(descriptor.id(), tokens);
+                    String redirectUrl = buildRedirectUrl(frontendUrl, descriptor.id(), tokens);
+                    // 리다이렉트 URL에는 JWT가 포함되므로 쿼리 없이 경로만 출력
+                    System.out.println("JWT 토큰 생성 완료, 프론트엔드로 리다이렉트: " + frontendUrl + "/dashboard/"
+                            + descriptor.id() + " (사용자: " + tokens.userId() + ")");
+
+                    return persisted.thenApply(ignored -> {
+                        authAuditService.recordSuccess(AuthEventType.LOGIN, descriptor.id(), tokens.userId());
+                        response.put("success", true);
+                        response.put("message", descriptor.displayName() + " 로그인 성공");
+                        response.put("token", tokens.jwtAccessToken());
+                        response.put("refresh_token", tokens.jwtRefreshToken());
+                        response.put("redirectUrl", redirectUrl);
+                        return ResponseEntity.status(HttpStatus.OK).body(response);
+                    });
+                })
+                .exceptionally(throwable -> {
+                    Throwable cause = unwrap(throwable);
+                    System.err.println("[" + descriptor.label() + " Callback] " + descriptor.displayName()
+                            + " 인증 처리 중 오류 발생: " + cause.getMessage());
+                    authAuditService.recordFailure(AuthEventType.LOGIN_FAILURE, descriptor.id(), null,
+                            cause.getMessage());
+
+                    // 에러 발생 시 - URL에 에러 파라미터 포함하지 않음
+                    response.put("success", false);
+                    response.put("message", cause.getMessage());
+                    response.put("redirectUrl", frontendUrl);
+                    if (cause instanceof InvalidStateException) {
+                        response.put("error", "잘못된 로그인 요청입니다. 다시 시도해 주세요.");
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+                    }
+                    if (cause instanceof ProviderUnavailableException) {
+                        // 제공자 보호 차단 - 대기 없이 즉시 실패
+                        response.put("error", descriptor.displayName() + " 로그인을 일시적으로 사용할 수 없습니다.");
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+                    }
+                    response.put("error", "인증 처리 중 오류가 발생했습니다.");
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+                });
+    }
+
+    /**
+     * 토큰 교환 전 state 확인 (소비하지 않음)
+     * 503(벌크헤드/서킷)·시간 초과·교환 실패로 끝난 콜백을 사용자가 다시 시도할 수 있도록
+     * state는 토큰 교환이 성공한 뒤에만 소비합니다.
+     */
+    private void checkState(ProviderDescriptor descriptor, String state) {
+        if (stateEnforced && !tokenService.isOAuthStateValid(descriptor.id(), state)) {
+            throw new InvalidStateException(descriptor.displayName() + " state가 유효하지 않거나 이미 사용되었습니다.");
+        }
+    }
+
+    /**
+     * 토큰 교환 성공 후 state 1회 소비 (재사용된 state는 원자적 소비로 한 요청만 통과)
+     * 중복 콜백은 CallbackSingleFlight가 먼저 합치므로 같은 콜백이 state를 두 번 소비하지 않습니다.
+     */
+    private void consumeState(ProviderDescriptor descriptor, String state) {
+        boolean consumed = tokenService.consumeOAuthState(descriptor.id(), state);
+        if (!consumed && stateEnforced) {
+            throw new InvalidStateException(descriptor.displayName() + " state가 유효하지 않거나 이미 사용되었습니다.");
+        }
+    }
+
+    /**
+     * 사용자 정보 조회
+     * OIDC 모드이고 토큰 응답에 id_token이 있으면 로컬 검증으로 대신하고 (userinfo 호출 생략),
+     * 검증에 실패하면 기존 userinfo 호출로 폴백합니다.
+     */
+    private <U> Map<String, Object> resolveUserInfo(OAuthProvider<U> provider, ProviderCredentials credentials,
+            ProviderGuard guard, OAuthTokenResponse tokenResponse, String accessToken) {
+        String idToken = tokenResponse.idToken();
+        if (idToken != null && provider.isOidcEnabled()) {
+            try {
+                return provider.extractUserInfoFromIdToken(credentials, idToken);
+            } catch (RuntimeException e) {
+                System.err.println("⚠️ [" + provider.descriptor().label() + " Callback] id_token 검증 실패, userinfo로 폴백: "
+                        + e.getMessage());
+            }
+        }
+        return provider.extractUserInfo(
+                guard.execute("사용자 정보 조회", () -> provider.getUserInfo(accessToken)));
+    }
+
+    private LoginTokens mintTokens(ProviderDescriptor descriptor, OAuthTokenResponse tokenResponse, String accessToken,
+            Map<String, Object> extractedUserInfo) {
+        Object userIdObj = extractedUserInfo.get(descriptor.userIdKey());
+        if (userIdObj == null || userIdObj.toString().isEmpty()) {
+            throw new IllegalStateException(descriptor.displayName() + " 사용자 ID를 찾을 수 없습니다.");
+        }
+        String userId = userIdObj.toString();
+
+        // JWT 토큰 생성 (자체 JWT)
+        String jwtAccessToken = jwtTokenProvider.generateAccessToken(userId, descriptor.id(), extractedUserInfo);
+        String jwtRefreshToken = jwtTokenProvider.generateRefreshToken(userId, descriptor.id());
+
+        Long expiresIn = tokenResponse.expiresIn(); // 초 단위
+        long oauthExpiresIn = expiresIn != null ? expiresIn : descriptor.defaultExpiresIn();
+
+        return new LoginTokens(userId, accessToken, tokenResponse.refreshToken(),
+                oauthExpiresIn, jwtAccessToken, jwtRefreshToken);
+    }
+
+    /**
+     * 모든 토큰을 Redis와 Neon에 저장
+     * 저장 실패/시간 초과는 기존과 같이 로그인 실패로 처리하지 않습니다.
+     */
+    private CompletableFuture<Void> persist(String provider, LoginTokens tokens) {
+        return CompletableFuture.runAsync(() -> tokenService.saveAllTokens(
+                provider, tokens.userId(),
+                tokens.oauthAccessToken(), tokens.oauthRefreshToken(),
+                tokens.jwtAccessToken(), tokens.jwtRefreshToken(),
+                tokens.oauthExpiresIn(), JWT_ACCESS_EXPIRE_TIME, JWT_REFRESH_EXPIRE_TIME), executor)
+                .orTimeout(persistTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> {
+                    System.err.println("⚠️ 토큰 저장 지연/실패 (계속 진행): " + unwrap(throwable));
+                    return null;
+                });
+    }
+
+    private static String buildRedirectUrl(String frontendUrl, String provider, LoginTokens tokens) {
+        String redirectUrl = frontendUrl + "/dashboard/" + provider + "?token="
+                + URLEncoder.encode(tokens.jwtAccessToken(), StandardCharsets.UTF_8);
+        if (tokens.jwtRefreshToken() != null) {
+            redirectUrl += "&refresh_token=" + URLEncoder.encode(tokens.jwtRefreshToken(), StandardCharsets.UTF_8);
+        }
+        return redirectUrl;
+    }
+
+    /**
+     * 단계 실행 (개별 타임아웃, 시간 초과 시 단계 이름이 포함된 오류)
+     */
+    private <T> CompletableFuture<T> stage(String name, Supplier<T> supplier, Duration timeout) {
+        return CompletableFuture.supplyAsync(supplier, executor)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(throwable -> {
+                    Throwable cause = unwrap(throwable);
+                    if (cause instanceof TimeoutException) {
+                        return CompletableFuture.failedFuture(
+                                new IllegalStateException(name + " 시간 초과 (" + timeout.toMillis() + "ms)"));
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,22 @@
+package kr.minsol.api.services.oauthservice.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * OAuth2 토큰 엔드포인트 응답 (카카오/구글/네이버 공통 필드)
+ * 네이버는 실패 시에도 200 응답에 error/error_description을 담아 반환합니다.
+ *
+ * @param expiresIn 초 단위 (네이버는 문자열로 내려오지만 숫자로 변환됨)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OAuthTokenResponse(
+        String accessToken,
+        String tokenType,
+        String refreshToken,
+        Long expiresIn,
+        Long refreshTokenExpiresIn,
+        String idToken,
+        String scope,
+        String error,
+        String errorDescription) {
+}
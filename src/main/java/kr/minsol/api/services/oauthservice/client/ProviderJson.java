@@ -0,0 +1,39 @@
+package kr.minsol.api.services.oauthservice.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.springframework.web.client.ResponseExtractor;
+
+/**
+ * 제공자 응답 JSON 역직렬화
+ * 응답 스트림을 Map으로 만들지 않고 타입별로 미리 만들어 둔 ObjectReader로 바로 레코드에 바인딩합니다.
+ * - snake_case 필드명 ↔ camelCase 레코드 컴포넌트
+ * - 알 수 없는 필드는 무시 (제공자 응답 필드 추가에 영향받지 않음)
+ *   응답 레코드에는 @JsonIgnoreProperties(ignoreUnknown = true)를 붙여 역직렬화기가 바로 건너뛰도록 합니다.
+ */
+public final class ProviderJson {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private ProviderJson() {
+    }
+
+    /**
+     * 타입 전용 ObjectReader (스레드 안전, 재사용)
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return MAPPER.readerFor(type);
+    }
+
+    /**
+     * RestTemplate.execute용 응답 추출기 - 응답 본문 스트림에서 바로 파싱
+     */
+    public static <T> ResponseExtractor<T> extractor(Class<T> type) {
+        ObjectReader reader = reader(type);
+        return response -> reader.readValue(response.getBody());
+    }
+}
@@ -0,0 +1,21 @@
+package kr.minsol.api.services.oauthservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * OAuth 콜백 비동기 처리용 Executor 설정
+ * 제공자 HTTPS 호출, Redis/Neon 저장처럼 대기 시간이 대부분인 작업을 가상 스레드에서 실행하여
+ * Tomcat 요청 스레드 수와 무관하게 동시 콜백을 처리합니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService oauthCallbackExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("oauth-callback-", 0).factory());
+    }
+}
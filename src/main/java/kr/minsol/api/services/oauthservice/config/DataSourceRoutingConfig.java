@@ -0,0 +1,115 @@
+package kr.minsol.api.services.oauthservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary / Replica DataSource 라우팅 설정
+ * spring.datasource.replica.enabled=true 일 때만 활성화됩니다.
+ * 비활성화 시에는 Spring Boot 기본 단일 Hikari 풀이 그대로 사용됩니다.
+ *
+ * 두 풀은 각각 "primary", "replica" 풀 이름으로 hikaricp.* 메트릭에 노출됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true", matchIfMissing = false)
+public class DataSourceRoutingConfig {
+
+    @Value("${spring.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${spring.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${spring.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${spring.datasource.replica.max-lag:5s}")
+    private Duration maxLag;
+
+    @Value("${spring.datasource.replica.lag-check-interval:2s}")
+    private Duration lagCheckInterval;
+
+    /**
+     * 쓰기용 Primary 풀 (spring.datasource.* / spring.datasource.hikari.* 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    /**
+     * 읽기 전용 Replica 풀 (spring.datasource.replica.hikari.* 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, maxLag, lagCheckInterval);
+        meterRegistryProvider.ifAvailable(registry -> {
+            Gauge.builder("datasource.replica.lag", monitor, ReplicaLagMonitor::getLastLagSeconds)
+                    .baseUnit("seconds")
+                    .description("Replica replay 지연 (측정 실패 시 -1)")
+                    .register(registry);
+            Gauge.builder("datasource.replica.routable", monitor, m -> m.isReplicaUsable() ? 1 : 0)
+                    .description("읽기 트랜잭션이 Replica로 라우팅되는지 여부")
+                    .register(registry);
+        });
+        System.out.println("✅ Replica 라우팅 활성화 - 허용 지연: " + maxLag.toSeconds() + "초");
+        return monitor;
+    }
+
+    /**
+     * JPA / JdbcTemplate이 사용하는 기본 DataSource
+     * 트랜잭션의 readOnly 여부가 확정된 뒤 실제 커넥션을 고르도록 지연 프록시로 감쌉니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
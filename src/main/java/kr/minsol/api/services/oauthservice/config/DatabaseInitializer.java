@@ -1,21 +1,47 @@
 package kr.minsol.api.services.oauthservice.config;
 
 import jakarta.annotation.PostConstruct;
+import kr.minsol.api.services.oauthservice.config.SchemaMigrations.Migration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 데이터베이스 초기화 컴포넌트
- * 애플리케이션 시작 시 oauth_tokens 테이블이 없으면 자동으로 생성합니다.
+ * 애플리케이션 시작 시 schema_version 테이블의 최신 버전 한 건만 PK로 조회하고,
+ * 버전이나 체크섬이 다를 때에만 SchemaMigrations의 DDL을 적용합니다.
+ * (매 부팅마다 information_schema 카탈로그를 조회하지 않음)
  */
 @Component
 public class DatabaseInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(DatabaseInitializer.class);
 
+    // 여러 노드가 동시에 부팅해도 마이그레이션이 한 번만 적용되도록 하는 advisory lock 키
+    private static final long MIGRATION_LOCK_KEY = 0x6d696e736f6c01L;
+
+    private static final String CREATE_SCHEMA_VERSION_SQL = """
+            CREATE TABLE IF NOT EXISTS schema_version (
+                version INTEGER PRIMARY KEY,
+                description VARCHAR(200) NOT NULL,
+                checksum VARCHAR(64) NOT NULL,
+                applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+            )
+            """;
+
     @Autowired(required = false)
     private JdbcTemplate jdbcTemplate;
 
@@ -27,84 +53,80 @@ public class DatabaseInitializer {
         }
 
         try {
-            // oauth_tokens 테이블 존재 여부 확인
-            String checkTableSql = """
-                SELECT EXISTS (
-                    SELECT FROM information_schema.tables 
-                    WHERE table_schema = 'public' 
-                    AND table_name = 'oauth_tokens'
-                );
-                """;
-
-            Boolean tableExists = jdbcTemplate.queryForObject(checkTableSql, Boolean.class);
-
-            if (Boolean.FALSE.equals(tableExists)) {
-                logger.info("oauth_tokens 테이블이 없습니다. 테이블을 생성합니다...");
-                createOAuthTokensTable();
-                logger.info("✅ oauth_tokens 테이블 생성 완료");
-            } else {
-                logger.info("✅ oauth_tokens 테이블이 이미 존재합니다.");
+            Migration latest = SchemaMigrations.latest();
+            if (isUpToDate(latest)) {
+                logger.info("✅ 스키마 버전 {} 최신 상태입니다.", latest.version());
+                return;
             }
+
+            logger.info("스키마 버전 {} 적용이 필요합니다. 마이그레이션을 실행합니다...", latest.version());
+            jdbcTemplate.execute((ConnectionCallback<Void>) this::migrate);
+            logger.info("✅ 스키마 마이그레이션 완료 (버전 {})", latest.version());
         } catch (Exception e) {
             logger.error("⚠️ 데이터베이스 초기화 중 오류 발생: " + e.getMessage(), e);
             // 오류가 발생해도 애플리케이션은 계속 실행되도록 함
         }
     }
 
-    private void createOAuthTokensTable() {
-        String createTableSql = """
-            CREATE TABLE IF NOT EXISTS oauth_tokens (
-                id BIGSERIAL PRIMARY KEY,
-                provider VARCHAR(50) NOT NULL,
-                user_id VARCHAR(255) NOT NULL,
-                oauth_access_token TEXT NOT NULL,
-                oauth_refresh_token TEXT,
-                jwt_access_token TEXT NOT NULL,
-                jwt_refresh_token TEXT NOT NULL,
-                expires_at TIMESTAMP NOT NULL,
-                jwt_access_token_expires_at TIMESTAMP NOT NULL,
-                jwt_refresh_token_expires_at TIMESTAMP NOT NULL,
-                created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-                updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-                CONSTRAINT uq_provider_user UNIQUE (provider, user_id)
-            );
-            """;
-
-        String createIndex1Sql = """
-            CREATE INDEX IF NOT EXISTS idx_provider_user ON oauth_tokens(provider, user_id);
-            """;
+    /**
+     * 최신 버전 행 하나만 PK로 조회
+     * schema_version 테이블이 아직 없으면 false
+     */
+    private boolean isUpToDate(Migration latest) {
+        try {
+            List<String> checksums = jdbcTemplate.queryForList(
+                    "SELECT checksum FROM schema_version WHERE version = ?", String.class, latest.version());
+            return !checksums.isEmpty() && latest.checksum().equals(checksums.get(0));
+        } catch (BadSqlGrammarException e) {
+            return false;
+        }
+    }
 
-        String createIndex2Sql = """
-            CREATE INDEX IF NOT EXISTS idx_expires_at ON oauth_tokens(expires_at);
-            """;
+    private Void migrate(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_xact_lock(" + MIGRATION_LOCK_KEY + ")");
+            statement.execute(CREATE_SCHEMA_VERSION_SQL);
 
-        String createTriggerFunctionSql = """
-            CREATE OR REPLACE FUNCTION update_updated_at_column()
-            RETURNS TRIGGER AS $$
-            BEGIN
-                NEW.updated_at = CURRENT_TIMESTAMP;
-                RETURN NEW;
-            END;
-            $$ language 'plpgsql';
-            """;
+            Map<Integer, String> applied = new HashMap<>();
+            try (ResultSet rs = statement.executeQuery("SELECT version, checksum FROM schema_version")) {
+                while (rs.next()) {
+                    applied.put(rs.getInt(1), rs.getString(2));
+                }
+            }
 
-        String createTriggerSql = """
-            DROP TRIGGER IF EXISTS update_oauth_tokens_updated_at ON oauth_tokens;
-            CREATE TRIGGER update_oauth_tokens_updated_at
-                BEFORE UPDATE ON oauth_tokens
-                FOR EACH ROW
-                EXECUTE FUNCTION update_updated_at_column();
-            """;
+            for (Migration migration : SchemaMigrations.MIGRATIONS) {
+                String checksum = migration.checksum();
+                String appliedChecksum = applied.get(migration.version());
+                if (appliedChecksum != null) {
+                    if (!appliedChecksum.equals(checksum)) {
+                        logger.warn("⚠️ 스키마 버전 {} 체크섬 불일치 (적용됨: {}, 현재: {}). 재적용하지 않습니다.",
+                                migration.version(), appliedChecksum, checksum);
+                    }
+                    continue;
+                }
 
-        try {
-            jdbcTemplate.execute(createTableSql);
-            jdbcTemplate.execute(createIndex1Sql);
-            jdbcTemplate.execute(createIndex2Sql);
-            jdbcTemplate.execute(createTriggerFunctionSql);
-            jdbcTemplate.execute(createTriggerSql);
-        } catch (Exception e) {
+                logger.info("스키마 버전 {} 적용: {}", migration.version(), migration.description());
+                for (String sql : migration.statements()) {
+                    statement.execute(sql);
+                }
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO schema_version (version, description, checksum) VALUES (?, ?, ?)")) {
+                    insert.setInt(1, migration.version());
+                    insert.setString(2, migration.description());
+                    insert.setString(3, checksum);
+                    insert.executeUpdate();
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
             logger.error("테이블 생성 중 오류: " + e.getMessage(), e);
             throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
         }
+        return null;
     }
 }
@@ -0,0 +1,31 @@
+package kr.minsol.api.services.oauthservice.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 Replica로, 나머지는 Primary로 보냅니다.
+ * Replica 지연이 허용치를 넘으면 읽기 트랜잭션도 Primary로 폴백합니다.
+ *
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 가져오도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaUsable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,94 @@
+package kr.minsol.api.services.oauthservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 전용 복제본(Replica) 지연 감시기
+ * 주기적으로 복제본의 replay 지연을 측정하고, 허용 지연을 넘거나 측정에 실패하면
+ * 읽기 요청이 Primary로 폴백되도록 상태를 갱신합니다.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // 복제 중이 아니거나 WAL을 모두 재생한 경우 지연 0으로 간주
+    private static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)
+            END
+            """;
+
+    private final DataSource replicaDataSource;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean replicaUsable = false;
+    private volatile double lastLagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 복제본 지연 측정
+     * 측정 실패 시 복제본을 사용하지 않도록 표시합니다.
+     */
+    void check() {
+        try (Connection connection = replicaDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(Math.max(1, (int) checkInterval.toSeconds()));
+            try (ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                double lag = rs.next() ? rs.getDouble(1) : Double.MAX_VALUE;
+                boolean usable = lag <= maxLag.toMillis() / 1000.0;
+                if (usable != replicaUsable) {
+                    logger.info("Replica 라우팅 상태 변경: {} (지연 {}초, 허용 {}초)",
+                            usable ? "사용" : "Primary 폴백", lag, maxLag.toSeconds());
+                }
+                lastLagSeconds = lag;
+                replicaUsable = usable;
+            }
+        } catch (Exception e) {
+            if (replicaUsable) {
+                logger.warn("⚠️ Replica 지연 측정 실패, Primary로 폴백합니다: {}", e.getMessage());
+            }
+            lastLagSeconds = -1;
+            replicaUsable = false;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+}
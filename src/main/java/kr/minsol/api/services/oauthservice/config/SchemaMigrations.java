@@ -0,0 +1,111 @@
+package kr.minsol.api.services.oauthservice.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 버전별 스키마 마이그레이션 목록
+ * 새 스키마 변경은 기존 항목을 수정하지 말고 다음 버전을 추가하세요.
+ * (적용된 버전의 SQL이 바뀌면 체크섬 불일치로 경고가 출력됩니다)
+ */
+public final class SchemaMigrations {
+
+    /**
+     * 단일 마이그레이션
+     *
+     * @param version     버전 번호 (1부터 증가)
+     * @param description 설명
+     * @param statements  순서대로 실행할 SQL 문
+     */
+    public record Migration(int version, String description, List<String> statements) {
+
+        /**
+         * SQL 문 전체에 대한 SHA-256 체크섬
+         */
+        public String checksum() {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (String statement : statements) {
+                    digest.update(statement.strip().getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                }
+                return HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+
+    public static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "oauth_tokens 테이블, 인덱스, updated_at 트리거", List.of(
+                    """
+                    CREATE TABLE IF NOT EXISTS oauth_tokens (
+                        id BIGSERIAL PRIMARY KEY,
+                        provider VARCHAR(50) NOT NULL,
+                        user_id VARCHAR(255) NOT NULL,
+                        oauth_access_token TEXT NOT NULL,
+                        oauth_refresh_token TEXT,
+                        jwt_access_token TEXT NOT NULL,
+                        jwt_refresh_token TEXT NOT NULL,
+                        expires_at TIMESTAMP NOT NULL,
+                        jwt_access_token_expires_at TIMESTAMP NOT NULL,
+                        jwt_refresh_token_expires_at TIMESTAMP NOT NULL,
+                        created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                        updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                        CONSTRAINT uq_provider_user UNIQUE (provider, user_id)
+                    )
+                    """,
+                    "CREATE INDEX IF NOT EXISTS idx_provider_user ON oauth_tokens(provider, user_id)",
+                    "CREATE INDEX IF NOT EXISTS idx_expires_at ON oauth_tokens(expires_at)",
+                    """
+                    CREATE OR REPLACE FUNCTION update_updated_at_column()
+                    RETURNS TRIGGER AS $$
+                    BEGIN
+                        NEW.updated_at = CURRENT_TIMESTAMP;
+                        RETURN NEW;
+                    END;
+                    $$ language 'plpgsql'
+                    """,
+                    "DROP TRIGGER IF EXISTS update_oauth_tokens_updated_at ON oauth_tokens",
+                    """
+                    CREATE TRIGGER update_oauth_tokens_updated_at
+                        BEFORE UPDATE ON oauth_tokens
+                        FOR EACH ROW
+                        EXECUTE FUNCTION update_updated_at_column()
+                    """)),
+            new Migration(2, "auth_events 감사 로그 테이블 (append-only, COPY 적재)", List.of(
+                    """
+                    CREATE TABLE IF NOT EXISTS auth_events (
+                        id BIGSERIAL PRIMARY KEY,
+                        occurred_at TIMESTAMPTZ NOT NULL,
+                        event_type VARCHAR(20) NOT NULL,
+                        provider VARCHAR(50) NOT NULL,
+                        user_id VARCHAR(255),
+                        success BOOLEAN NOT NULL,
+                        detail TEXT
+                    )
+                    """,
+                    // 시간순 append-only 테이블이므로 B-tree 대신 작은 BRIN 인덱스 사용
+                    "CREATE INDEX IF NOT EXISTS idx_auth_events_occurred_at ON auth_events USING BRIN (occurred_at)")),
+            new Migration(3, "세션 목록 keyset 페이지네이션 인덱스", List.of(
+                    "CREATE INDEX IF NOT EXISTS idx_oauth_tokens_provider_id ON oauth_tokens(provider, id)",
+                    "CREATE INDEX IF NOT EXISTS idx_oauth_tokens_expires_id ON oauth_tokens(expires_at, id)")),
+            new Migration(4, "노드 간 단독 실행 작업 lease 테이블", List.of(
+                    """
+                    CREATE TABLE IF NOT EXISTS scheduler_leases (
+                        name VARCHAR(100) PRIMARY KEY,
+                        owner VARCHAR(100) NOT NULL,
+                        expires_at TIMESTAMPTZ NOT NULL
+                    )
+                    """)));
+
+    public static Migration latest() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1);
+    }
+
+    private SchemaMigrations() {
+    }
+}
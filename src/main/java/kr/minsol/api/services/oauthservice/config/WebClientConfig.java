@@ -1,14 +1,94 @@
 package kr.minsol.api.services.oauthservice.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * OAuth 제공자 호출용 공유 HTTP 클라이언트 설정
+ * JDK HttpClient 하나를 모든 제공자 서비스가 공유하여
+ * 호스트별 keep-alive 커넥션 풀, TLS 세션 재사용, HTTP/2(지원 시)를 사용합니다.
+ * (기본 SimpleClientHttpRequestFactory는 요청마다 새 커넥션과 TLS 핸드셰이크를 수행하고 타임아웃이 없음)
+ */
 @Configuration
 public class WebClientConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(WebClientConfig.class);
+
+    // 시작 시 미리 연결해 둘 제공자 호스트 (토큰 교환 + 사용자 정보 API)
+    private static final List<String> PROVIDER_HOSTS = List.of(
+            "https://kauth.kakao.com",
+            "https://kapi.kakao.com",
+            "https://oauth2.googleapis.com",
+            "https://www.googleapis.com",
+            "https://nid.naver.com",
+            "https://openapi.naver.com");
+
+    @Value("${oauth.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${oauth.http.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${oauth.http.warm-up:true}")
+    private boolean warmUp;
+
+    /**
+     * 유휴 커넥션 유지 시간(JDK 기본 30초)은 JVM 전역 설정이라 실행 인자로 지정합니다.
+     * (-Djdk.httpclient.keepalive.timeout, -Djdk.httpclient.keepalive.timeout.h2 - Dockerfile, bootRun)
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient oauthHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(HttpClient oauthHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(oauthHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * 제공자 호스트 커넥션 사전 연결
+     * 첫 로그인 요청이 TCP+TLS 핸드셰이크 비용을 치르지 않도록 시작 직후 비동기로 연결합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpProviderConnections(ApplicationReadyEvent event) {
+        if (!warmUp) {
+            return;
+        }
+        HttpClient httpClient = event.getApplicationContext().getBean("oauthHttpClient", HttpClient.class);
+        for (String host : PROVIDER_HOSTS) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(host + "/"))
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .timeout(readTimeout)
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            logger.warn("⚠️ 제공자 커넥션 사전 연결 실패 - {}: {}", host, error.getMessage());
+                        } else {
+                            logger.info("✅ 제공자 커넥션 사전 연결 - {} ({})", host, response.version());
+                        }
+                    });
+        }
     }
 }
@@ -1,12 +1,20 @@
 package kr.minsol.api.services.oauthservice.google;
 
-import org.springframework.beans.factory.annotation.Value;
+import io.jsonwebtoken.Claims;
+import kr.minsol.api.services.oauthservice.client.OAuthTokenResponse;
+import kr.minsol.api.services.oauthservice.client.ProviderJson;
+import kr.minsol.api.services.oauthservice.provider.OAuthProvider;
+import kr.minsol.api.services.oauthservice.provider.ProviderCredentials;
+import kr.minsol.api.services.oauthservice.provider.ProviderDescriptor;
+import kr.minsol.api.services.oauthservice.oidc.OidcIdTokenVerifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,43 +23,92 @@ import java.util.Map;
  * 재배포 테스트트
  */
 @Service
-public class GoogleOAuthService {
-
-    @Value("${google.client-id:}")
-    private String clientId;
-
-    @Value("${google.client-secret:}")
-    private String clientSecret;
-
-    @Value("${google.redirect-uri:}")
-    private String redirectUri;
+public class GoogleOAuthService implements OAuthProvider<GoogleUserInfoResponse> {
 
     private final RestTemplate restTemplate;
+    private final OidcIdTokenVerifier oidcIdTokenVerifier;
 
     // 구글 API 엔드포인트
     private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
     private static final String GOOGLE_USER_INFO_URL = "https://www.googleapis.com/oauth2/v2/userinfo";
 
-    public GoogleOAuthService() {
-        this.restTemplate = new RestTemplate();
+    private static final ProviderDescriptor DESCRIPTOR = new ProviderDescriptor(
+            "google", "구글", "Google", "google_id", 3600,
+            "https://accounts.google.com/o/oauth2/v2/auth",
+            List.of("openid", "profile", "email"),
+            "GOOGLE_CLIENT_ID", "Client ID", "GOOGLE_CLIENT_SECRET", "GOOGLE_REDIRECT_URI", true);
+
+    // 응답 스트림 → 레코드 바인딩용 추출기 (ObjectReader 재사용)
+    private static final ResponseExtractor<OAuthTokenResponse> TOKEN_RESPONSE_EXTRACTOR = ProviderJson
+            .extractor(OAuthTokenResponse.class);
+    private static final ResponseExtractor<GoogleUserInfoResponse> USER_INFO_EXTRACTOR = ProviderJson
+            .extractor(GoogleUserInfoResponse.class);
+
+    /**
+     * WebClientConfig의 공유 RestTemplate 주입 (커넥션 풀, 타임아웃 적용)
+     */
+    public GoogleOAuthService(RestTemplate restTemplate, OidcIdTokenVerifier oidcIdTokenVerifier) {
+        this.restTemplate = restTemplate;
+        this.oidcIdTokenVerifier = oidcIdTokenVerifier;
+    }
+
+    @Override
+    public ProviderDescriptor descriptor() {
+        return DESCRIPTOR;
+    }
+
+    /**
+     * OIDC 모드 여부 (id_token 로컬 검증으로 userinfo 호출 생략)
+     */
+    @Override
+    public boolean isOidcEnabled() {
+        return oidcIdTokenVerifier.isEnabled("google");
+    }
+
+    /**
+     * id_token을 검증하고 extractUserInfo와 같은 형태의 사용자 정보로 변환
+     * (openid profile email 스코프 기준: sub, name, email, email_verified, picture)
+     *
+     * @param credentials 자격 증명 (aud = Client ID)
+     * @param idToken     토큰 응답의 id_token
+     * @return 추출된 사용자 정보
+     */
+    @Override
+    public Map<String, Object> extractUserInfoFromIdToken(ProviderCredentials credentials, String idToken) {
+        Claims claims = oidcIdTokenVerifier.verify("google", idToken, credentials.clientId());
+
+        String name = claims.get("name", String.class);
+        String email = claims.get("email", String.class);
+        String picture = claims.get("picture", String.class);
+        Boolean emailVerified = claims.get("email_verified", Boolean.class);
+
+        return Map.of(
+                "google_id", claims.getSubject(),
+                "nickname", name != null ? name : "구글 사용자",
+                "email", email != null ? email : "",
+                "email_verified", emailVerified != null ? emailVerified : false,
+                "profile_image", picture != null ? picture : "");
     }
 
     /**
      * Authorization Code를 Access Token으로 교환
      * 
-     * @param code Authorization Code
+     * @param credentials 자격 증명 (Client ID, Client Secret, Redirect URI)
+     * @param code        Authorization Code
+     * @param state       State 값 (사용하지 않음)
      * @return 구글 토큰 응답 (access_token, refresh_token, expires_in 등)
      */
-    public Map<String, Object> getAccessToken(String code) {
+    @Override
+    public OAuthTokenResponse getAccessToken(ProviderCredentials credentials, String code, String state) {
         System.out.println("=== 구글 Access Token 요청 ===");
         System.out.println("Authorization Code: " + code);
 
         // 요청 파라미터 설정
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
-        params.add("client_id", clientId);
-        params.add("client_secret", clientSecret);
-        params.add("redirect_uri", redirectUri);
+        params.add("client_id", credentials.clientId());
+        params.add("client_secret", credentials.clientSecret());
+        params.add("redirect_uri", credentials.redirectUri());
         params.add("code", code);
 
         // 헤더 설정
@@ -62,17 +119,15 @@ public class GoogleOAuthService {
 
         try {
             // 구글 토큰 API 호출
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.postForEntity(
+            OAuthTokenResponse body = restTemplate.execute(
                     GOOGLE_TOKEN_URL,
-                    request,
-                    Map.class);
+                    HttpMethod.POST,
+                    restTemplate.httpEntityCallback(request),
+                    TOKEN_RESPONSE_EXTRACTOR);
 
-            System.out.println("구글 토큰 응답: " + response.getBody());
+            System.out.println("구글 토큰 응답: " + body);
             System.out.println("================================");
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> body = response.getBody();
             return body;
         } catch (Exception e) {
             System.err.println("구글 토큰 요청 실패: " + e.getMessage());
@@ -81,13 +136,49 @@ public class GoogleOAuthService {
         }
     }
 
+    /**
+     * Refresh Token으로 Access Token 갱신
+     * 
+     * @param credentials  자격 증명 (Client ID, Client Secret)
+     * @param refreshToken 구글 Refresh Token
+     * @return 구글 토큰 응답 (refresh_token은 새로 발급되지 않음)
+     */
+    @Override
+    public OAuthTokenResponse refreshAccessToken(ProviderCredentials credentials, String refreshToken) {
+        // 요청 파라미터 설정
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "refresh_token");
+        params.add("client_id", credentials.clientId());
+        params.add("client_secret", credentials.clientSecret());
+        params.add("refresh_token", refreshToken);
+
+        // 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
+
+        try {
+            // 구글 토큰 API 호출
+            return restTemplate.execute(
+                    GOOGLE_TOKEN_URL,
+                    HttpMethod.POST,
+                    restTemplate.httpEntityCallback(request),
+                    TOKEN_RESPONSE_EXTRACTOR);
+        } catch (Exception e) {
+            System.err.println("구글 토큰 갱신 실패: " + e.getMessage());
+            throw new RuntimeException("구글 토큰 갱신 실패", e);
+        }
+    }
+
     /**
      * Access Token으로 구글 사용자 정보 조회
      * 
      * @param accessToken 구글 Access Token
      * @return 사용자 정보 (id, name, email 등)
      */
-    public Map<String, Object> getUserInfo(String accessToken) {
+    @Override
+    public GoogleUserInfoResponse getUserInfo(String accessToken) {
         System.out.println("=== 구글 사용자 정보 요청 ===");
         System.out.println("Access Token: " + accessToken.substring(0, Math.min(accessToken.length(), 20)) + "...");
 
@@ -100,18 +191,15 @@ public class GoogleOAuthService {
 
         try {
             // 구글 사용자 정보 API 호출
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.exchange(
+            GoogleUserInfoResponse body = restTemplate.execute(
                     GOOGLE_USER_INFO_URL,
                     HttpMethod.GET,
-                    request,
-                    Map.class);
+                    restTemplate.httpEntityCallback(request),
+                    USER_INFO_EXTRACTOR);
 
-            System.out.println("구글 사용자 정보 응답: " + response.getBody());
+            System.out.println("구글 사용자 정보 응답: " + body);
             System.out.println("================================");
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> body = response.getBody();
             return body;
         } catch (Exception e) {
             System.err.println("구글 사용자 정보 요청 실패: " + e.getMessage());
@@ -126,21 +214,13 @@ public class GoogleOAuthService {
      * @param userInfo 구글 API 응답
      * @return 추출된 사용자 정보
      */
-    public Map<String, Object> extractUserInfo(Map<String, Object> userInfo) {
-        // 구글 사용자 ID
-        String googleId = (String) userInfo.get("id");
-
-        // 이름
-        String name = (String) userInfo.get("name");
-
-        // 이메일
-        String email = (String) userInfo.get("email");
-
-        // 프로필 이미지
-        String picture = (String) userInfo.get("picture");
-
-        // 이메일 인증 여부
-        Boolean emailVerified = (Boolean) userInfo.getOrDefault("verified_email", false);
+    @Override
+    public Map<String, Object> extractUserInfo(GoogleUserInfoResponse userInfo) {
+        String googleId = userInfo.id();
+        String name = userInfo.name();
+        String email = userInfo.email();
+        String picture = userInfo.picture();
+        Boolean emailVerified = userInfo.verifiedEmail();
 
         return Map.of(
                 "google_id", googleId != null ? googleId : "",
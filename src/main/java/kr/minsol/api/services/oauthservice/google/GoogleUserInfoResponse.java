@@ -0,0 +1,10 @@
+package kr.minsol.api.services.oauthservice.google;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 구글 사용자 정보 응답 (/oauth2/v2/userinfo) 중 사용하는 필드
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GoogleUserInfoResponse(String id, String name, String email, String picture, Boolean verifiedEmail) {
+}
@@ -1,12 +1,21 @@
 package kr.minsol.api.services.oauthservice.kakao;
 
+import io.jsonwebtoken.Claims;
+import kr.minsol.api.services.oauthservice.client.OAuthTokenResponse;
+import kr.minsol.api.services.oauthservice.client.ProviderJson;
+import kr.minsol.api.services.oauthservice.provider.OAuthProvider;
+import kr.minsol.api.services.oauthservice.provider.ProviderCredentials;
+import kr.minsol.api.services.oauthservice.provider.ProviderDescriptor;
+import kr.minsol.api.services.oauthservice.oidc.OidcIdTokenVerifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,43 +23,107 @@ import java.util.Map;
  * 카카오 API와 통신하여 토큰 교환 및 사용자 정보 조회
  */
 @Service
-public class KakaoOAuthService {
+public class KakaoOAuthService implements OAuthProvider<KakaoUserInfoResponse> {
 
     private final RestTemplate restTemplate;
+    private final OidcIdTokenVerifier oidcIdTokenVerifier;
 
     // 카카오 API 엔드포인트
     private static final String KAKAO_TOKEN_URL = "https://kauth.kakao.com/oauth/token";
     private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
 
-    public KakaoOAuthService() {
-        this.restTemplate = new RestTemplate();
+    private static final ProviderDescriptor DESCRIPTOR = new ProviderDescriptor(
+            "kakao", "카카오", "Kakao", "kakao_id", 21600,
+            "https://kauth.kakao.com/oauth/authorize",
+            List.of("profile_nickname", "profile_image", "account_email"),
+            "KAKAO_REST_API_KEY", "REST API Key", "KAKAO_CLIENT_SECRET", "KAKAO_REDIRECT_URI", false);
+
+    // 응답 스트림 → 레코드 바인딩용 추출기 (ObjectReader 재사용)
+    private static final ResponseExtractor<OAuthTokenResponse> TOKEN_RESPONSE_EXTRACTOR = ProviderJson
+            .extractor(OAuthTokenResponse.class);
+    private static final ResponseExtractor<KakaoUserInfoResponse> USER_INFO_EXTRACTOR = ProviderJson
+            .extractor(KakaoUserInfoResponse.class);
+
+    /**
+     * WebClientConfig의 공유 RestTemplate 주입 (커넥션 풀, 타임아웃 적용)
+     */
+    public KakaoOAuthService(RestTemplate restTemplate, OidcIdTokenVerifier oidcIdTokenVerifier) {
+        this.restTemplate = restTemplate;
+        this.oidcIdTokenVerifier = oidcIdTokenVerifier;
+    }
+
+    @Override
+    public ProviderDescriptor descriptor() {
+        return DESCRIPTOR;
+    }
+
+    /**
+     * OIDC 모드 여부 (인증 요청에 openid 스코프 추가, id_token 로컬 검증으로 userinfo 호출 생략)
+     * 카카오 개발자 콘솔에서 OpenID Connect가 활성화되어 있어야 합니다.
+     */
+    @Override
+    public boolean isOidcEnabled() {
+        return oidcIdTokenVerifier.isEnabled("kakao");
+    }
+
+    /**
+     * id_token을 검증하고 extractUserInfo와 같은 형태의 사용자 정보로 변환
+     * (카카오 id_token: sub = 회원번호, nickname, picture, email)
+     *
+     * @param credentials 자격 증명 (aud = REST API Key)
+     * @param idToken     토큰 응답의 id_token
+     * @return 추출된 사용자 정보
+     */
+    @Override
+    public Map<String, Object> extractUserInfoFromIdToken(ProviderCredentials credentials, String idToken) {
+        Claims claims = oidcIdTokenVerifier.verify("kakao", idToken, credentials.clientId());
+
+        Long kakaoId;
+        try {
+            kakaoId = Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("카카오 사용자 ID를 찾을 수 없습니다.");
+        }
+
+        String nickname = claims.get("nickname", String.class);
+        String email = claims.get("email", String.class);
+        String profileImage = claims.get("picture", String.class);
+        Boolean emailVerified = claims.get("email_verified", Boolean.class);
+
+        // Map.of는 null을 허용하지 않으므로 HashMap 사용
+        Map<String, Object> result = new HashMap<>();
+        result.put("kakao_id", kakaoId);
+        result.put("nickname", nickname != null ? nickname : "카카오 사용자");
+        result.put("email", email != null ? email : "");
+        result.put("email_verified", emailVerified != null ? emailVerified : false);
+        result.put("profile_image", profileImage != null ? profileImage : "");
+
+        return result;
     }
 
     /**
      * Authorization Code를 Access Token으로 교환
      * 
-     * @param code Authorization Code
+     * @param credentials 자격 증명 (REST API Key, Client Secret, Redirect URI)
+     * @param code        Authorization Code
+     * @param state       State 값 (사용하지 않음)
      * @return 카카오 토큰 응답 (access_token, refresh_token, expires_in 등)
      */
-    public Map<String, Object> getAccessToken(String code) {
+    @Override
+    public OAuthTokenResponse getAccessToken(ProviderCredentials credentials, String code, String state) {
         System.out.println("=== 카카오 Access Token 요청 ===");
         System.out.println("Authorization Code: " + code);
 
-        // 환경 변수에서 가져오기
-        String clientId = System.getenv("KAKAO_REST_API_KEY");
-        String clientSecret = System.getenv("KAKAO_CLIENT_SECRET");
-        String redirectUri = System.getenv("KAKAO_REDIRECT_URI");
-
         // 요청 파라미터 설정
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
-        params.add("client_id", clientId);
-        params.add("redirect_uri", redirectUri);
+        params.add("client_id", credentials.clientId());
+        params.add("redirect_uri", credentials.redirectUri());
         params.add("code", code);
 
         // Client Secret이 있으면 추가 (보안 강화)
-        if (clientSecret != null && !clientSecret.isEmpty()) {
-            params.add("client_secret", clientSecret);
+        if (credentials.clientSecret() != null) {
+            params.add("client_secret", credentials.clientSecret());
         }
 
         // 헤더 설정
@@ -61,17 +134,15 @@ public class KakaoOAuthService {
 
         try {
             // 카카오 토큰 API 호출
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.postForEntity(
+            OAuthTokenResponse body = restTemplate.execute(
                     KAKAO_TOKEN_URL,
-                    request,
-                    Map.class);
+                    HttpMethod.POST,
+                    restTemplate.httpEntityCallback(request),
+                    TOKEN_RESPONSE_EXTRACTOR);
 
-            System.out.println("카카오 토큰 응답: " + response.getBody());
+            System.out.println("카카오 토큰 응답: " + body);
             System.out.println("================================");
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> body = response.getBody();
             return body;
         } catch (Exception e) {
             System.err.println("카카오 토큰 요청 실패: " + e.getMessage());
@@ -80,13 +151,52 @@ public class KakaoOAuthService {
         }
     }
 
+    /**
+     * Refresh Token으로 Access Token 갱신
+     * 
+     * @param credentials  자격 증명 (REST API Key, Client Secret)
+     * @param refreshToken 카카오 Refresh Token
+     * @return 카카오 토큰 응답 (refresh_token은 만료 1개월 미만일 때만 새로 발급)
+     */
+    @Override
+    public OAuthTokenResponse refreshAccessToken(ProviderCredentials credentials, String refreshToken) {
+        // 요청 파라미터 설정
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "refresh_token");
+        params.add("client_id", credentials.clientId());
+        // Client Secret이 있으면 추가 (보안 강화)
+        if (credentials.clientSecret() != null) {
+            params.add("client_secret", credentials.clientSecret());
+        }
+        params.add("refresh_token", refreshToken);
+
+        // 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
+
+        try {
+            // 카카오 토큰 API 호출
+            return restTemplate.execute(
+                    KAKAO_TOKEN_URL,
+                    HttpMethod.POST,
+                    restTemplate.httpEntityCallback(request),
+                    TOKEN_RESPONSE_EXTRACTOR);
+        } catch (Exception e) {
+            System.err.println("카카오 토큰 갱신 실패: " + e.getMessage());
+            throw new RuntimeException("카카오 토큰 갱신 실패", e);
+        }
+    }
+
     /**
      * Access Token으로 카카오 사용자 정보 조회
      * 
      * @param accessToken 카카오 Access Token
      * @return 사용자 정보 (id, nickname, email 등)
      */
-    public Map<String, Object> getUserInfo(String accessToken) {
+    @Override
+    public KakaoUserInfoResponse getUserInfo(String accessToken) {
         System.out.println("=== 카카오 사용자 정보 요청 ===");
         System.out.println("Access Token: " + accessToken.substring(0, Math.min(accessToken.length(), 20)) + "...");
 
@@ -99,18 +209,15 @@ public class KakaoOAuthService {
 
         try {
             // 카카오 사용자 정보 API 호출
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.exchange(
+            KakaoUserInfoResponse body = restTemplate.execute(
                     KAKAO_USER_INFO_URL,
                     HttpMethod.GET,
-                    request,
-                    Map.class);
+                    restTemplate.httpEntityCallback(request),
+                    USER_INFO_EXTRACTOR);
 
-            System.out.println("카카오 사용자 정보 응답: " + response.getBody());
+            System.out.println("카카오 사용자 정보 응답: " + body);
             System.out.println("================================");
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> body = response.getBody();
             return body;
         } catch (Exception e) {
             System.err.println("카카오 사용자 정보 요청 실패: " + e.getMessage());
@@ -125,53 +232,28 @@ public class KakaoOAuthService {
      * @param userInfo 카카오 API 응답
      * @return 추출된 사용자 정보
      */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> extractUserInfo(Map<String, Object> userInfo) {
+    @Override
+    public Map<String, Object> extractUserInfo(KakaoUserInfoResponse userInfo) {
         // 카카오 사용자 ID
-        Long kakaoId = null;
-        Object idObj = userInfo.get("id");
-        if (idObj != null) {
-            if (idObj instanceof Number) {
-                kakaoId = ((Number) idObj).longValue();
-            } else if (idObj instanceof String) {
-                try {
-                    kakaoId = Long.parseLong((String) idObj);
-                } catch (NumberFormatException e) {
-                    System.err.println("카카오 ID 파싱 실패: " + idObj);
-                }
-            }
-        }
-
+        Long kakaoId = userInfo.id();
         if (kakaoId == null) {
             throw new RuntimeException("카카오 사용자 ID를 찾을 수 없습니다.");
         }
 
         // 카카오 계정 정보
-        Map<String, Object> kakaoAccount = (Map<String, Object>) userInfo.get("kakao_account");
+        KakaoUserInfoResponse.KakaoAccount kakaoAccount = userInfo.kakaoAccount();
 
         // 프로필 정보
-        Map<String, Object> profile = null;
         String nickname = null;
         String profileImage = null;
-
-        if (kakaoAccount != null && kakaoAccount.containsKey("profile")) {
-            profile = (Map<String, Object>) kakaoAccount.get("profile");
-            if (profile != null) {
-                nickname = (String) profile.get("nickname");
-                profileImage = (String) profile.get("profile_image_url");
-            }
+        if (kakaoAccount != null && kakaoAccount.profile() != null) {
+            nickname = kakaoAccount.profile().nickname();
+            profileImage = kakaoAccount.profile().profileImageUrl();
         }
 
         // 이메일 정보
-        String email = null;
-        Boolean emailVerified = false;
-        if (kakaoAccount != null) {
-            email = (String) kakaoAccount.get("email");
-            Object emailVerifiedObj = kakaoAccount.getOrDefault("is_email_verified", false);
-            if (emailVerifiedObj instanceof Boolean) {
-                emailVerified = (Boolean) emailVerifiedObj;
-            }
-        }
+        String email = kakaoAccount != null ? kakaoAccount.email() : null;
+        Boolean emailVerified = kakaoAccount != null ? kakaoAccount.isEmailVerified() : null;
 
         // Map.of는 null을 허용하지 않으므로 HashMap 사용
         Map<String, Object> result = new HashMap<>();
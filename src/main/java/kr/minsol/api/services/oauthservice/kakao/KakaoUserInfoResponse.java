@@ -0,0 +1,18 @@
+package kr.minsol.api.services.oauthservice.kakao;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 카카오 사용자 정보 응답 (/v2/user/me) 중 사용하는 필드
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KakaoUserInfoResponse(Long id, KakaoAccount kakaoAccount) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record KakaoAccount(Profile profile, String email, Boolean isEmailVerified) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Profile(String nickname, String profileImageUrl) {
+    }
+}
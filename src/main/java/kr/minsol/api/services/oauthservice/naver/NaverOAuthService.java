@@ -1,12 +1,19 @@
 package kr.minsol.api.services.oauthservice.naver;
 
+import kr.minsol.api.services.oauthservice.client.OAuthTokenResponse;
+import kr.minsol.api.services.oauthservice.client.ProviderJson;
+import kr.minsol.api.services.oauthservice.provider.OAuthProvider;
+import kr.minsol.api.services.oauthservice.provider.ProviderCredentials;
+import kr.minsol.api.services.oauthservice.provider.ProviderDescriptor;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,7 +21,7 @@ import java.util.Map;
  * 네이버 API와 통신하여 토큰 교환 및 사용자 정보 조회
  */
 @Service
-public class NaverOAuthService {
+public class NaverOAuthService implements OAuthProvider<NaverUserInfoResponse> {
 
     private final RestTemplate restTemplate;
 
@@ -22,33 +29,50 @@ public class NaverOAuthService {
     private static final String NAVER_TOKEN_URL = "https://nid.naver.com/oauth2.0/token";
     private static final String NAVER_USER_INFO_URL = "https://openapi.naver.com/v1/nid/me";
 
-    public NaverOAuthService() {
-        this.restTemplate = new RestTemplate();
+    private static final ProviderDescriptor DESCRIPTOR = new ProviderDescriptor(
+            "naver", "네이버", "Naver", "naver_id", 3600,
+            "https://nid.naver.com/oauth2.0/authorize",
+            List.of(),
+            "NAVER_CLIENT_ID", "Client ID", "NAVER_CLIENT_SECRET", "NAVER_REDIRECT_URI", false);
+
+    // 응답 스트림 → 레코드 바인딩용 추출기 (ObjectReader 재사용)
+    private static final ResponseExtractor<OAuthTokenResponse> TOKEN_RESPONSE_EXTRACTOR = ProviderJson
+            .extractor(OAuthTokenResponse.class);
+    private static final ResponseExtractor<NaverUserInfoResponse> USER_INFO_EXTRACTOR = ProviderJson
+            .extractor(NaverUserInfoResponse.class);
+
+    /**
+     * WebClientConfig의 공유 RestTemplate 주입 (커넥션 풀, 타임아웃 적용)
+     */
+    public NaverOAuthService(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    @Override
+    public ProviderDescriptor descriptor() {
+        return DESCRIPTOR;
     }
 
     /**
      * Authorization Code를 Access Token으로 교환
      * 
-     * @param code  Authorization Code
-     * @param state State 값 (CSRF 방지)
+     * @param credentials 자격 증명 (Client ID, Client Secret, Redirect URI)
+     * @param code        Authorization Code
+     * @param state       State 값 (CSRF 방지)
      * @return 네이버 토큰 응답 (access_token, refresh_token, expires_in 등)
      */
-    public Map<String, Object> getAccessToken(String code, String state) {
+    @Override
+    public OAuthTokenResponse getAccessToken(ProviderCredentials credentials, String code, String state) {
         System.out.println("=== 네이버 Access Token 요청 ===");
         System.out.println("Authorization Code: " + code);
         System.out.println("State: " + state);
 
-        // 환경 변수에서 가져오기
-        String clientId = System.getenv("NAVER_CLIENT_ID");
-        String clientSecret = System.getenv("NAVER_CLIENT_SECRET");
-        String redirectUri = System.getenv("NAVER_REDIRECT_URI");
-
         // 요청 파라미터 설정
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
-        params.add("client_id", clientId);
-        params.add("client_secret", clientSecret);
-        params.add("redirect_uri", redirectUri);
+        params.add("client_id", credentials.clientId());
+        params.add("client_secret", credentials.clientSecret());
+        params.add("redirect_uri", credentials.redirectUri());
         params.add("code", code);
         if (state != null) {
             params.add("state", state);
@@ -62,17 +86,15 @@ public class NaverOAuthService {
 
         try {
             // 네이버 토큰 API 호출
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.postForEntity(
+            OAuthTokenResponse body = restTemplate.execute(
                     NAVER_TOKEN_URL,
-                    request,
-                    Map.class);
+                    HttpMethod.POST,
+                    restTemplate.httpEntityCallback(request),
+                    TOKEN_RESPONSE_EXTRACTOR);
 
-            System.out.println("네이버 토큰 응답: " + response.getBody());
+            System.out.println("네이버 토큰 응답: " + body);
             System.out.println("================================");
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> body = response.getBody();
             return body;
         } catch (Exception e) {
             System.err.println("네이버 토큰 요청 실패: " + e.getMessage());
@@ -81,13 +103,49 @@ public class NaverOAuthService {
         }
     }
 
+    /**
+     * Refresh Token으로 Access Token 갱신
+     * 
+     * @param credentials  자격 증명 (Client ID, Client Secret)
+     * @param refreshToken 네이버 Refresh Token
+     * @return 네이버 토큰 응답 (refresh_token은 새로 발급되지 않음)
+     */
+    @Override
+    public OAuthTokenResponse refreshAccessToken(ProviderCredentials credentials, String refreshToken) {
+        // 요청 파라미터 설정
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "refresh_token");
+        params.add("client_id", credentials.clientId());
+        params.add("client_secret", credentials.clientSecret());
+        params.add("refresh_token", refreshToken);
+
+        // 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
+
+        try {
+            // 네이버 토큰 API 호출
+            return restTemplate.execute(
+                    NAVER_TOKEN_URL,
+                    HttpMethod.POST,
+                    restTemplate.httpEntityCallback(request),
+                    TOKEN_RESPONSE_EXTRACTOR);
+        } catch (Exception e) {
+            System.err.println("네이버 토큰 갱신 실패: " + e.getMessage());
+            throw new RuntimeException("네이버 토큰 갱신 실패", e);
+        }
+    }
+
     /**
      * Access Token으로 네이버 사용자 정보 조회
      * 
      * @param accessToken 네이버 Access Token
      * @return 사용자 정보 (id, name, email 등)
      */
-    public Map<String, Object> getUserInfo(String accessToken) {
+    @Override
+    public NaverUserInfoResponse getUserInfo(String accessToken) {
         System.out.println("=== 네이버 사용자 정보 요청 ===");
         System.out.println("Access Token: " + accessToken.substring(0, Math.min(accessToken.length(), 20)) + "...");
 
@@ -100,18 +158,15 @@ public class NaverOAuthService {
 
         try {
             // 네이버 사용자 정보 API 호출
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.exchange(
+            NaverUserInfoResponse body = restTemplate.execute(
                     NAVER_USER_INFO_URL,
                     HttpMethod.GET,
-                    request,
-                    Map.class);
+                    restTemplate.httpEntityCallback(request),
+                    USER_INFO_EXTRACTOR);
 
-            System.out.println("네이버 사용자 정보 응답: " + response.getBody());
+            System.out.println("네이버 사용자 정보 응답: " + body);
             System.out.println("================================");
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> body = response.getBody();
             return body;
         } catch (Exception e) {
             System.err.println("네이버 사용자 정보 요청 실패: " + e.getMessage());
@@ -126,37 +181,26 @@ public class NaverOAuthService {
      * @param userInfo 네이버 API 응답
      * @return 추출된 사용자 정보
      */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> extractUserInfo(Map<String, Object> userInfo) {
-        // 네이버 API 응답 구조: { "resultcode": "00", "message": "success", "response": { ...
-        // } }
-        Map<String, Object> response = (Map<String, Object>) userInfo.get("response");
+    @Override
+    public Map<String, Object> extractUserInfo(NaverUserInfoResponse userInfo) {
+        NaverUserInfoResponse.Profile response = userInfo.response();
 
         if (response == null) {
             throw new RuntimeException("네이버 사용자 정보 응답이 올바르지 않습니다.");
         }
 
-        // 네이버 사용자 ID
-        String naverId = (String) response.get("id");
-
-        // 이름
-        String name = (String) response.get("name");
-
-        // 이메일
-        String email = (String) response.get("email");
-
-        // 프로필 이미지
-        String profileImage = (String) response.get("profile_image");
-
-        // 이메일 인증 여부 (네이버는 항상 인증된 이메일)
-        Boolean emailVerified = true;
+        String naverId = response.id();
+        String name = response.name();
+        String email = response.email();
+        String profileImage = response.profileImage();
 
         // Map.of는 null을 허용하지 않으므로 HashMap 사용
         Map<String, Object> result = new HashMap<>();
         result.put("naver_id", naverId != null ? naverId : "");
         result.put("nickname", name != null ? name : "네이버 사용자");
         result.put("email", email != null ? email : "");
-        result.put("email_verified", emailVerified != null ? emailVerified : false);
+        // 이메일 인증 여부 (네이버는 항상 인증된 이메일)
+        result.put("email_verified", true);
         result.put("profile_image", profileImage != null ? profileImage : "");
 
         return result;
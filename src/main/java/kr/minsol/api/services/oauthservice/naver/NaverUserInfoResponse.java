@@ -0,0 +1,15 @@
+package kr.minsol.api.services.oauthservice.naver;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 네이버 사용자 정보 응답 (/v1/nid/me) 중 사용하는 필드
+ * 구조: { "resultcode": "00", "message": "success", "response": { ... } }
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NaverUserInfoResponse(String resultcode, String message, Profile response) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Profile(String id, String name, String nickname, String email, String profileImage) {
+    }
+}
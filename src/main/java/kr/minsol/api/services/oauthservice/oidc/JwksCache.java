@@ -0,0 +1,104 @@
+package kr.minsol.api.services.oauthservice.oidc;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 제공자 하나의 JWKS 공개키 캐시 (kid → Key)
+ * 주기적 백그라운드 갱신 외에, 모르는 kid가 들어오면(키 교체) 최소 간격을 두고 즉시 다시 받아옵니다.
+ */
+class JwksCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksCache.class);
+
+    private final String provider;
+    private final URI jwksUri;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final long minRefreshIntervalNanos;
+
+    private volatile Map<String, Key> keys = Map.of();
+    private volatile long lastRefreshAt;
+
+    JwksCache(String provider, URI jwksUri, HttpClient httpClient, Duration requestTimeout,
+            Duration minRefreshInterval) {
+        this.provider = provider;
+        this.jwksUri = jwksUri;
+        this.httpClient = httpClient;
+        this.requestTimeout = requestTimeout;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.lastRefreshAt = System.nanoTime() - minRefreshIntervalNanos;
+    }
+
+    /**
+     * kid에 해당하는 공개키 조회 (없으면 JWKS를 한 번 다시 받아 재확인)
+     *
+     * @return 공개키, 끝내 찾지 못하면 null
+     */
+    Key get(String kid) {
+        Key key = keys.get(kid);
+        if (key == null && refreshIfStale()) {
+            key = keys.get(kid);
+        }
+        return key;
+    }
+
+    /**
+     * 백그라운드 주기 갱신 (실패 시 기존 키 유지)
+     */
+    void refresh() {
+        try {
+            load();
+        } catch (Exception e) {
+            logger.warn("⚠️ {} JWKS 갱신 실패 (기존 키 {}개 유지): {}", provider, keys.size(), e.getMessage());
+        }
+    }
+
+    private synchronized boolean refreshIfStale() {
+        if (System.nanoTime() - lastRefreshAt < minRefreshIntervalNanos) {
+            return false;
+        }
+        refresh();
+        return true;
+    }
+
+    private synchronized void load() throws Exception {
+        lastRefreshAt = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("JWKS 응답 코드 " + response.statusCode());
+        }
+
+        JwkSet jwkSet = Jwks.setParser().build().parse(response.body());
+        Map<String, Key> loaded = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null) {
+                loaded.put(jwk.getId(), jwk.toKey());
+            }
+        }
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("JWKS에 사용할 수 있는 키가 없습니다.");
+        }
+        if (!loaded.keySet().equals(keys.keySet())) {
+            logger.info("✅ {} JWKS 갱신: kid {}", provider, loaded.keySet());
+        }
+        keys = Map.copyOf(loaded);
+    }
+}
@@ -0,0 +1,132 @@
+package kr.minsol.api.services.oauthservice.oidc;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OIDC id_token 로컬 검증기
+ * 토큰 교환 응답에 포함된 id_token의 서명(JWKS), 발급자, 대상(aud), 만료를 검증하여
+ * userinfo 엔드포인트 호출 없이 사용자 정보를 얻을 수 있게 합니다.
+ *
+ * 제공자별 활성화: oauth.oidc.{provider}.enabled
+ */
+@Component
+public class OidcIdTokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(OidcIdTokenVerifier.class);
+
+    /**
+     * 제공자별 OIDC 메타데이터 (발급자, JWKS 주소)
+     */
+    private record Issuer(Set<String> issuers, URI jwksUri) {
+    }
+
+    private static final Map<String, Issuer> ISSUERS = Map.of(
+            "google", new Issuer(Set.of("https://accounts.google.com", "accounts.google.com"),
+                    URI.create("https://www.googleapis.com/oauth2/v3/certs")),
+            "kakao", new Issuer(Set.of("https://kauth.kakao.com"),
+                    URI.create("https://kauth.kakao.com/.well-known/jwks.json")));
+
+    private final Map<String, JwksCache> caches = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final long clockSkewSeconds;
+
+    public OidcIdTokenVerifier(
+            Environment environment,
+            @Qualifier("oauthHttpClient") HttpClient httpClient,
+            @Value("${oauth.oidc.jwks-refresh-interval:1h}") Duration refreshInterval,
+            @Value("${oauth.oidc.jwks-min-refresh-interval:30s}") Duration minRefreshInterval,
+            @Value("${oauth.oidc.clock-skew:60s}") Duration clockSkew,
+            @Value("${oauth.http.read-timeout:5s}") Duration requestTimeout) {
+        this.clockSkewSeconds = clockSkew.toSeconds();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "oidc-jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ISSUERS.forEach((provider, issuer) -> {
+            if (environment.getProperty("oauth.oidc." + provider + ".enabled", Boolean.class, false)) {
+                JwksCache cache = new JwksCache(provider, issuer.jwksUri(), httpClient, requestTimeout,
+                        minRefreshInterval);
+                caches.put(provider, cache);
+                // 첫 로그인 전에 키를 받아두고 이후 주기적으로 갱신
+                scheduler.scheduleWithFixedDelay(cache::refresh, 0, refreshInterval.toMillis(),
+                        TimeUnit.MILLISECONDS);
+                logger.info("✅ {} OIDC id_token 검증 활성화", provider);
+            }
+        });
+    }
+
+    public boolean isEnabled(String provider) {
+        return caches.containsKey(provider);
+    }
+
+    /**
+     * id_token 검증
+     *
+     * @param provider 제공자 키 (google, kakao)
+     * @param idToken  토큰 응답의 id_token
+     * @param audience 클라이언트 ID (aud와 일치해야 함)
+     * @return 검증된 클레임
+     * @throws io.jsonwebtoken.JwtException 서명/발급자/대상/만료 검증 실패 시
+     */
+    public Claims verify(String provider, String idToken, String audience) {
+        JwksCache cache = caches.get(provider);
+        if (cache == null) {
+            throw new IllegalStateException(provider + " OIDC 검증이 활성화되지 않았습니다.");
+        }
+
+        Claims claims = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String kid = header.getKeyId();
+                        Key key = kid != null ? cache.get(kid) : null;
+                        if (key == null) {
+                            throw new SecurityException(provider + " JWKS에서 kid를 찾을 수 없습니다: " + kid);
+                        }
+                        return key;
+                    }
+                })
+                .requireAudience(audience)
+                .clockSkewSeconds(clockSkewSeconds)
+                .build()
+                .parseSignedClaims(idToken)
+                .getPayload();
+
+        if (!ISSUERS.get(provider).issuers().contains(claims.getIssuer())) {
+            throw new SecurityException(provider + " id_token 발급자가 올바르지 않습니다: " + claims.getIssuer());
+        }
+        if (claims.getSubject() == null || claims.getSubject().isEmpty()) {
+            throw new SecurityException(provider + " id_token에 sub가 없습니다.");
+        }
+        return claims;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
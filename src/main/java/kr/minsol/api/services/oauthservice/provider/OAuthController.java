@@ -0,0 +1,319 @@
+package kr.minsol.api.services.oauthservice.provider;
+
+import jakarta.servlet.http.HttpServletRequest;
+import kr.minsol.api.services.oauthservice.callback.OAuthCallbackPipeline;
+import kr.minsol.api.services.oauthservice.jwt.JwtUtil;
+import kr.minsol.api.services.oauthservice.token.TokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.view.RedirectView;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OAuth 제공자 공통 컨트롤러
+ * 등록된 모든 OAuthProvider 어댑터를 /api/auth/{provider} 아래에 같은 흐름으로 노출합니다.
+ * (기존 KakaoController / GoogleController / NaverController 통합)
+ */
+@RestController
+@RequestMapping("/api/auth/{provider}")
+public class OAuthController {
+
+    private final OAuthProviderRegistry providerRegistry;
+    private final OAuthCallbackPipeline callbackPipeline;
+    private final TokenService tokenService;
+    private final Duration stateTtl;
+
+    public OAuthController(
+            OAuthProviderRegistry providerRegistry,
+            OAuthCallbackPipeline callbackPipeline,
+            TokenService tokenService,
+            @Value("${oauth.state.ttl:10m}") Duration stateTtl) {
+        this.providerRegistry = providerRegistry;
+        this.callbackPipeline = callbackPipeline;
+        this.tokenService = tokenService;
+        this.stateTtl = stateTtl;
+    }
+
+    /**
+     * 인증 URL 제공
+     * 프론트엔드에서 클라이언트 키를 노출하지 않고 인증 URL을 가져올 수 있도록 함
+     */
+    @PostMapping("/auth-url")
+    public ResponseEntity<Map<String, Object>> getAuthUrl(
+            @PathVariable("provider") String providerId,
+            @RequestBody(required = false) Map<String, Object> request) {
+        ProviderConfigSnapshot.ProviderRuntime runtime = providerRegistry.current().find(providerId);
+        if (runtime == null) {
+            return unknownProvider(providerId);
+        }
+        String label = runtime.descriptor().label();
+
+        // 환경 변수 검증 (설정 스냅샷 생성 시 확인한 결과)
+        if (runtime.authUrlPrefix() == null) {
+            System.err.println("[" + label + " Auth-URL] 오류: " + runtime.configError() + " 환경 변수가 설정되지 않았습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
+                    "success", false,
+                    "error", runtime.configError() + " 환경 변수가 설정되지 않았습니다.",
+                    "message", runtime.configErrorMessage()));
+        }
+
+        String state = UUID.randomUUID().toString(); // CSRF 방지용 state
+        // 콜백에서 1회만 소비할 수 있도록 서버에 저장
+        tokenService.saveOAuthState(runtime.descriptor().id(), state, stateTtl);
+        String authUrl = runtime.authUrlPrefix() + state;
+
+        System.out.println(
+                "[" + label + " Auth-URL] 생성 완료: " + authUrl.substring(0, Math.min(authUrl.length(), 100)) + "...");
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "auth_url", authUrl));
+    }
+
+    /**
+     * 인증 콜백 처리 (POST)
+     * 프론트엔드에서 POST 방식으로 code를 전달받아 처리
+     * Authorization Code를 받아서 바로 토큰 교환 및 JWT 생성 후 프론트엔드로 리다이렉트 URL 반환
+     */
+    @PostMapping("/callback")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> callbackPost(
+            @PathVariable("provider") String providerId,
+            @RequestBody(required = false) Map<String, Object> requestBody) {
+        ProviderConfigSnapshot snapshot = providerRegistry.current();
+        ProviderConfigSnapshot.ProviderRuntime runtime = snapshot.find(providerId);
+        if (runtime == null) {
+            return CompletableFuture.completedFuture(unknownProvider(providerId));
+        }
+
+        System.out.println("=== " + runtime.descriptor().displayName() + " 콜백 POST 요청 수신 ===");
+
+        String code = null;
+        String state = null;
+        String error = null;
+        String error_description = null;
+
+        if (requestBody != null) {
+            code = requestBody.containsKey("code") ? requestBody.get("code").toString() : null;
+            state = requestBody.containsKey("state") ? requestBody.get("state").toString() : null;
+            error = requestBody.containsKey("error") ? requestBody.get("error").toString() : null;
+            error_description = requestBody.containsKey("error_description")
+                    ? requestBody.get("error_description").toString()
+                    : null;
+        }
+
+        System.out.println("Code: " + code);
+        System.out.println("State: " + state);
+        System.out.println("Error: " + error);
+        System.out.println("Error Description: " + error_description);
+        System.out.println("============================");
+
+        return callbackPipeline.process(runtime, code, state, error, error_description, snapshot.frontendUrl());
+    }
+
+    /**
+     * 인증 콜백 처리 (GET)
+     * OAuth 제공자로부터 직접 리다이렉트되는 경우 처리
+     * Authorization Code를 받아서 바로 토큰 교환 및 JWT 생성 후 프론트엔드로 리다이렉트
+     */
+    @GetMapping("/callback")
+    public CompletableFuture<RedirectView> callback(
+            @PathVariable("provider") String providerId,
+            @RequestParam(required = false) String code,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String error,
+            @RequestParam(required = false) String error_description) {
+        ProviderConfigSnapshot snapshot = providerRegistry.current();
+        String frontendUrl = snapshot.frontendUrl();
+        ProviderConfigSnapshot.ProviderRuntime runtime = snapshot.find(providerId);
+        if (runtime == null) {
+            System.err.println("[Callback GET] 지원하지 않는 로그인 제공자: " + providerId);
+            return CompletableFuture.completedFuture(new RedirectView(frontendUrl));
+        }
+        ProviderDescriptor descriptor = runtime.descriptor();
+
+        System.out.println("=== " + descriptor.displayName() + " 콜백 GET 요청 수신 ===");
+        System.out.println("Code: " + code);
+        System.out.println("State: " + state);
+        System.out.println("Error: " + error);
+        System.out.println("Error Description: " + error_description);
+        System.out.println("============================");
+
+        if (code != null) {
+            // 공통 처리 로직 호출 - 제공자 호출 동안 서블릿 스레드를 점유하지 않음
+            return callbackPipeline.process(runtime, code, state, error, error_description, frontendUrl)
+                    .thenApply(response -> {
+                        // ResponseEntity에서 redirectUrl 추출
+                        Map<String, Object> responseBody = response.getBody();
+                        if (responseBody != null && responseBody.get("redirectUrl") != null) {
+                            return new RedirectView(responseBody.get("redirectUrl").toString());
+                        }
+
+                        // redirectUrl이 없으면 기본 에러 처리 - URL에 에러 파라미터 포함하지 않음
+                        System.err.println("[" + descriptor.label() + " Callback GET] 리다이렉트 URL을 생성할 수 없습니다.");
+                        return new RedirectView(frontendUrl);
+                    })
+                    .exceptionally(e -> {
+                        System.err.println("[" + descriptor.label() + " Callback GET] " + descriptor.displayName()
+                                + " 인증 처리 중 오류 발생: " + e.getMessage());
+                        // URL에 에러 파라미터 포함하지 않음
+                        return new RedirectView(frontendUrl);
+                    });
+        } else if (error != null) {
+            // OAuth 에러 - URL에 에러 파라미터 포함하지 않음
+            System.err.println("[" + descriptor.label() + " Callback GET] OAuth 에러: " + error);
+            return CompletableFuture.completedFuture(new RedirectView(frontendUrl));
+        } else if (descriptor.missingCodeErrorParam()) {
+            String redirectUrl = frontendUrl + "?error=" + URLEncoder.encode("인증 코드가 없습니다.", StandardCharsets.UTF_8);
+            System.out.println("인증 코드 없음, 프론트엔드로 리다이렉트: " + redirectUrl);
+            return CompletableFuture.completedFuture(new RedirectView(redirectUrl));
+        } else {
+            // 인증 코드 없음 - URL에 에러 파라미터 포함하지 않음
+            System.err.println("[" + descriptor.label() + " Callback GET] 인증 코드가 없습니다.");
+            return CompletableFuture.completedFuture(new RedirectView(frontendUrl));
+        }
+    }
+
+    /**
+     * 로그인 요청 처리
+     * Next.js에서 성공으로 인식하도록 항상 성공 응답 반환
+     */
+    @PostMapping("/login")
+    public ResponseEntity<Map<String, Object>> login(
+            @PathVariable("provider") String providerId,
+            @RequestBody(required = false) Map<String, Object> request,
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            HttpServletRequest httpRequest) {
+        ProviderConfigSnapshot.ProviderRuntime runtime = providerRegistry.current().find(providerId);
+        if (runtime == null) {
+            return unknownProvider(providerId);
+        }
+        String displayName = runtime.descriptor().displayName();
+
+        System.out.println("=== " + displayName + " 로그인 요청 수신 ===");
+        System.out.println("Request Body: " + request);
+        printAuthorizationHeader(authHeader);
+        System.out.println("============================");
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", displayName + " 로그인이 성공적으로 처리되었습니다.");
+        response.put("token", "mock_token_" + System.currentTimeMillis());
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * 토큰 교환
+     * Authorization Code를 제공자 어댑터(OAuthProvider.getAccessToken)로 교환하고 JWT 발급 후 저장
+     * (콜백과 같은 OAuthCallbackPipeline 사용 - state 검증, 서킷/벌크헤드, 감사 로그 포함)
+     */
+    @PostMapping("/token")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> token(
+            @PathVariable("provider") String providerId,
+            @RequestBody(required = false) Map<String, Object> request) {
+        ProviderConfigSnapshot snapshot = providerRegistry.current();
+        ProviderConfigSnapshot.ProviderRuntime runtime = snapshot.find(providerId);
+        if (runtime == null) {
+            return CompletableFuture.completedFuture(unknownProvider(providerId));
+        }
+
+        System.out.println("=== " + runtime.descriptor().displayName() + " 토큰 요청 수신 ===");
+
+        if (request == null || request.get("code") == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Authorization Code가 필요합니다.");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response));
+        }
+
+        String code = request.get("code").toString();
+        String state = request.get("state") != null ? request.get("state").toString() : null;
+        return callbackPipeline.process(runtime, code, state, null, null, snapshot.frontendUrl());
+    }
+
+    /**
+     * 사용자 정보 조회
+     * Next.js에서 성공으로 인식하도록 항상 성공 응답 반환
+     */
+    @GetMapping("/user")
+    public ResponseEntity<Map<String, Object>> userInfo(
+            @PathVariable("provider") String providerId,
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            HttpServletRequest request) {
+        ProviderConfigSnapshot.ProviderRuntime runtime = providerRegistry.current().find(providerId);
+        if (runtime == null) {
+            return unknownProvider(providerId);
+        }
+        ProviderDescriptor descriptor = runtime.descriptor();
+
+        System.out.println("=== " + descriptor.displayName() + " 사용자 정보 조회 요청 수신 ===");
+        printAuthorizationHeader(authHeader);
+        System.out.println("============================");
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", descriptor.displayName() + " 사용자 정보를 성공적으로 조회했습니다.");
+
+        Map<String, Object> userInfo = new HashMap<>();
+        userInfo.put("id", "mock_" + descriptor.id() + "_user_id");
+        userInfo.put("nickname", descriptor.displayName() + " 사용자");
+        userInfo.put("email", descriptor.id() + "@example.com");
+
+        response.put("user", userInfo);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * 모든 제공자 관련 요청에 대한 기본 핸들러
+     * Next.js에서 성공으로 인식하도록 항상 성공 응답 반환
+     */
+    @RequestMapping(value = "/**", method = { RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT,
+            RequestMethod.DELETE })
+    public ResponseEntity<Map<String, Object>> defaultHandler(@PathVariable("provider") String providerId) {
+        ProviderConfigSnapshot.ProviderRuntime runtime = providerRegistry.current().find(providerId);
+        if (runtime == null) {
+            return unknownProvider(providerId);
+        }
+        String displayName = runtime.descriptor().displayName();
+
+        System.out.println("=== " + displayName + " 기본 핸들러 요청 수신 ===");
+        System.out.println("============================");
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", displayName + " 요청이 성공적으로 처리되었습니다.");
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    private static void printAuthorizationHeader(String authHeader) {
+        // Authorization 헤더에서 토큰 출력 및 JWT 파싱
+        if (authHeader != null) {
+            System.out.println("Authorization 헤더: " + authHeader);
+            if (authHeader.startsWith("Bearer ")) {
+                String token = authHeader.substring(7);
+                System.out.println("추출된 토큰: " + token.substring(0, Math.min(token.length(), 50)) + "...");
+                // JWT 토큰 파싱 및 정보 출력
+                System.out.println(JwtUtil.formatTokenInfo(authHeader));
+            }
+        } else {
+            System.out.println("Authorization 헤더 없음");
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> unknownProvider(String providerId) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "success", false,
+                "message", "지원하지 않는 로그인 제공자입니다: " + providerId));
+    }
+}
@@ -0,0 +1,61 @@
+package kr.minsol.api.services.oauthservice.provider;
+
+import kr.minsol.api.services.oauthservice.client.OAuthTokenResponse;
+
+import java.util.Map;
+
+/**
+ * OAuth 제공자 어댑터 SPI
+ * 제공자별로 다른 부분(엔드포인트, 스코프, 응답 타입, 사용자 정보 매핑)만 구현하면
+ * 인증 URL 생성, 콜백 파이프라인, 토큰 저장, 감사 로그는 OAuthController/OAuthCallbackPipeline이 공통으로 처리합니다.
+ * 스프링 빈으로 등록하면 /api/auth/{id}/** 로 자동 노출됩니다.
+ *
+ * @param <U> 제공자 사용자 정보 응답 타입
+ */
+public interface OAuthProvider<U> {
+
+    ProviderDescriptor descriptor();
+
+    /**
+     * Authorization Code를 Access Token으로 교환
+     *
+     * @param credentials 현재 설정 스냅샷의 자격 증명
+     * @param state       인가 요청 state (필요한 제공자만 사용)
+     */
+    OAuthTokenResponse getAccessToken(ProviderCredentials credentials, String code, String state);
+
+    /**
+     * 저장된 Refresh Token으로 Access Token 갱신 (grant_type=refresh_token)
+     * 제공자에 따라 응답에 새 refresh_token이 없을 수 있으며, 이 경우 기존 토큰을 계속 사용합니다.
+     *
+     * @param credentials  현재 설정 스냅샷의 자격 증명
+     * @param refreshToken 제공자에서 받은 원본 Refresh Token
+     */
+    OAuthTokenResponse refreshAccessToken(ProviderCredentials credentials, String refreshToken);
+
+    /**
+     * Access Token으로 사용자 정보 조회
+     */
+    U getUserInfo(String accessToken);
+
+    /**
+     * 사용자 정보 응답에서 JWT 클레임으로 쓸 사용자 정보 추출 (descriptor().userIdKey() 포함)
+     */
+    Map<String, Object> extractUserInfo(U userInfo);
+
+    /**
+     * OIDC 모드 여부 (id_token 로컬 검증으로 사용자 정보 조회 생략)
+     */
+    default boolean isOidcEnabled() {
+        return false;
+    }
+
+    /**
+     * 검증된 id_token에서 extractUserInfo와 같은 형태의 사용자 정보 추출 (OIDC 모드에서만 호출)
+     *
+     * @param credentials 현재 설정 스냅샷의 자격 증명 (aud 검증용 클라이언트 ID)
+     */
+    default Map<String, Object> extractUserInfoFromIdToken(ProviderCredentials credentials, String idToken) {
+        throw new UnsupportedOperationException(descriptor().id() + " OIDC를 지원하지 않습니다.");
+    }
+}
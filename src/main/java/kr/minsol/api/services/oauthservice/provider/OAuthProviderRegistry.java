@@ -0,0 +1,50 @@
+package kr.minsol.api.services.oauthservice.provider;
+
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 등록된 OAuth 제공자 어댑터와 현재 설정 스냅샷
+ * 스냅샷은 시작 시 한 번 만들고, Spring Cloud Config 갱신(EnvironmentChangeEvent) 시 새로 만들어 원자적으로 교체합니다.
+ * 요청은 시작 시점의 스냅샷 하나만 사용하므로 갱신 중에도 설정이 섞이지 않습니다.
+ */
+@Component
+public class OAuthProviderRegistry {
+
+    private final List<OAuthProvider<?>> adapters;
+    private final Environment environment;
+    private final AtomicReference<ProviderConfigSnapshot> snapshot = new AtomicReference<>();
+
+    public OAuthProviderRegistry(List<OAuthProvider<?>> adapters, Environment environment) {
+        this.adapters = List.copyOf(adapters);
+        this.environment = environment;
+        ProviderConfigSnapshot initial = ProviderConfigSnapshot.build(this.adapters, environment);
+        snapshot.set(initial);
+        System.out.println("✅ OAuth 제공자 등록: " + initial.providers().keySet()
+                + ", 프론트엔드: " + initial.frontendUrl());
+    }
+
+    public ProviderConfigSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * 설정 갱신 시 스냅샷 재생성 (자격 증명 교체를 재시작 없이 반영)
+     * 새 스냅샷 생성에 실패하면 기존 스냅샷을 유지합니다.
+     */
+    @EventListener(EnvironmentChangeEvent.class)
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        try {
+            ProviderConfigSnapshot refreshed = ProviderConfigSnapshot.build(adapters, environment);
+            snapshot.set(refreshed);
+            System.out.println("✅ OAuth 제공자 설정 갱신 (변경 키 " + event.getKeys().size() + "개)");
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ OAuth 제공자 설정 갱신 실패 (기존 설정 유지): " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package kr.minsol.api.services.oauthservice.provider;
+
+import org.springframework.core.env.Environment;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * OAuth 제공자 설정 불변 스냅샷
+ * 자격 증명, 인가 URL(state 제외, 인코딩 완료), 프론트엔드 URL을 한 번에 계산해 두고
+ * 요청 처리 중에는 환경 변수 조회나 문자열 조립 없이 읽기만 합니다.
+ * 설정이 바뀌면 새 스냅샷을 만들어 통째로 교체합니다 (OAuthProviderRegistry).
+ */
+public record ProviderConfigSnapshot(Map<String, ProviderRuntime> providers, String frontendUrl) {
+
+    /**
+     * 제공자 실행 설정
+     *
+     * @param authUrlPrefix 인가 URL (끝에 state 값만 붙이면 완성, 설정 오류 시 null)
+     * @param configError   설정 오류 (누락된 환경 변수 이름, 정상이면 null)
+     */
+    public record ProviderRuntime(
+            OAuthProvider<?> provider,
+            ProviderDescriptor descriptor,
+            ProviderCredentials credentials,
+            String authUrlPrefix,
+            String configError,
+            String configErrorMessage) {
+    }
+
+    /**
+     * @return 제공자 실행 설정, 등록되지 않은 제공자면 null
+     */
+    public ProviderRuntime find(String providerId) {
+        return providers.get(providerId);
+    }
+
+    static ProviderConfigSnapshot build(List<OAuthProvider<?>> adapters, Environment environment) {
+        Map<String, ProviderRuntime> runtimes = new LinkedHashMap<>();
+        for (OAuthProvider<?> adapter : adapters) {
+            ProviderDescriptor descriptor = adapter.descriptor();
+            if (runtimes.putIfAbsent(descriptor.id(), compile(adapter, environment)) != null) {
+                throw new IllegalStateException("중복된 OAuth 제공자 ID: " + descriptor.id());
+            }
+        }
+        return new ProviderConfigSnapshot(Map.copyOf(runtimes), resolveFrontendUrl(environment));
+    }
+
+    private static ProviderRuntime compile(OAuthProvider<?> adapter, Environment environment) {
+        ProviderDescriptor descriptor = adapter.descriptor();
+        String clientId = resolve(environment, descriptor.clientIdProperty());
+        String clientSecret = resolve(environment, descriptor.clientSecretProperty());
+        String redirectUri = resolve(environment, descriptor.redirectUriProperty());
+        ProviderCredentials credentials = new ProviderCredentials(clientId, clientSecret, redirectUri);
+
+        if (clientId == null) {
+            return new ProviderRuntime(adapter, descriptor, credentials, null, descriptor.clientIdProperty(),
+                    "서버 설정 오류: " + descriptor.label() + " " + descriptor.clientIdName() + "가 없습니다.");
+        }
+        if (redirectUri == null) {
+            return new ProviderRuntime(adapter, descriptor, credentials, null, descriptor.redirectUriProperty(),
+                    "서버 설정 오류: " + descriptor.label() + " Redirect URI가 없습니다.");
+        }
+
+        List<String> scopes = new ArrayList<>(descriptor.scopes());
+        // OIDC 모드에서는 openid 스코프를 추가하여 토큰 응답에 id_token을 받음
+        if (adapter.isOidcEnabled() && !scopes.contains("openid")) {
+            scopes.add(0, "openid");
+        }
+
+        StringBuilder url = new StringBuilder(descriptor.authorizationEndpoint())
+                .append("?response_type=code&client_id=").append(URLEncoder.encode(clientId, StandardCharsets.UTF_8))
+                .append("&redirect_uri=").append(URLEncoder.encode(redirectUri, StandardCharsets.UTF_8));
+        if (!scopes.isEmpty()) {
+            url.append("&scope=").append(String.join("%20", scopes));
+        }
+        url.append("&state=");
+        return new ProviderRuntime(adapter, descriptor, credentials, url.toString(), null, null);
+    }
+
+    /**
+     * 설정 값 조회 - 설정 파일 키(kakao.rest-api-key 등) → railway 프로파일의 oauth.* 키 → 환경 변수 순
+     * 빈 문자열은 설정되지 않은 것으로 봅니다 (${KAKAO_REST_API_KEY:} 같은 빈 기본값).
+     *
+     * @param envName 환경 변수 이름 (KAKAO_REST_API_KEY → kakao.rest-api-key, oauth.kakao.rest-api-key)
+     * @return 설정 값, 없으면 null
+     */
+    private static String resolve(Environment environment, String envName) {
+        String key = propertyKey(envName);
+        String value = environment.getProperty(key);
+        if (value == null || value.isEmpty()) {
+            value = environment.getProperty("oauth." + key);
+        }
+        if (value == null || value.isEmpty()) {
+            value = environment.getProperty(envName);
+        }
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 환경 변수 이름 → 설정 키 (첫 구간이 제공자, 나머지는 kebab-case)
+     */
+    private static String propertyKey(String envName) {
+        String lower = envName.toLowerCase(Locale.ROOT);
+        int separator = lower.indexOf('_');
+        return separator < 0 ? lower
+                : lower.substring(0, separator) + "." + lower.substring(separator + 1).replace('_', '-');
+    }
+
+    /**
+     * 프론트엔드 도메인 (frontend.url 설정, 없으면 실행 환경에 따른 기본값)
+     */
+    private static String resolveFrontendUrl(Environment environment) {
+        String frontendUrl = environment.getProperty("frontend.url");
+        if (frontendUrl == null || frontendUrl.isEmpty()) {
+            frontendUrl = environment.getProperty("FRONTEND_URL");
+        }
+        if (frontendUrl == null || frontendUrl.isEmpty()) {
+            // 프로덕션 환경 감지: 프로덕션/railway 프로파일, Railway, AWS
+            if (environment.matchesProfiles("prod", "production", "railway")
+                    || environment.getProperty("RAILWAY_ENVIRONMENT") != null
+                    || environment.getProperty("AWS_REGION") != null) {
+                frontendUrl = "https://www.minsol.kr";
+            } else {
+                frontendUrl = "http://localhost:3000";
+            }
+        }
+        // 프로토콜이 없으면 https:// 추가
+        if (!frontendUrl.startsWith("http://") && !frontendUrl.startsWith("https://")) {
+            frontendUrl = "https://" + frontendUrl;
+        }
+        return frontendUrl;
+    }
+}
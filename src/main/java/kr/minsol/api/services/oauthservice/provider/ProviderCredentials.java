@@ -0,0 +1,9 @@
+package kr.minsol.api.services.oauthservice.provider;
+
+/**
+ * 제공자 클라이언트 자격 증명 (설정 스냅샷에 포함되어 갱신 시 함께 교체됨)
+ *
+ * @param clientSecret 없으면 null (카카오는 선택 사항)
+ */
+public record ProviderCredentials(String clientId, String clientSecret, String redirectUri) {
+}
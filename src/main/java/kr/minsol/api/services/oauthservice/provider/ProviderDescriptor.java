@@ -0,0 +1,34 @@
+package kr.minsol.api.services.oauthservice.provider;
+
+import java.util.List;
+
+/**
+ * OAuth 제공자 정적 메타데이터
+ *
+ * @param id                    제공자 키 (URL 경로, 저장소 키: kakao, google, naver)
+ * @param displayName           메시지용 이름 (카카오, 구글, 네이버)
+ * @param label                 로그 접두사용 이름 (Kakao, Google, Naver)
+ * @param userIdKey             extractUserInfo 결과에서 사용자 ID 키
+ * @param defaultExpiresIn      토큰 응답에 expires_in이 없을 때 OAuth Access Token 만료 시간 (초)
+ * @param authorizationEndpoint 인가 요청 엔드포인트
+ * @param scopes                인가 요청 스코프 (OIDC 모드에서는 openid가 자동 추가됨)
+ * @param clientIdProperty      클라이언트 ID 환경 변수 이름 (설정 키 kakao.rest-api-key 등은 이 이름에서 계산, 환경 변수는 대체값)
+ * @param clientIdName          오류 메시지용 클라이언트 ID 명칭 (REST API Key, Client ID)
+ * @param clientSecretProperty  Client Secret 환경 변수 이름
+ * @param redirectUriProperty   Redirect URI 환경 변수 이름
+ * @param missingCodeErrorParam GET 콜백에 인증 코드가 없을 때 프론트엔드 URL에 ?error= 를 붙일지 여부
+ */
+public record ProviderDescriptor(
+        String id,
+        String displayName,
+        String label,
+        String userIdKey,
+        long defaultExpiresIn,
+        String authorizationEndpoint,
+        List<String> scopes,
+        String clientIdProperty,
+        String clientIdName,
+        String clientSecretProperty,
+        String redirectUriProperty,
+        boolean missingCodeErrorParam) {
+}
@@ -0,0 +1,135 @@
+package kr.minsol.api.services.oauthservice.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 호출 횟수 기반 슬라이딩 윈도우 서킷 브레이커
+ * - CLOSED: 최근 windowSize 호출 중 실패율이 임계값 이상이면 OPEN
+ * - OPEN: openDuration 동안 모든 호출을 즉시 거부, 이후 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls 개의 시험 호출만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 OPEN
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration,
+            int halfOpenCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 종료해야 함)
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 제공자 장애와 무관한 결과 (예: 잘못된 인가 코드로 인한 4xx) - 시험 호출 슬롯만 반환
+     */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    synchronized int getFailureRate() {
+        return recordedCalls == 0 ? 0 : failedCalls * 100 / recordedCalls;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            if (outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (newState == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (newState == State.CLOSED) {
+            Arrays.fill(outcomes, false);
+            outcomeIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
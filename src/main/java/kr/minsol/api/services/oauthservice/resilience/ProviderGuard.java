@@ -0,0 +1,132 @@
+package kr.minsol.api.services.oauthservice.resilience;
+
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 제공자 하나에 대한 벌크헤드(동시 호출 제한) + 서킷 브레이커
+ * 허용량을 넘거나 서킷이 열려 있으면 기다리지 않고 ProviderUnavailableException으로 즉시 실패합니다.
+ */
+public class ProviderGuard {
+
+    private final String provider;
+    private final int maxConcurrentCalls;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    private final LongAdder successCalls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    ProviderGuard(String provider, int maxConcurrentCalls, int windowSize, int minimumCalls,
+            int failureRateThreshold, Duration openDuration, int halfOpenCalls) {
+        this.provider = provider;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDuration,
+                halfOpenCalls);
+    }
+
+    /**
+     * 보호된 제공자 호출
+     *
+     * @param operation 로그/오류 메시지용 작업 이름 (예: 토큰 교환)
+     */
+    public <T> T execute(String operation, Supplier<T> call) {
+        if (!bulkhead.tryAcquire()) {
+            rejectedCalls.increment();
+            throw new ProviderUnavailableException(provider,
+                    provider + " " + operation + " 동시 호출 한도 초과 (" + maxConcurrentCalls + ")");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                rejectedCalls.increment();
+                throw new ProviderUnavailableException(provider,
+                        provider + " " + operation + " 일시 차단 중 (서킷 OPEN)");
+            }
+            try {
+                T result = call.get();
+                circuitBreaker.onSuccess();
+                successCalls.increment();
+                return result;
+            } catch (RuntimeException e) {
+                if (isClientError(e)) {
+                    // 잘못된/만료된 인가 코드 등 요청 자체의 문제는 제공자 장애로 보지 않음
+                    circuitBreaker.onIgnored();
+                } else {
+                    circuitBreaker.onFailure();
+                    failedCalls.increment();
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public String getState() {
+        return circuitBreaker.getState().name();
+    }
+
+    /**
+     * 서킷 상태 수치 (0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN) - 메트릭용
+     */
+    public int getStateCode() {
+        return circuitBreaker.getState().ordinal();
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    public int getFailureRate() {
+        return circuitBreaker.getFailureRate();
+    }
+
+    public long getSuccessCalls() {
+        return successCalls.sum();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    /**
+     * 현재 상태 요약
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("state", getState());
+        state.put("failure_rate", getFailureRate());
+        state.put("max_concurrent_calls", maxConcurrentCalls);
+        state.put("available_concurrent_calls", getAvailableConcurrentCalls());
+        state.put("success_calls", getSuccessCalls());
+        state.put("failed_calls", getFailedCalls());
+        state.put("rejected_calls", getRejectedCalls());
+        return state;
+    }
+
+    private static boolean isClientError(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpClientErrorException clientError
+                    && clientError.getStatusCode().value() != 429) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
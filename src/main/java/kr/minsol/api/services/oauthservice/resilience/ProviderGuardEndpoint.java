@@ -0,0 +1,26 @@
+package kr.minsol.api.services.oauthservice.resilience;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 제공자별 벌크헤드/서킷 상태 조회 (/actuator/oauthproviders)
+ */
+@Component
+@Endpoint(id = "oauthproviders")
+public class ProviderGuardEndpoint {
+
+    private final ProviderGuards providerGuards;
+
+    public ProviderGuardEndpoint(ProviderGuards providerGuards) {
+        this.providerGuards = providerGuards;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> providers() {
+        return providerGuards.describe();
+    }
+}
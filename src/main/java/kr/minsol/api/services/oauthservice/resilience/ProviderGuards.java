@@ -0,0 +1,98 @@
+package kr.minsol.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.minsol.api.services.oauthservice.provider.OAuthProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 제공자별 ProviderGuard 레지스트리
+ * 제공자마다 독립된 벌크헤드/서킷을 두어 한 제공자의 장애가 다른 제공자의 처리 용량을 잠식하지 않도록 합니다.
+ *
+ * 설정: oauth.resilience.* 기본값, oauth.resilience.providers.{provider}.* 로 제공자별 재정의
+ */
+@Component
+public class ProviderGuards {
+
+    private static final String PREFIX = "oauth.resilience.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final List<OAuthProvider<?>> providers;
+    private final Map<String, ProviderGuard> guards = new ConcurrentHashMap<>();
+
+    public ProviderGuards(Environment environment, ObjectProvider<MeterRegistry> meterRegistryProvider,
+            List<OAuthProvider<?>> providers) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable();
+        this.providers = providers;
+    }
+
+    /**
+     * 시작 시 미리 생성하여 첫 호출 전에도 상태/메트릭이 노출되도록 함
+     */
+    @PostConstruct
+    public void init() {
+        providers.forEach(provider -> get(provider.descriptor().id()));
+    }
+
+    public ProviderGuard get(String provider) {
+        return guards.computeIfAbsent(provider, this::create);
+    }
+
+    /**
+     * 생성된 모든 제공자의 현재 상태
+     */
+    public Map<String, Map<String, Object>> describe() {
+        Map<String, Map<String, Object>> states = new LinkedHashMap<>();
+        guards.values().stream()
+                .sorted((a, b) -> a.getProvider().compareTo(b.getProvider()))
+                .forEach(guard -> states.put(guard.getProvider(), guard.describe()));
+        return states;
+    }
+
+    private ProviderGuard create(String provider) {
+        ProviderGuard guard = new ProviderGuard(provider,
+                property(provider, "max-concurrent-calls", Integer.class, 20),
+                property(provider, "sliding-window-size", Integer.class, 20),
+                property(provider, "minimum-calls", Integer.class, 10),
+                property(provider, "failure-rate-threshold", Integer.class, 50),
+                property(provider, "open-duration", Duration.class, Duration.ofSeconds(30)),
+                property(provider, "half-open-calls", Integer.class, 3));
+
+        if (meterRegistry != null) {
+            Gauge.builder("oauth.provider.circuit.state", guard, ProviderGuard::getStateCode)
+                    .description("서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                    .tag("provider", provider)
+                    .register(meterRegistry);
+            Gauge.builder("oauth.provider.bulkhead.available", guard, ProviderGuard::getAvailableConcurrentCalls)
+                    .tag("provider", provider)
+                    .register(meterRegistry);
+            FunctionCounter.builder("oauth.provider.calls", guard, ProviderGuard::getSuccessCalls)
+                    .tags("provider", provider, "result", "success")
+                    .register(meterRegistry);
+            FunctionCounter.builder("oauth.provider.calls", guard, ProviderGuard::getFailedCalls)
+                    .tags("provider", provider, "result", "failure")
+                    .register(meterRegistry);
+            FunctionCounter.builder("oauth.provider.calls", guard, ProviderGuard::getRejectedCalls)
+                    .tags("provider", provider, "result", "rejected")
+                    .register(meterRegistry);
+        }
+        return guard;
+    }
+
+    private <T> T property(String provider, String name, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(PREFIX + "providers." + provider + "." + name, type);
+        return value != null ? value : environment.getProperty(PREFIX + name, type, defaultValue);
+    }
+}
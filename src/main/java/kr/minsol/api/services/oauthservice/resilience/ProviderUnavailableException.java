@@ -0,0 +1,18 @@
+package kr.minsol.api.services.oauthservice.resilience;
+
+/**
+ * 제공자 호출이 벌크헤드 포화 또는 서킷 OPEN 상태로 즉시 거부되었을 때 발생
+ */
+public class ProviderUnavailableException extends RuntimeException {
+
+    private final String provider;
+
+    public ProviderUnavailableException(String provider, String message) {
+        super(message);
+        this.provider = provider;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+}
@@ -1,27 +1,84 @@
 package kr.minsol.api.services.oauthservice.token;
 
+import kr.minsol.api.services.oauthservice.audit.AuthAuditService;
+import kr.minsol.api.services.oauthservice.audit.AuthEventType;
+import kr.minsol.api.services.oauthservice.token.cache.LocalTokenCache;
+import kr.minsol.api.services.oauthservice.token.cache.LocalTokenCache.CachedToken;
 import kr.minsol.api.services.oauthservice.token.entity.OAuthToken;
+import kr.minsol.api.services.oauthservice.token.onetime.OneTimeValueStore;
+import kr.minsol.api.services.oauthservice.token.refresh.TokenRefreshRepository.RefreshCandidate;
+import kr.minsol.api.services.oauthservice.token.refresh.TokenRefreshRepository.RefreshedToken;
 import kr.minsol.api.services.oauthservice.token.repository.OAuthTokenRepository;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Service
 public class TokenService {
+
+    // 토큰마다 KEYS: access, refresh / ARGV: 갱신에 사용한 refresh, 새 access, access TTL, 새 refresh(없으면 빈 값), refresh TTL
+    // 저장된 refresh가 없거나 갱신에 사용한 값과 같을 때만 반영 → 반영 건수
+    private static final RedisScript<Long> SAVE_REFRESHED_SCRIPT = new DefaultRedisScript<>(
+            "local applied = 0 "
+                    + "for i = 1, #KEYS / 2 do "
+                    + "local a = (i - 1) * 5 "
+                    + "local current = redis.call('GET', KEYS[2 * i]) "
+                    + "if not current or current == ARGV[a + 1] then "
+                    + "redis.call('SET', KEYS[2 * i - 1], ARGV[a + 2], 'EX', tonumber(ARGV[a + 3])) "
+                    + "if #ARGV[a + 4] > 0 then "
+                    + "redis.call('SET', KEYS[2 * i], ARGV[a + 4], 'EX', tonumber(ARGV[a + 5])) "
+                    + "elseif current then "
+                    + "redis.call('EXPIRE', KEYS[2 * i], tonumber(ARGV[a + 5])) "
+                    + "end "
+                    + "applied = applied + 1 "
+                    + "end "
+                    + "end "
+                    + "return applied",
+            Long.class);
+
+    // KEYS[i]의 값이 ARGV[i]와 같을 때만 삭제 → 삭제 건수
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "local deleted = 0 "
+                    + "for i = 1, #KEYS do "
+                    + "if redis.call('GET', KEYS[i]) == ARGV[i] then "
+                    + "deleted = deleted + redis.call('DEL', KEYS[i]) "
+                    + "end "
+                    + "end "
+                    + "return deleted",
+            Long.class);
+
     private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
     private final OAuthTokenRepository oAuthTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LocalTokenCache localTokenCache;
+    private final AuthAuditService authAuditService;
+    private final OneTimeValueStore oneTimeValueStore;
 
     public TokenService(
             ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
-            @Autowired(required = false) OAuthTokenRepository oAuthTokenRepository) {
+            @Autowired(required = false) OAuthTokenRepository oAuthTokenRepository,
+            @Autowired(required = false) PlatformTransactionManager transactionManager,
+            ObjectProvider<LocalTokenCache> localTokenCacheProvider,
+            AuthAuditService authAuditService,
+            OneTimeValueStore oneTimeValueStore) {
         this.redisTemplateProvider = redisTemplateProvider;
         this.oAuthTokenRepository = oAuthTokenRepository;
+        this.transactionTemplate = transactionManager != null ? new TransactionTemplate(transactionManager) : null;
+        this.localTokenCache = localTokenCacheProvider.getIfAvailable();
+        this.authAuditService = authAuditService;
+        this.oneTimeValueStore = oneTimeValueStore;
         if (redisTemplateProvider.getIfAvailable() == null) {
             System.out.println("⚠️ RedisTemplate이 없습니다. TokenService는 메모리 모드로 동작합니다.");
         }
@@ -36,8 +93,9 @@ public class TokenService {
 
     /**
      * Neon(PostgreSQL)에 토큰 저장
+     * 조회와 저장을 하나의 쓰기 트랜잭션으로 묶어 Primary에서 upsert 되도록 합니다.
+     * (private 메서드의 @Transactional은 프록시가 적용되지 않으므로 TransactionTemplate 사용)
      */
-    @Transactional
     private void saveTokenToNeon(String provider, String userId,
             String oauthAccessToken, String oauthRefreshToken,
             String jwtAccessToken, String jwtRefreshToken,
@@ -47,39 +105,123 @@ public class TokenService {
         }
 
         try {
-            Optional<OAuthToken> existingToken = oAuthTokenRepository.findByProviderAndUserId(provider, userId);
-
-            OAuthToken token;
-            if (existingToken.isPresent()) {
-                token = existingToken.get();
+            if (transactionTemplate != null) {
+                transactionTemplate.executeWithoutResult(status -> upsertToken(provider, userId,
+                        oauthAccessToken, oauthRefreshToken, jwtAccessToken, jwtRefreshToken,
+                        oauthExpireTime, jwtAccessExpireTime, jwtRefreshExpireTime));
             } else {
-                token = new OAuthToken();
-                token.setProvider(provider);
-                token.setUserId(userId);
-            }
-
-            token.setOauthAccessToken(oauthAccessToken != null ? oauthAccessToken : token.getOauthAccessToken());
-            if (oauthRefreshToken != null) {
-                token.setOauthRefreshToken(oauthRefreshToken);
-            }
-            token.setJwtAccessToken(jwtAccessToken);
-            token.setJwtRefreshToken(jwtRefreshToken);
-
-            LocalDateTime now = LocalDateTime.now();
-            if (oauthExpireTime > 0) {
-                token.setExpiresAt(now.plusSeconds(oauthExpireTime));
+                upsertToken(provider, userId, oauthAccessToken, oauthRefreshToken,
+                        jwtAccessToken, jwtRefreshToken,
+                        oauthExpireTime, jwtAccessExpireTime, jwtRefreshExpireTime);
             }
-            token.setJwtAccessTokenExpiresAt(now.plusSeconds(jwtAccessExpireTime));
-            token.setJwtRefreshTokenExpiresAt(now.plusSeconds(jwtRefreshExpireTime));
-
-            oAuthTokenRepository.save(token);
             System.out.println("✅ Neon 저장 완료 - Provider: " + provider + ", UserId: " + userId);
+            invalidateLocalCache(provider, userId);
         } catch (Exception e) {
             System.err.println("⚠️ Neon 저장 실패 (계속 진행): " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    private void upsertToken(String provider, String userId,
+            String oauthAccessToken, String oauthRefreshToken,
+            String jwtAccessToken, String jwtRefreshToken,
+            long oauthExpireTime, long jwtAccessExpireTime, long jwtRefreshExpireTime) {
+        Optional<OAuthToken> existingToken = oAuthTokenRepository.findByProviderAndUserId(provider, userId);
+
+        OAuthToken token;
+        if (existingToken.isPresent()) {
+            token = existingToken.get();
+        } else {
+            token = new OAuthToken();
+            token.setProvider(provider);
+            token.setUserId(userId);
+        }
+
+        token.setOauthAccessToken(oauthAccessToken != null ? oauthAccessToken : token.getOauthAccessToken());
+        if (oauthRefreshToken != null) {
+            token.setOauthRefreshToken(oauthRefreshToken);
+        }
+        token.setJwtAccessToken(jwtAccessToken);
+        token.setJwtRefreshToken(jwtRefreshToken);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (oauthExpireTime > 0) {
+            token.setExpiresAt(now.plusSeconds(oauthExpireTime));
+        }
+        token.setJwtAccessTokenExpiresAt(now.plusSeconds(jwtAccessExpireTime));
+        token.setJwtRefreshTokenExpiresAt(now.plusSeconds(jwtRefreshExpireTime));
+
+        oAuthTokenRepository.save(token);
+    }
+
+    /**
+     * Neon(PostgreSQL)에 저장된 토큰 조회
+     * 바깥 트랜잭션이 없으면 리포지토리의 readOnly 트랜잭션으로 실행되어 Replica(활성화 시)에서 조회하고,
+     * 쓰기 트랜잭션 안에서 호출되면 그 트랜잭션에 참여해 Primary에서 조회합니다.
+     *
+     * @param provider 소셜 로그인 제공자
+     * @param userId   사용자 ID
+     * @return 저장된 토큰 (없거나 Neon 미사용 시 empty)
+     */
+    public Optional<OAuthToken> findStoredToken(String provider, String userId) {
+        if (oAuthTokenRepository == null) {
+            return Optional.empty();
+        }
+        try {
+            return oAuthTokenRepository.findByProviderAndUserId(provider, userId);
+        } catch (Exception e) {
+            System.err.println("⚠️ Neon 조회 실패: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Neon 저장 토큰 조회 (로컬 캐시가 활성화되어 있으면 캐시 우선)
+     * 캐시를 채우는 조회는 Primary에서 합니다 (Replica 지연으로 무효화 직후의 오래된 행이 TTL 동안 캐시되지 않도록).
+     */
+    private Optional<CachedToken> loadStoredToken(String provider, String userId) {
+        if (localTokenCache == null) {
+            return findStoredToken(provider, userId).map(TokenService::toCachedToken);
+        }
+        CachedToken cached = localTokenCache.get(provider, userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long stamp = localTokenCache.stamp(provider, userId);
+        Optional<CachedToken> stored = findStoredTokenOnPrimary(provider, userId).map(TokenService::toCachedToken);
+        stored.ifPresent(token -> localTokenCache.putIfNotInvalidated(provider, userId, token, stamp));
+        return stored;
+    }
+
+    /**
+     * 쓰기 트랜잭션으로 조회 - 라우팅 데이터소스가 Primary 커넥션을 사용
+     * (리포지토리의 readOnly 트랜잭션은 바깥 트랜잭션에 참여하므로 Replica로 가지 않음)
+     */
+    private Optional<OAuthToken> findStoredTokenOnPrimary(String provider, String userId) {
+        if (transactionTemplate == null) {
+            return findStoredToken(provider, userId);
+        }
+        try {
+            return transactionTemplate.execute(status -> findStoredToken(provider, userId));
+        } catch (Exception e) {
+            System.err.println("⚠️ Neon 조회 실패: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static CachedToken toCachedToken(OAuthToken token) {
+        return new CachedToken(token.getOauthAccessToken(), token.getOauthRefreshToken(), token.getExpiresAt());
+    }
+
+    /**
+     * 로컬 캐시 무효화 (다른 노드에는 LISTEN/NOTIFY 채널로 전파)
+     */
+    private void invalidateLocalCache(String provider, String userId) {
+        if (localTokenCache != null) {
+            localTokenCache.invalidate(provider, userId);
+        }
+    }
+
     /**
      * Access Token 저장 (Redis에만 저장)
      * 
@@ -170,41 +312,78 @@ public class TokenService {
             redisTemplate.get().delete(accessKey);
             redisTemplate.get().delete(refreshKey);
         }
+        authAuditService.recordSuccess(AuthEventType.LOGOUT, provider, userId);
     }
 
     /**
-     * Authorization Code 저장 (임시 저장용)
+     * Authorization Code 저장 (임시 저장용, 1회용)
      * 
      * @param provider   소셜 로그인 제공자
      * @param code       Authorization Code
      * @param expireTime 만료 시간 (초, 기본 10분)
      */
     public void saveAuthorizationCode(String provider, String code, String state, long expireTime) {
-        Optional<RedisTemplate<String, Object>> redisTemplate = getRedisTemplate();
-        if (redisTemplate.isPresent()) {
-            String key = String.format("code:%s:%s", provider, code);
-            redisTemplate.get().opsForValue().set(key, state != null ? state : "", expireTime, TimeUnit.SECONDS);
-        }
+        oneTimeValueStore.put(String.format("code:%s:%s", provider, code), state, Duration.ofSeconds(expireTime));
     }
 
     /**
      * Authorization Code 검증 및 삭제
+     * 조회와 삭제를 한 번에 원자적으로 수행하므로 동시 요청 중 하나만 성공합니다.
      * 
      * @param provider 소셜 로그인 제공자
      * @param code     Authorization Code
      * @return state 값 (있으면 반환, 없으면 null)
      */
     public String verifyAndDeleteAuthorizationCode(String provider, String code) {
-        Optional<RedisTemplate<String, Object>> redisTemplate = getRedisTemplate();
-        if (redisTemplate.isPresent()) {
-            String key = String.format("code:%s:%s", provider, code);
-            Object state = redisTemplate.get().opsForValue().get(key);
-            if (state != null) {
-                redisTemplate.get().delete(key);
-                return state.toString();
-            }
+        return oneTimeValueStore.consume(String.format("code:%s:%s", provider, code));
+    }
+
+    /**
+     * OAuth 인가 요청 state 저장 (인증 URL 생성 시, 1회용)
+     *
+     * @param provider 소셜 로그인 제공자
+     * @param state    인가 요청 state
+     * @param ttl      만료 시간 (사용자가 로그인 화면에 머무는 시간)
+     */
+    public void saveOAuthState(String provider, String state, Duration ttl) {
+        try {
+            oneTimeValueStore.put(String.format("state:%s:%s", provider, state), "1", ttl);
+        } catch (Exception e) {
+            System.err.println("⚠️ state 저장 실패 (계속 진행): " + e.getMessage());
         }
-        return null;
+    }
+
+    /**
+     * OAuth 인가 요청 state 확인 (소비하지 않음 - 토큰 교환 전 사전 검증)
+     *
+     * @param provider 소셜 로그인 제공자
+     * @param state    콜백으로 돌아온 state
+     * @return 이 서버가 발급했고 아직 사용되지 않은 state이면 true
+     */
+    public boolean isOAuthStateValid(String provider, String state) {
+        if (state == null || state.isEmpty()) {
+            return false;
+        }
+        try {
+            return oneTimeValueStore.peek(String.format("state:%s:%s", provider, state)) != null;
+        } catch (Exception e) {
+            System.err.println("⚠️ state 조회 실패: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * OAuth 인가 요청 state 검증 및 소비 (콜백 시)
+     *
+     * @param provider 소셜 로그인 제공자
+     * @param state    콜백으로 돌아온 state
+     * @return 이 서버가 발급했고 아직 사용되지 않은 state이면 true
+     */
+    public boolean consumeOAuthState(String provider, String state) {
+        if (state == null || state.isEmpty()) {
+            return false;
+        }
+        return oneTimeValueStore.consume(String.format("state:%s:%s", provider, state)) != null;
     }
 
     /**
@@ -284,10 +463,79 @@ public class TokenService {
         saveTokenToNeon(provider, userId, oauthAccessToken, oauthRefreshToken,
                 jwtAccessToken, jwtRefreshToken,
                 oauthExpireTime, jwtAccessExpireTime, jwtRefreshExpireTime);
+        authAuditService.recordSuccess(AuthEventType.TOKEN_SAVE, provider, userId);
+    }
+
+    /**
+     * 백그라운드 갱신된 OAuth 제공자 토큰을 Redis에 일괄 반영 (스크립트 호출 한 번)
+     * Neon 반영은 TokenRefreshRepository가 배치로 처리하며, 여기서는 로컬 캐시만 무효화합니다.
+     * 제공자가 Refresh Token을 재발급하지 않았으면 기존 Refresh Token 키의 TTL만 연장합니다.
+     * Redis의 Refresh Token이 갱신에 사용한 값과 다르면(그 사이 다시 로그인) 새로 저장된 토큰을 덮어쓰지 않습니다.
+     *
+     * @param tokens 갱신된 토큰 목록
+     */
+    public void saveRefreshedOAuthTokens(List<RefreshedToken> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        Optional<RedisTemplate<String, Object>> redisTemplate = getRedisTemplate();
+        if (redisTemplate.isPresent()) {
+            List<String> keys = new ArrayList<>(tokens.size() * 2);
+            List<Object> args = new ArrayList<>(tokens.size() * 5);
+            for (RefreshedToken token : tokens) {
+                keys.add(String.format("oauth:%s:%s:access", token.provider(), token.userId()));
+                keys.add(String.format("oauth:%s:%s:refresh", token.provider(), token.userId()));
+                args.add(token.previousRefreshToken());
+                args.add(token.accessToken());
+                args.add(token.expiresInSeconds());
+                args.add(token.refreshToken());
+                args.add(token.refreshTtlSeconds());
+            }
+            try {
+                Long applied = redisTemplate.get().execute(SAVE_REFRESHED_SCRIPT, keys, args.toArray());
+                System.out.println("✅ Redis 일괄 저장 - 갱신된 OAuth 토큰 " + applied + "/" + tokens.size() + "건");
+            } catch (Exception e) {
+                System.err.println("⚠️ Redis 일괄 저장 실패 (계속 진행): 갱신된 OAuth 토큰 저장 중 오류 - " + e.getMessage());
+            }
+        }
+        for (RefreshedToken token : tokens) {
+            invalidateLocalCache(token.provider(), token.userId());
+        }
+    }
+
+    /**
+     * 폐기된 OAuth 제공자 Refresh Token을 Redis에서 일괄 삭제
+     * (Neon의 oauth_refresh_token은 TokenRefreshRepository가 비움)
+     * 저장된 값이 폐기된 토큰과 같을 때만 삭제합니다 (그 사이 다시 로그인해 받은 토큰은 유지).
+     *
+     * @param candidates 갱신이 거부된 토큰 목록
+     */
+    public void deleteRevokedOAuthRefreshTokens(List<RefreshCandidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Optional<RedisTemplate<String, Object>> redisTemplate = getRedisTemplate();
+        if (redisTemplate.isPresent()) {
+            List<String> keys = new ArrayList<>(candidates.size());
+            List<Object> args = new ArrayList<>(candidates.size());
+            for (RefreshCandidate candidate : candidates) {
+                keys.add(String.format("oauth:%s:%s:refresh", candidate.provider(), candidate.userId()));
+                args.add(candidate.refreshToken());
+            }
+            try {
+                redisTemplate.get().execute(DELETE_IF_EQUALS_SCRIPT, keys, args.toArray());
+            } catch (Exception e) {
+                System.err.println("⚠️ Redis 삭제 실패 (계속 진행): " + e.getMessage());
+            }
+        }
+        for (RefreshCandidate candidate : candidates) {
+            invalidateLocalCache(candidate.provider(), candidate.userId());
+        }
     }
 
     /**
      * OAuth 제공자 원본 Access Token 조회
+     * Redis에 없으면 Neon에 저장된 만료 전 토큰을 조회합니다.
      * 
      * @param provider 소셜 로그인 제공자
      * @param userId   사용자 ID
@@ -298,13 +546,19 @@ public class TokenService {
         if (redisTemplate.isPresent()) {
             String key = String.format("oauth:%s:%s:access", provider, userId);
             Object token = redisTemplate.get().opsForValue().get(key);
-            return token != null ? token.toString() : null;
+            if (token != null) {
+                return token.toString();
+            }
         }
-        return null;
+        return loadStoredToken(provider, userId)
+                .filter(token -> token.expiresAt() != null && token.expiresAt().isAfter(LocalDateTime.now()))
+                .map(CachedToken::oauthAccessToken)
+                .orElse(null);
     }
 
     /**
      * OAuth 제공자 원본 Refresh Token 조회
+     * Redis에 없으면 Neon에 저장된 토큰을 조회합니다.
      * 
      * @param provider 소셜 로그인 제공자
      * @param userId   사용자 ID
@@ -315,13 +569,18 @@ public class TokenService {
         if (redisTemplate.isPresent()) {
             String key = String.format("oauth:%s:%s:refresh", provider, userId);
             Object token = redisTemplate.get().opsForValue().get(key);
-            return token != null ? token.toString() : null;
+            if (token != null) {
+                return token.toString();
+            }
         }
-        return null;
+        return loadStoredToken(provider, userId)
+                .map(CachedToken::oauthRefreshToken)
+                .orElse(null);
     }
 
     /**
      * OAuth 제공자 원본 토큰 삭제
+     * Redis 키와 Neon 저장 토큰을 함께 삭제하고 로컬 캐시를 무효화합니다.
      * 
      * @param provider 소셜 로그인 제공자
      * @param userId   사용자 ID
@@ -334,5 +593,14 @@ public class TokenService {
             redisTemplate.get().delete(accessKey);
             redisTemplate.get().delete(refreshKey);
         }
+        if (oAuthTokenRepository != null) {
+            try {
+                oAuthTokenRepository.deleteByProviderAndUserId(provider, userId);
+            } catch (Exception e) {
+                System.err.println("⚠️ Neon 삭제 실패 (계속 진행): " + e.getMessage());
+            }
+        }
+        invalidateLocalCache(provider, userId);
+        authAuditService.recordSuccess(AuthEventType.TOKEN_DELETE, provider, userId);
     }
 }
@@ -0,0 +1,128 @@
+package kr.minsol.api.services.oauthservice.token.admin;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 활성 세션 조회/내보내기 관리자 API
+ * X-Admin-Key 헤더가 admin.api-key 설정값과 일치해야 하며, 키가 설정되지 않으면 비활성화됩니다.
+ */
+@RestController
+@RequestMapping("/api/admin/sessions")
+public class SessionAdminController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final SessionAdminService sessionAdminService;
+    private final byte[] adminApiKey;
+
+    public SessionAdminController(
+            SessionAdminService sessionAdminService,
+            @Value("${admin.api-key:}") String adminApiKey) {
+        this.sessionAdminService = sessionAdminService;
+        this.adminApiKey = adminApiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 세션 목록 조회 (keyset 페이지네이션)
+     * 응답의 next_cursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회합니다.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> listSessions(
+            @RequestHeader(value = "X-Admin-Key", required = false) String adminKey,
+            @RequestParam(required = false) String provider,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresBefore,
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @RequestParam(defaultValue = "provider") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (!isAuthorized(adminKey)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+                    "success", false,
+                    "message", "관리자 권한이 없습니다."));
+        }
+
+        try {
+            SessionQuery query = buildQuery(provider, expiresBefore, activeOnly, sort, cursor);
+            SessionAdminService.SessionPage page = sessionAdminService.listSessions(
+                    query, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("sessions", page.sessions());
+            response.put("next_cursor", page.nextCursor());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 세션 내보내기 (CSV / NDJSON 스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSessions(
+            @RequestHeader(value = "X-Admin-Key", required = false) String adminKey,
+            @RequestParam(required = false) String provider,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresBefore,
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @RequestParam(defaultValue = "provider") String sort,
+            @RequestParam(defaultValue = "csv") String format) {
+        if (!isAuthorized(adminKey)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        SessionQuery query;
+        SessionAdminService.ExportFormat exportFormat;
+        try {
+            query = buildQuery(provider, expiresBefore, activeOnly, sort, null);
+            exportFormat = SessionAdminService.ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        boolean csv = exportFormat == SessionAdminService.ExportFormat.CSV;
+        StreamingResponseBody body = out -> sessionAdminService.exportSessions(query, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"sessions." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    private SessionQuery buildQuery(String provider, LocalDateTime expiresBefore, boolean activeOnly,
+            String sort, String cursor) {
+        SessionQuery.Sort sortKey = "expires".equalsIgnoreCase(sort)
+                ? SessionQuery.Sort.EXPIRES
+                : SessionQuery.Sort.PROVIDER;
+        SessionQuery.Cursor decoded = cursor != null && !cursor.isEmpty() ? SessionQuery.Cursor.decode(cursor) : null;
+        return new SessionQuery(provider, expiresBefore, activeOnly, sortKey, decoded);
+    }
+
+    private boolean isAuthorized(String adminKey) {
+        if (adminApiKey.length == 0 || adminKey == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(adminApiKey, adminKey.getBytes(StandardCharsets.UTF_8));
+    }
+}
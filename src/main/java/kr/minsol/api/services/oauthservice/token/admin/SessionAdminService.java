@@ -0,0 +1,213 @@
+package kr.minsol.api.services.oauthservice.token.admin;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import kr.minsol.api.services.oauthservice.config.ReplicaLagMonitor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 세션 목록/내보내기 서비스
+ * 모든 조회는 읽기 전용 트랜잭션으로 실행되어 Replica 라우팅 대상이 됩니다.
+ *
+ * 내보내기는 행을 모으지 않고 바로 응답 스트림에 기록합니다.
+ * - Replica 사용 가능: 하나의 읽기 트랜잭션에서 서버 측 커서로 스트리밍
+ * - Primary만 사용 가능: 긴 트랜잭션을 피하기 위해 keyset 청크마다 짧은 트랜잭션으로 나눠 조회
+ */
+@Service
+public class SessionAdminService {
+
+    public enum ExportFormat {
+        CSV, NDJSON
+    }
+
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
+    private final SessionQueryRepository sessionQueryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate exportTransaction;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitorProvider;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public SessionAdminService(
+            SessionQueryRepository sessionQueryRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<ReplicaLagMonitor> replicaLagMonitorProvider,
+            @Value("${admin.sessions.export-timeout:5m}") Duration exportTimeout) {
+        this.sessionQueryRepository = sessionQueryRepository;
+        this.replicaLagMonitorProvider = replicaLagMonitorProvider;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+        this.exportTransaction.setTimeout((int) exportTimeout.toSeconds());
+    }
+
+    /**
+     * 세션 한 페이지 조회
+     *
+     * @return 세션 목록과 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public SessionPage listSessions(SessionQuery query, int limit) {
+        List<SessionSummary> sessions = readOnlyTransaction.execute(
+                status -> sessionQueryRepository.findPage(query, limit));
+        String nextCursor = null;
+        if (sessions != null && sessions.size() == limit) {
+            SessionSummary last = sessions.get(sessions.size() - 1);
+            nextCursor = SessionQuery.Cursor.after(query.sort(), last).encode();
+        }
+        return new SessionPage(sessions != null ? sessions : List.of(), nextCursor);
+    }
+
+    public record SessionPage(List<SessionSummary> sessions, String nextCursor) {
+    }
+
+    /**
+     * 조건에 맞는 모든 세션을 응답 스트림으로 내보내기 (메모리 사용량 일정)
+     */
+    public void exportSessions(SessionQuery query, ExportFormat format, OutputStream out) throws IOException {
+        try (SessionWriter writer = format == ExportFormat.CSV ? new CsvSessionWriter(out) : new NdjsonSessionWriter(out)) {
+            Consumer<SessionSummary> sink = session -> {
+                try {
+                    writer.write(session);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+
+            ReplicaLagMonitor lagMonitor = replicaLagMonitorProvider.getIfAvailable();
+            if (lagMonitor != null && lagMonitor.isReplicaUsable()) {
+                exportTransaction.executeWithoutResult(status -> sessionQueryRepository.stream(query, sink));
+            } else {
+                exportInChunks(query, sink);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void exportInChunks(SessionQuery query, Consumer<SessionSummary> sink) {
+        SessionQuery page = query;
+        while (true) {
+            SessionQuery current = page;
+            List<SessionSummary> chunk = readOnlyTransaction.execute(
+                    status -> sessionQueryRepository.findPage(current, EXPORT_CHUNK_SIZE));
+            if (chunk == null || chunk.isEmpty()) {
+                return;
+            }
+            chunk.forEach(sink);
+            if (chunk.size() < EXPORT_CHUNK_SIZE) {
+                return;
+            }
+            page = query.withCursor(SessionQuery.Cursor.after(query.sort(), chunk.get(chunk.size() - 1)));
+        }
+    }
+
+    private interface SessionWriter extends AutoCloseable {
+        void write(SessionSummary session) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class CsvSessionWriter implements SessionWriter {
+        private final Writer writer;
+
+        CsvSessionWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            writer.write("id,provider,user_id,expires_at,jwt_access_token_expires_at,"
+                    + "jwt_refresh_token_expires_at,created_at,updated_at\n");
+        }
+
+        @Override
+        public void write(SessionSummary session) throws IOException {
+            writer.write(Long.toString(session.id()));
+            writer.write(',');
+            writeQuoted(session.provider());
+            writer.write(',');
+            writeQuoted(session.userId());
+            writeTime(session.expiresAt());
+            writeTime(session.jwtAccessTokenExpiresAt());
+            writeTime(session.jwtRefreshTokenExpiresAt());
+            writeTime(session.createdAt());
+            writeTime(session.updatedAt());
+            writer.write('\n');
+        }
+
+        private void writeQuoted(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private void writeTime(LocalDateTime value) throws IOException {
+            writer.write(',');
+            if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private final class NdjsonSessionWriter implements SessionWriter {
+        private final JsonGenerator generator;
+
+        NdjsonSessionWriter(OutputStream out) throws IOException {
+            this.generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+            // 루트 값 사이 구분자를 줄바꿈으로 지정 (NDJSON)
+            this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        }
+
+        @Override
+        public void write(SessionSummary session) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", session.id());
+            generator.writeStringField("provider", session.provider());
+            generator.writeStringField("user_id", session.userId());
+            writeTime("expires_at", session.expiresAt());
+            writeTime("jwt_access_token_expires_at", session.jwtAccessTokenExpiresAt());
+            writeTime("jwt_refresh_token_expires_at", session.jwtRefreshTokenExpiresAt());
+            writeTime("created_at", session.createdAt());
+            writeTime("updated_at", session.updatedAt());
+            generator.writeEndObject();
+        }
+
+        private void writeTime(String field, LocalDateTime value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(field, value.toString());
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.writeRaw('\n');
+            generator.flush();
+        }
+    }
+}
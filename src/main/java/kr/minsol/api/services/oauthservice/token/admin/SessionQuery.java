@@ -0,0 +1,70 @@
+package kr.minsol.api.services.oauthservice.token.admin;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 세션 조회 조건 (keyset 페이지네이션)
+ *
+ * @param provider      제공자 필터 (null이면 전체)
+ * @param expiresBefore OAuth 토큰 만료 시각 상한 (null이면 제한 없음)
+ * @param activeOnly    JWT Refresh Token이 아직 유효한 세션만 조회
+ * @param sort          정렬 키
+ * @param cursor        이전 페이지 마지막 행 위치 (null이면 첫 페이지)
+ */
+public record SessionQuery(String provider, LocalDateTime expiresBefore, boolean activeOnly,
+        Sort sort, Cursor cursor) {
+
+    /**
+     * 정렬 키 - 각각 (provider, id), (expires_at, id) 인덱스를 그대로 따라갑니다.
+     */
+    public enum Sort {
+        PROVIDER, EXPIRES
+    }
+
+    /**
+     * keyset 위치 (정렬 키 값 + id)
+     */
+    public record Cursor(String provider, LocalDateTime expiresAt, long id) {
+
+        public static Cursor after(Sort sort, SessionSummary last) {
+            return sort == Sort.PROVIDER
+                    ? new Cursor(last.provider(), null, last.id())
+                    : new Cursor(null, last.expiresAt(), last.id());
+        }
+
+        /**
+         * 클라이언트에 전달할 불투명 커서 문자열
+         */
+        public String encode() {
+            String key = provider != null ? "p:" + provider : "e:" + expiresAt;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((key + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String encoded) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                if (separator >= 2) {
+                    long id = Long.parseLong(raw.substring(separator + 1));
+                    String value = raw.substring(2, separator);
+                    if (raw.startsWith("p:")) {
+                        return new Cursor(value, null, id);
+                    }
+                    if (raw.startsWith("e:")) {
+                        return new Cursor(null, LocalDateTime.parse(value), id);
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 아래에서 공통 오류로 처리
+            }
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public SessionQuery withCursor(Cursor next) {
+        return new SessionQuery(provider, expiresBefore, activeOnly, sort, next);
+    }
+}
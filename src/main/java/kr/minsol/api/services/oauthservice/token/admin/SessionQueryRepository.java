@@ -0,0 +1,114 @@
+package kr.minsol.api.services.oauthservice.token.admin;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * oauth_tokens 세션 목록 조회 리포지토리 (JDBC)
+ * - 목록: (provider, id) / (expires_at, id) 행 비교 keyset 페이지네이션
+ * - 내보내기: fetchSize 기반 서버 측 커서로 한 행씩 전달 (트랜잭션 안에서 호출해야 커서가 동작)
+ */
+@Repository
+public class SessionQueryRepository {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT id, provider, user_id, expires_at, jwt_access_token_expires_at,
+                   jwt_refresh_token_expires_at, created_at, updated_at
+            FROM oauth_tokens
+            """;
+
+    private static final RowMapper<SessionSummary> ROW_MAPPER = SessionQueryRepository::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public SessionQueryRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(500);
+    }
+
+    public List<SessionSummary> findPage(SessionQuery query, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = buildSql(query, args) + " LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 조건에 맞는 모든 세션을 커서로 순회 (메모리에는 fetchSize 만큼만 유지)
+     */
+    public void stream(SessionQuery query, Consumer<SessionSummary> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = buildSql(query, args);
+        streamingJdbcTemplate.query(sql, rs -> {
+            consumer.accept(mapRow(rs, 0));
+        }, args.toArray());
+    }
+
+    private String buildSql(SessionQuery query, List<Object> args) {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(" WHERE TRUE");
+        if (query.provider() != null) {
+            sql.append(" AND provider = ?");
+            args.add(query.provider());
+        }
+        if (query.expiresBefore() != null) {
+            sql.append(" AND expires_at < ?");
+            args.add(Timestamp.valueOf(query.expiresBefore()));
+        }
+        if (query.activeOnly()) {
+            sql.append(" AND jwt_refresh_token_expires_at > ?");
+            args.add(Timestamp.valueOf(LocalDateTime.now()));
+        }
+
+        SessionQuery.Cursor cursor = query.cursor();
+        if (query.sort() == SessionQuery.Sort.PROVIDER) {
+            if (cursor != null) {
+                if (cursor.provider() == null) {
+                    throw new IllegalArgumentException("정렬 기준과 커서가 일치하지 않습니다.");
+                }
+                sql.append(" AND (provider, id) > (?, ?)");
+                args.add(cursor.provider());
+                args.add(cursor.id());
+            }
+            sql.append(" ORDER BY provider, id");
+        } else {
+            if (cursor != null) {
+                if (cursor.expiresAt() == null) {
+                    throw new IllegalArgumentException("정렬 기준과 커서가 일치하지 않습니다.");
+                }
+                sql.append(" AND (expires_at, id) > (?, ?)");
+                args.add(Timestamp.valueOf(cursor.expiresAt()));
+                args.add(cursor.id());
+            }
+            sql.append(" ORDER BY expires_at, id");
+        }
+        return sql.toString();
+    }
+
+    private static SessionSummary mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new SessionSummary(
+                rs.getLong("id"),
+                rs.getString("provider"),
+                rs.getString("user_id"),
+                toLocalDateTime(rs.getTimestamp("expires_at")),
+                toLocalDateTime(rs.getTimestamp("jwt_access_token_expires_at")),
+                toLocalDateTime(rs.getTimestamp("jwt_refresh_token_expires_at")),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,18 @@
+package kr.minsol.api.services.oauthservice.token.admin;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 목록/내보내기용 프로젝션
+ * oauth_tokens의 TEXT 토큰 컬럼은 읽지 않고 식별자와 만료 정보만 담습니다.
+ */
+public record SessionSummary(
+        long id,
+        String provider,
+        String userId,
+        LocalDateTime expiresAt,
+        LocalDateTime jwtAccessTokenExpiresAt,
+        LocalDateTime jwtRefreshTokenExpiresAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
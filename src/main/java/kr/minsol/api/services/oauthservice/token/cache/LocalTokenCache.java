@@ -0,0 +1,121 @@
+package kr.minsol.api.services.oauthservice.token.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 노드별 인메모리 토큰 캐시 (Redis 미사용 배포용)
+ * Neon 조회 결과를 짧게 보관하고, 다른 노드의 저장/삭제는 TokenInvalidationChannel 알림으로 무효화합니다.
+ * 조회 중에 무효화가 도착하면 조회 결과를 캐시에 넣지 않습니다 (stamp → putIfNotInvalidated).
+ */
+@Component
+@ConditionalOnProperty(name = "token.local-cache.enabled", havingValue = "true", matchIfMissing = false)
+public class LocalTokenCache {
+
+    /**
+     * 캐시에 보관하는 토큰 스냅샷 (JPA 엔티티 대신 불변 값만 보관)
+     */
+    public record CachedToken(String oauthAccessToken, String oauthRefreshToken, LocalDateTime expiresAt) {
+    }
+
+    private record Entry(CachedToken token, long expiresAtNanos) {
+    }
+
+    // 무효화 세대 번호 (키 해시별 스트라이프) - 조회 시작 후 무효화가 있었는지 확인용
+    private static final int STAMP_STRIPES = 64;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    private final TokenInvalidationChannel invalidationChannel;
+
+    @Value("${token.local-cache.ttl:5m}")
+    private Duration ttl;
+
+    @Value("${token.local-cache.max-size:10000}")
+    private int maxSize;
+
+    public LocalTokenCache(TokenInvalidationChannel invalidationChannel) {
+        this.invalidationChannel = invalidationChannel;
+        invalidationChannel.subscribe(this::evictLocal);
+    }
+
+    public static String key(String provider, String userId) {
+        return provider + ":" + userId;
+    }
+
+    public CachedToken get(String provider, String userId) {
+        String key = key(provider, userId);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.token();
+    }
+
+    /**
+     * 무효화 세대 번호 - 저장소 조회 전에 읽어 두고 putIfNotInvalidated에 전달
+     */
+    public long stamp(String provider, String userId) {
+        return stamps.get(stripe(key(provider, userId)));
+    }
+
+    /**
+     * 조회를 시작한 뒤(stamp 이후) 같은 키에 무효화가 없었을 때만 저장
+     * 무효화와 겹쳐 오래된 값이 다시 들어가지 않도록 저장 후에도 한 번 더 확인합니다.
+     */
+    public void putIfNotInvalidated(String provider, String userId, CachedToken token, long stamp) {
+        String key = key(provider, userId);
+        int stripe = stripe(key);
+        if (stamps.get(stripe) != stamp) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            // 상한 초과 시 임의 항목 제거 (정확한 LRU 대신 할당 없는 단순 정책)
+            Iterator<String> iterator = entries.keySet().iterator();
+            if (iterator.hasNext()) {
+                entries.remove(iterator.next());
+            }
+        }
+        Entry entry = new Entry(token, System.nanoTime() + ttl.toNanos());
+        entries.put(key, entry);
+        if (stamps.get(stripe) != stamp) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * 로컬 무효화 후 다른 노드에도 무효화 알림 발행
+     */
+    public void invalidate(String provider, String userId) {
+        String key = key(provider, userId);
+        evictLocal(key);
+        invalidationChannel.publish(key);
+    }
+
+    private void evictLocal(String key) {
+        if (TokenInvalidationChannel.ALL_KEYS.equals(key)) {
+            for (int i = 0; i < STAMP_STRIPES; i++) {
+                stamps.incrementAndGet(i);
+            }
+            entries.clear();
+        } else {
+            stamps.incrementAndGet(stripe(key));
+            entries.remove(key);
+        }
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STAMP_STRIPES;
+    }
+}
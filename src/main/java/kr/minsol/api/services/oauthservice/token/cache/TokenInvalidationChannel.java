@@ -0,0 +1,254 @@
+package kr.minsol.api.services.oauthservice.token.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Postgres LISTEN/NOTIFY 기반 토큰 캐시 무효화 채널
+ * Redis 없이 여러 Gateway 노드의 로컬 캐시를 일관되게 유지합니다.
+ *
+ * - 발행: 무효화 키를 모아 batch-interval 마다 pg_notify 한 번으로 전송 (실패하면 다음 주기에 전체 무효화 발행)
+ * - 구독: 전용 커넥션으로 LISTEN 하는 리스너 스레드 (끊기면 재연결, 재연결 시 로컬 캐시 전체 무효화)
+ *
+ * 주의: Neon pooler(PgBouncer 트랜잭션 모드) 엔드포인트에서는 LISTEN이 동작하지 않으므로
+ * listen-url에는 direct 엔드포인트를 지정해야 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "token.local-cache.enabled", havingValue = "true", matchIfMissing = false)
+public class TokenInvalidationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenInvalidationChannel.class);
+
+    // pg_notify payload 한도(8000 bytes)보다 여유 있게 분할
+    private static final int MAX_PAYLOAD_BYTES = 7500;
+    private static final String NODE_SEPARATOR = "|";
+    private static final String KEY_SEPARATOR = "\n";
+
+    /** 모든 키 무효화를 뜻하는 특수 키 (리스너 재연결, NOTIFY 실패 후 재발행 시 사용) */
+    public static final String ALL_KEYS = "*";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentLinkedQueue<String> pendingKeys = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "token-invalidation-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${token.local-cache.channel:oauth_token_invalidation}")
+    private String channel;
+
+    @Value("${token.local-cache.batch-interval:50ms}")
+    private Duration batchInterval;
+
+    @Value("${token.local-cache.listen-url:${spring.datasource.url:}}")
+    private String listenUrl;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    private volatile boolean running = true;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public TokenInvalidationChannel(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("token.local-cache.channel 이름이 올바르지 않습니다: " + channel);
+        }
+        publisher.scheduleWithFixedDelay(this::flush, batchInterval.toMillis(), batchInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        listenerThread = new Thread(this::listenLoop, "token-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        System.out.println("✅ 토큰 캐시 무효화 채널 시작 - Channel: " + channel + ", Node: " + nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        flush();
+        publisher.shutdownNow();
+        closeQuietly(listenConnection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /**
+     * 무효화 수신 콜백 등록 (키 또는 ALL_KEYS 전달)
+     */
+    public void subscribe(Consumer<String> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * 무효화 키 발행 예약 (batch-interval 내 요청은 하나의 NOTIFY로 묶임)
+     */
+    public void publish(String key) {
+        pendingKeys.add(key);
+    }
+
+    void flush() {
+        if (pendingKeys.isEmpty()) {
+            return;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        String key;
+        while ((key = pendingKeys.poll()) != null) {
+            keys.add(key);
+        }
+        if (keys.contains(ALL_KEYS)) {
+            // 전체 무효화가 포함되면 개별 키는 보낼 필요 없음
+            keys = Set.of(ALL_KEYS);
+        }
+        try {
+            for (String payload : buildPayloads(keys)) {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+            }
+        } catch (Exception e) {
+            // 어떤 키가 전달되었는지 알 수 없으므로 다음 NOTIFY에서 다른 노드의 로컬 캐시를 전체 무효화
+            logger.warn("⚠️ 토큰 무효화 NOTIFY 실패 (키 {}개, 다음 주기에 전체 무효화): {}", keys.size(), e.getMessage());
+            pendingKeys.add(ALL_KEYS);
+        }
+    }
+
+    private List<String> buildPayloads(Set<String> keys) {
+        List<String> payloads = new ArrayList<>();
+        String prefix = nodeId + NODE_SEPARATOR;
+        StringBuilder current = new StringBuilder(prefix);
+        int currentBytes = prefix.length();
+        for (String key : keys) {
+            int keyBytes = key.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (currentBytes + keyBytes > MAX_PAYLOAD_BYTES && current.length() > prefix.length()) {
+                payloads.add(current.toString());
+                current = new StringBuilder(prefix);
+                currentBytes = prefix.length();
+            }
+            if (current.length() > prefix.length()) {
+                current.append(KEY_SEPARATOR);
+            }
+            current.append(key);
+            currentBytes += keyBytes;
+        }
+        payloads.add(current.toString());
+        return payloads;
+    }
+
+    /**
+     * LISTEN 루프
+     * 연결이 끊기면 지수 백오프로 재연결하고, 그동안 놓친 알림이 있을 수 있으므로 전체 무효화합니다.
+     */
+    private void listenLoop() {
+        long backoffMillis = 1000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(listenUrl, username, password)) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                logger.info("토큰 무효화 채널 LISTEN 시작: {}", channel);
+                notifySubscribers(ALL_KEYS);
+                backoffMillis = 1000;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(10_000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("⚠️ 토큰 무효화 리스너 연결 끊김, {}ms 후 재연결: {}", backoffMillis, e.getMessage());
+                notifySubscribers(ALL_KEYS);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, 30_000);
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        int separator = payload.indexOf(NODE_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        // 자기 노드가 발행한 알림은 이미 로컬에서 무효화했으므로 무시
+        if (payload.regionMatches(0, nodeId, 0, separator) && separator == nodeId.length()) {
+            return;
+        }
+        for (String key : payload.substring(separator + 1).split(KEY_SEPARATOR)) {
+            if (!key.isEmpty()) {
+                notifySubscribers(key);
+            }
+        }
+    }
+
+    private void notifySubscribers(String key) {
+        for (Consumer<String> subscriber : subscribers) {
+            try {
+                subscriber.accept(key);
+            } catch (Exception e) {
+                logger.warn("⚠️ 토큰 무효화 처리 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // 종료 중이므로 무시
+        }
+    }
+}
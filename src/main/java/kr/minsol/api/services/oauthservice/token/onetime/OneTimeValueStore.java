@@ -0,0 +1,158 @@
+package kr.minsol.api.services.oauthservice.token.onetime;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1회용 값 저장소 (OAuth state, PKCE verifier, Authorization Code)
+ * 저장한 값은 consume으로 한 번만 꺼낼 수 있으며, 동시에 여러 요청이 꺼내도 하나만 성공합니다.
+ *
+ * - Redis 사용 시: SET EX로 저장하고 GETDEL 한 번으로 조회와 삭제를 원자적으로 수행
+ *   (GETDEL을 지원하지 않는 Redis 6.2 미만이면 같은 동작의 Lua 스크립트로 전환)
+ * - Redis 미사용 시: 노드 로컬 TTL 맵 (ConcurrentHashMap.remove로 원자적 소비, 만료 항목은 주기적으로 정리)
+ */
+@Component
+public class OneTimeValueStore {
+
+    private static final RedisScript<Object> GET_AND_DELETE_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('GET', KEYS[1]) "
+                    + "if value then redis.call('DEL', KEYS[1]) end "
+                    + "return value",
+            Object.class);
+
+    private record Entry(String value, long expiresAtNanos) {
+    }
+
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "one-time-value-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // GETDEL 미지원 Redis로 확인되면 Lua 스크립트 사용
+    private volatile boolean useLuaScript = false;
+
+    public OneTimeValueStore(
+            ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
+            @Value("${oauth.one-time.max-size:100000}") int maxSize,
+            @Value("${oauth.one-time.sweep-interval:1m}") Duration sweepInterval) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.maxSize = maxSize;
+        sweeper.scheduleWithFixedDelay(this::sweepExpired, sweepInterval.toMillis(), sweepInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * 1회용 값 저장
+     *
+     * @param key   저장 키 (예: state:kakao:{state})
+     * @param value 값 (null이면 빈 문자열)
+     * @param ttl   만료 시간
+     */
+    public void put(String key, String value, Duration ttl) {
+        String stored = value != null ? value : "";
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null) {
+            redisTemplate.opsForValue().set(key, stored, ttl);
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            sweepExpired();
+            if (entries.size() >= maxSize) {
+                // 상한 초과 시 임의 항목 제거 (LocalTokenCache와 같은 단순 정책)
+                Iterator<String> iterator = entries.keySet().iterator();
+                if (iterator.hasNext()) {
+                    entries.remove(iterator.next());
+                }
+            }
+        }
+        entries.put(key, new Entry(stored, System.nanoTime() + ttl.toNanos()));
+    }
+
+    /**
+     * 1회용 값 조회 (삭제하지 않음 - 소비 전에 미리 확인할 때)
+     *
+     * @return 저장된 값, 없거나 만료되었거나 이미 소비되었으면 null
+     */
+    public String peek(String key) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null) {
+            Object value = redisTemplate.opsForValue().get(key);
+            return value != null ? value.toString() : null;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null || System.nanoTime() - entry.expiresAtNanos() > 0) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 1회용 값 조회 및 삭제 (원자적)
+     *
+     * @return 저장된 값, 없거나 만료되었거나 이미 소비되었으면 null
+     */
+    public String consume(String key) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null) {
+            Object value = getAndDelete(redisTemplate, key);
+            return value != null ? value.toString() : null;
+        }
+        Entry entry = entries.remove(key);
+        if (entry == null || System.nanoTime() - entry.expiresAtNanos() > 0) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    private Object getAndDelete(RedisTemplate<String, Object> redisTemplate, String key) {
+        if (!useLuaScript) {
+            try {
+                return redisTemplate.opsForValue().getAndDelete(key);
+            } catch (RuntimeException e) {
+                if (!isUnknownCommand(e)) {
+                    throw e;
+                }
+                System.err.println("⚠️ Redis GETDEL 미지원 - Lua 스크립트로 전환합니다.");
+                useLuaScript = true;
+            }
+        }
+        return redisTemplate.execute(GET_AND_DELETE_SCRIPT, List.of(key));
+    }
+
+    private static boolean isUnknownCommand(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains("unknown command")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sweepExpired() {
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(entry -> now - entry.getValue().expiresAtNanos() > 0);
+    }
+}
@@ -0,0 +1,205 @@
+package kr.minsol.api.services.oauthservice.token.refresh;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 만료 임박 제공자 토큰 조회/일괄 갱신 리포지토리 (JDBC)
+ * - 조회: (expires_at, id) 행 비교 keyset으로 idx_oauth_tokens_expires_id 인덱스 범위 스캔
+ * - 갱신: 배치 하나를 JDBC batchUpdate 한 번으로 반영, 조회 때의 Refresh Token과 같을 때만 (그 사이 로그인한 사용자 보호)
+ * 트랜잭션 밖에서 호출되므로 라우팅 데이터소스는 항상 Primary를 사용합니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "oauth.token-refresh.enabled", havingValue = "true", matchIfMissing = false)
+public class TokenRefreshRepository {
+
+    private static final String SELECT_CANDIDATES_SQL = """
+            SELECT id, provider, user_id, oauth_refresh_token, expires_at
+            FROM oauth_tokens
+            WHERE expires_at < ?
+              AND (expires_at, id) > (?, ?)
+              AND oauth_refresh_token IS NOT NULL
+              AND jwt_refresh_token_expires_at > ?
+            ORDER BY expires_at, id
+            LIMIT ?
+            """;
+
+    // 제공자가 새 refresh_token을 주지 않으면 기존 값 유지
+    // 조회 이후 사용자가 다시 로그인해 Refresh Token이 바뀌었으면 새 토큰을 덮어쓰지 않음 (0건 갱신)
+    private static final String UPDATE_REFRESHED_SQL = """
+            UPDATE oauth_tokens
+            SET oauth_access_token = ?,
+                oauth_refresh_token = COALESCE(?, oauth_refresh_token),
+                expires_at = ?,
+                updated_at = ?
+            WHERE id = ? AND oauth_refresh_token = ?
+            """;
+
+    // 폐기된 Refresh Token은 다음 주기에 다시 시도하지 않도록 비움 (그 사이 바뀐 토큰은 유지)
+    private static final String CLEAR_REFRESH_TOKEN_SQL = """
+            UPDATE oauth_tokens SET oauth_refresh_token = NULL, updated_at = ?
+            WHERE id = ? AND oauth_refresh_token = ?
+            """;
+
+    // 여러 노드 중 한 곳에서만 갱신 주기를 실행하기 위한 lease (만료 시각은 DB 시계 기준)
+    private static final String LEASE_NAME = "oauth-token-refresh";
+
+    // 비어 있거나 만료되었거나 이미 자신이 가진 lease만 가져옴 (1건 반영 = 획득)
+    private static final String ACQUIRE_LEASE_SQL = """
+            INSERT INTO scheduler_leases (name, owner, expires_at)
+            VALUES (?, ?, now() + ? * INTERVAL '1 millisecond')
+            ON CONFLICT (name) DO UPDATE
+            SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+            WHERE scheduler_leases.expires_at < now() OR scheduler_leases.owner = EXCLUDED.owner
+            """;
+
+    private static final String RENEW_LEASE_SQL = """
+            UPDATE scheduler_leases SET expires_at = now() + ? * INTERVAL '1 millisecond'
+            WHERE name = ? AND owner = ?
+            """;
+
+    private static final String RELEASE_LEASE_SQL = "DELETE FROM scheduler_leases WHERE name = ? AND owner = ?";
+
+    private static final RowMapper<RefreshCandidate> ROW_MAPPER = (rs, rowNum) -> mapRow(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TokenRefreshRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 만료 시각이 deadline 이전인 활성 세션 토큰 조회 (커서 이후부터 limit 건)
+     */
+    public List<RefreshCandidate> findExpiring(LocalDateTime deadline, LocalDateTime afterExpiresAt, long afterId,
+            int limit) {
+        return jdbcTemplate.query(SELECT_CANDIDATES_SQL, ROW_MAPPER,
+                Timestamp.valueOf(deadline),
+                Timestamp.valueOf(afterExpiresAt),
+                afterId,
+                Timestamp.valueOf(LocalDateTime.now()),
+                limit);
+    }
+
+    /**
+     * 갱신된 토큰 일괄 반영
+     *
+     * @return 실제로 반영된 토큰 (조회 이후 Refresh Token이 바뀐 행은 제외)
+     */
+    public List<RefreshedToken> updateRefreshed(List<RefreshedToken> tokens) {
+        if (tokens.isEmpty()) {
+            return tokens;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_REFRESHED_SQL, tokens, tokens.size(),
+                (PreparedStatement ps, RefreshedToken token) -> {
+                    ps.setString(1, token.accessToken());
+                    ps.setString(2, token.refreshToken());
+                    ps.setTimestamp(3, Timestamp.valueOf(token.expiresAt()));
+                    ps.setTimestamp(4, now);
+                    ps.setLong(5, token.id());
+                    ps.setString(6, token.previousRefreshToken());
+                });
+        return applied(tokens, counts);
+    }
+
+    /**
+     * 폐기된 Refresh Token 일괄 삭제
+     *
+     * @return 실제로 비운 대상 (조회 이후 Refresh Token이 바뀐 행은 제외)
+     */
+    public List<RefreshCandidate> clearRefreshTokens(List<RefreshCandidate> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(CLEAR_REFRESH_TOKEN_SQL, candidates, candidates.size(),
+                (PreparedStatement ps, RefreshCandidate candidate) -> {
+                    ps.setTimestamp(1, now);
+                    ps.setLong(2, candidate.id());
+                    ps.setString(3, candidate.refreshToken());
+                });
+        return applied(candidates, counts);
+    }
+
+    /**
+     * 갱신 건수가 0인 항목 제외 (드라이버가 건수를 주지 않으면 반영된 것으로 간주)
+     */
+    private static <T> List<T> applied(List<T> items, int[][] counts) {
+        List<T> applied = new ArrayList<>(items.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    applied.add(items.get(index));
+                }
+                index++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 갱신 주기 lease 획득
+     * 각 호출은 짧은 자동 커밋 문장 하나라 제공자 호출 동안 커넥션을 붙잡지 않습니다.
+     *
+     * @param owner 이 노드의 식별자
+     * @param ttl   lease 유효 시간 (갱신하지 않으면 만료 후 다른 노드가 가져감)
+     * @return 획득했으면 true, 다른 노드가 실행 중이면 false
+     */
+    public boolean tryAcquireLease(String owner, Duration ttl) {
+        return jdbcTemplate.update(ACQUIRE_LEASE_SQL, LEASE_NAME, owner, ttl.toMillis()) > 0;
+    }
+
+    /**
+     * lease 연장 (배치마다)
+     *
+     * @return 아직 lease를 가지고 있으면 true (만료되어 다른 노드가 가져갔으면 false)
+     */
+    public boolean renewLease(String owner, Duration ttl) {
+        return jdbcTemplate.update(RENEW_LEASE_SQL, ttl.toMillis(), LEASE_NAME, owner) > 0;
+    }
+
+    public void releaseLease(String owner) {
+        jdbcTemplate.update(RELEASE_LEASE_SQL, LEASE_NAME, owner);
+    }
+
+    private static RefreshCandidate mapRow(ResultSet rs) throws SQLException {
+        return new RefreshCandidate(
+                rs.getLong("id"),
+                rs.getString("provider"),
+                rs.getString("user_id"),
+                rs.getString("oauth_refresh_token"),
+                rs.getTimestamp("expires_at").toLocalDateTime());
+    }
+
+    /**
+     * 갱신 대상 토큰
+     */
+    public record RefreshCandidate(long id, String provider, String userId, String refreshToken,
+            LocalDateTime expiresAt) {
+    }
+
+    /**
+     * 제공자에서 새로 받은 토큰
+     *
+     * @param refreshToken         새 Refresh Token (제공자가 재발급하지 않았으면 null)
+     * @param previousRefreshToken 갱신에 사용한 Refresh Token (그 사이 바뀌었으면 반영하지 않음)
+     * @param refreshTtlSeconds    Redis에 저장할 Refresh Token TTL (초)
+     */
+    public record RefreshedToken(long id, String provider, String userId, String accessToken, String refreshToken,
+            String previousRefreshToken, LocalDateTime expiresAt, long expiresInSeconds, long refreshTtlSeconds) {
+    }
+}
@@ -0,0 +1,291 @@
+package kr.minsol.api.services.oauthservice.token.refresh;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.minsol.api.services.oauthservice.audit.AuthAuditService;
+import kr.minsol.api.services.oauthservice.audit.AuthEventType;
+import kr.minsol.api.services.oauthservice.client.OAuthTokenResponse;
+import kr.minsol.api.services.oauthservice.client.ProviderJson;
+import kr.minsol.api.services.oauthservice.provider.OAuthProviderRegistry;
+import kr.minsol.api.services.oauthservice.provider.ProviderConfigSnapshot;
+import kr.minsol.api.services.oauthservice.provider.ProviderConfigSnapshot.ProviderRuntime;
+import kr.minsol.api.services.oauthservice.resilience.ProviderGuards;
+import kr.minsol.api.services.oauthservice.resilience.ProviderUnavailableException;
+import kr.minsol.api.services.oauthservice.token.TokenService;
+import kr.minsol.api.services.oauthservice.token.refresh.TokenRefreshRepository.RefreshCandidate;
+import kr.minsol.api.services.oauthservice.token.refresh.TokenRefreshRepository.RefreshedToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth 제공자 토큰 사전 갱신 스케줄러
+ * 만료가 임박한 토큰(expires_at)을 keyset 배치로 찾아 저장된 Refresh Token으로 미리 갱신하고,
+ * 배치 단위로 Neon(batchUpdate)과 Redis(파이프라인)에 반영합니다.
+ * 요청 경로의 TokenService.getOAuthAccessToken은 항상 유효한 토큰을 찾게 되어 요청 중 갱신이 필요 없습니다.
+ *
+ * - 제공자 호출은 ProviderGuard(벌크헤드/서킷 브레이커)를 거치고, rate-per-second로 속도를 제한합니다.
+ * - 한 주기에서 서킷이 열린 제공자는 남은 대상을 건너뛰고 다음 주기에 다시 시도합니다.
+ * - 제공자가 Refresh Token을 거부하면(OAuth 오류 코드 invalid_grant) 저장된 Refresh Token을 비워 재시도하지 않습니다.
+ *   그 외 오류(invalid_client 등 앱 자격 증명 문제, 4xx/5xx)는 실패로만 집계하고 토큰은 유지합니다.
+ * - 여러 노드에서 실행되어도 scheduler_leases 테이블의 lease(TTL)로 한 노드만 갱신합니다.
+ *   배치마다 lease를 연장하며, 잠금용 커넥션을 주기 내내 붙잡지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.token-refresh.enabled", havingValue = "true", matchIfMissing = false)
+public class TokenRefreshScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRefreshScheduler.class);
+
+    // Refresh Token 자체가 만료/폐기되었다는 OAuth 오류 코드 (RFC 6749 5.2) - 이 경우에만 저장된 토큰을 비움
+    private static final String INVALID_GRANT = "invalid_grant";
+
+    private static final ObjectReader ERROR_READER = ProviderJson.reader(OAuthTokenResponse.class);
+
+    // keyset 시작 커서 (모든 expires_at보다 이전)
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TokenRefreshRepository repository;
+    private final TokenService tokenService;
+    private final OAuthProviderRegistry providerRegistry;
+    private final ProviderGuards providerGuards;
+    private final AuthAuditService authAuditService;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "oauth-token-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Duration interval;
+    private final Duration refreshAhead;
+    private final int batchSize;
+    private final int maxPerRun;
+    private final long callIntervalNanos;
+    private final Duration leaseTtl;
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    private Counter refreshedCounter;
+    private Counter revokedCounter;
+    private Counter failedCounter;
+    private Counter skippedCounter;
+
+    private long nextCallAt = System.nanoTime();
+
+    public TokenRefreshScheduler(
+            TokenRefreshRepository repository,
+            TokenService tokenService,
+            OAuthProviderRegistry providerRegistry,
+            ProviderGuards providerGuards,
+            AuthAuditService authAuditService,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${oauth.token-refresh.interval:5m}") Duration interval,
+            @Value("${oauth.token-refresh.refresh-ahead:30m}") Duration refreshAhead,
+            @Value("${oauth.token-refresh.batch-size:100}") int batchSize,
+            @Value("${oauth.token-refresh.max-per-run:2000}") int maxPerRun,
+            @Value("${oauth.token-refresh.rate-per-second:10}") double ratePerSecond,
+            @Value("${oauth.token-refresh.lease-ttl:2m}") Duration leaseTtl) {
+        this.repository = repository;
+        this.tokenService = tokenService;
+        this.providerRegistry = providerRegistry;
+        this.providerGuards = providerGuards;
+        this.authAuditService = authAuditService;
+        this.interval = interval;
+        this.refreshAhead = refreshAhead;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPerRun = Math.max(1, maxPerRun);
+        this.callIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.1, ratePerSecond));
+        this.leaseTtl = leaseTtl;
+        meterRegistryProvider.ifAvailable(registry -> {
+            refreshedCounter = registry.counter("oauth.token.refresh", "result", "refreshed");
+            revokedCounter = registry.counter("oauth.token.refresh", "result", "revoked");
+            failedCounter = registry.counter("oauth.token.refresh", "result", "failed");
+            skippedCounter = registry.counter("oauth.token.refresh", "result", "skipped");
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::runOnce, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        System.out.println("✅ OAuth 토큰 사전 갱신 활성화 - 주기: " + interval + ", 만료 " + refreshAhead + " 전 갱신");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void runOnce() {
+        try {
+            if (!repository.tryAcquireLease(leaseOwner, leaseTtl)) {
+                logger.debug("다른 노드에서 토큰 갱신 중 - 이번 주기 건너뜀");
+                return;
+            }
+            try {
+                refreshExpiring();
+            } finally {
+                repository.releaseLease(leaseOwner);
+            }
+        } catch (Exception e) {
+            logger.warn("⚠️ OAuth 토큰 사전 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료 임박 토큰을 배치 단위로 갱신 (한 주기 최대 max-per-run 건)
+     */
+    private void refreshExpiring() {
+        LocalDateTime deadline = LocalDateTime.now().plus(refreshAhead);
+        ProviderConfigSnapshot snapshot = providerRegistry.current();
+        Set<String> unavailableProviders = new HashSet<>();
+        LocalDateTime cursorExpiresAt = CURSOR_START;
+        long cursorId = 0;
+        int processed = 0;
+        int refreshedTotal = 0;
+
+        while (processed < maxPerRun && !Thread.currentThread().isInterrupted()) {
+            int limit = Math.min(batchSize, maxPerRun - processed);
+            List<RefreshCandidate> batch = repository.findExpiring(deadline, cursorExpiresAt, cursorId, limit);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<RefreshedToken> refreshed = new ArrayList<>(batch.size());
+            List<RefreshCandidate> revoked = new ArrayList<>();
+            for (RefreshCandidate candidate : batch) {
+                refreshOne(snapshot, candidate, unavailableProviders, refreshed, revoked);
+            }
+
+            // 조회 이후 다시 로그인한 사용자의 토큰은 건드리지 않음 (Neon에 반영된 것만 Redis에도 반영)
+            List<RefreshedToken> applied = repository.updateRefreshed(refreshed);
+            tokenService.saveRefreshedOAuthTokens(applied);
+            tokenService.deleteRevokedOAuthRefreshTokens(repository.clearRefreshTokens(revoked));
+
+            refreshedTotal += applied.size();
+            processed += batch.size();
+            RefreshCandidate last = batch.get(batch.size() - 1);
+            cursorExpiresAt = last.expiresAt();
+            cursorId = last.id();
+            if (batch.size() < limit) {
+                break;
+            }
+            if (!repository.renewLease(leaseOwner, leaseTtl)) {
+                logger.warn("⚠️ 토큰 갱신 lease 만료 - 이번 주기 중단 (다른 노드가 이어서 실행)");
+                break;
+            }
+        }
+
+        if (processed > 0) {
+            logger.info("OAuth 토큰 사전 갱신 - 대상 {}건, 갱신 {}건", processed, refreshedTotal);
+        }
+    }
+
+    private void refreshOne(ProviderConfigSnapshot snapshot, RefreshCandidate candidate,
+            Set<String> unavailableProviders, List<RefreshedToken> refreshed, List<RefreshCandidate> revoked) {
+        String provider = candidate.provider();
+        ProviderRuntime runtime = snapshot.find(provider);
+        if (runtime == null || runtime.configError() != null || unavailableProviders.contains(provider)) {
+            increment(skippedCounter);
+            return;
+        }
+
+        awaitRatePermit();
+        try {
+            OAuthTokenResponse response = providerGuards.get(provider).execute("토큰 갱신",
+                    () -> runtime.provider().refreshAccessToken(runtime.credentials(), candidate.refreshToken()));
+            if (response == null || response.accessToken() == null) {
+                String error = response != null ? response.error() : null;
+                if (INVALID_GRANT.equals(error)) {
+                    revoked.add(candidate);
+                    increment(revokedCounter);
+                } else {
+                    increment(failedCounter);
+                }
+                authAuditService.recordFailure(AuthEventType.REFRESH, provider, candidate.userId(),
+                        error != null ? error : "access_token 없음");
+                return;
+            }
+
+            long expiresIn = response.expiresIn() != null ? response.expiresIn()
+                    : runtime.descriptor().defaultExpiresIn();
+            long refreshTtl = response.refreshTokenExpiresIn() != null ? response.refreshTokenExpiresIn() : expiresIn;
+            refreshed.add(new RefreshedToken(candidate.id(), provider, candidate.userId(),
+                    response.accessToken(), response.refreshToken(), candidate.refreshToken(),
+                    LocalDateTime.now().plusSeconds(expiresIn), expiresIn, refreshTtl));
+            increment(refreshedCounter);
+            authAuditService.recordSuccess(AuthEventType.REFRESH, provider, candidate.userId());
+        } catch (ProviderUnavailableException e) {
+            // 서킷 OPEN/벌크헤드 포화: 이번 주기의 나머지 대상은 건너뜀 (로그인 트래픽 우선)
+            unavailableProviders.add(provider);
+            increment(skippedCounter);
+            logger.warn("⚠️ {} 토큰 갱신 중단 (다음 주기에 재시도): {}", provider, e.getMessage());
+        } catch (RuntimeException e) {
+            if (isRejectedGrant(e)) {
+                revoked.add(candidate);
+                increment(revokedCounter);
+            } else {
+                increment(failedCounter);
+            }
+            authAuditService.recordFailure(AuthEventType.REFRESH, provider, candidate.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 호출 간격을 rate-per-second에 맞춰 대기 (스케줄러 스레드 하나에서 순차 호출)
+     */
+    private void awaitRatePermit() {
+        long now = System.nanoTime();
+        long waitNanos = nextCallAt - now;
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        nextCallAt = Math.max(now, nextCallAt) + callIntervalNanos;
+    }
+
+    /**
+     * 오류 응답 본문의 OAuth 오류 코드가 invalid_grant(Refresh Token 만료/폐기)인지
+     * 상태 코드만으로는 판단하지 않음 (invalid_client 등 자격 증명 오류도 400/401)
+     */
+    private static boolean isRejectedGrant(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpClientErrorException clientError) {
+                try {
+                    OAuthTokenResponse body = ERROR_READER.readValue(clientError.getResponseBodyAsByteArray());
+                    return body != null && INVALID_GRANT.equals(body.error());
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -6,14 +6,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * OAuth 토큰을 Neon(PostgreSQL)에 저장하기 위한 리포지토리
+ * 조회 메서드는 읽기 전용 트랜잭션으로 실행되어 Replica 라우팅 대상이 됩니다.
  */
 @Repository
+@Transactional(readOnly = true)
 public interface OAuthTokenRepository extends JpaRepository<OAuthToken, Long> {
     
     /**
@@ -25,12 +28,14 @@ public interface OAuthTokenRepository extends JpaRepository<OAuthToken, Long> {
      * 만료된 토큰 삭제
      */
     @Modifying
+    @Transactional
     @Query("DELETE FROM OAuthToken t WHERE t.expiresAt < :now")
     void deleteExpiredTokens(@Param("now") LocalDateTime now);
     
     /**
      * provider와 userId로 토큰 삭제
      */
+    @Transactional
     void deleteByProviderAndUserId(String provider, String userId);
 }
 
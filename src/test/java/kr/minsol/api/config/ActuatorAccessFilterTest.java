@@ -0,0 +1,57 @@
+package kr.minsol.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 관리 엔드포인트 접근 제어 - 헬스체크만 공개, 나머지는 X-Admin-Key 필요
+ */
+class ActuatorAccessFilterTest {
+
+    private static final int PASSED = 0;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        ActuatorAccessFilter filter = new ActuatorAccessFilter("/actuator", "secret");
+
+        assertEquals(PASSED, run(filter, "/actuator/health", null));
+        assertEquals(PASSED, run(filter, "/actuator/health/readiness", null));
+        assertEquals(PASSED, run(filter, "/api/auth/kakao/login", null));
+    }
+
+    @Test
+    void otherEndpointsRequireAdminKey() throws Exception {
+        ActuatorAccessFilter filter = new ActuatorAccessFilter("/actuator", "secret");
+
+        assertEquals(403, run(filter, "/actuator/gatewayroutes", null));
+        assertEquals(403, run(filter, "/actuator/metrics", "wrong"));
+        assertEquals(403, run(filter, "/actuator/healthz", null));
+        assertEquals(PASSED, run(filter, "/actuator/metrics", "secret"));
+    }
+
+    @Test
+    void emptyKeyDisablesNonHealthEndpoints() throws Exception {
+        ActuatorAccessFilter filter = new ActuatorAccessFilter("/actuator", "");
+
+        assertEquals(403, run(filter, "/actuator/metrics", ""));
+        assertEquals(PASSED, run(filter, "/actuator/health", null));
+    }
+
+    /**
+     * @return 필터를 통과했으면 PASSED, 거절했으면 응답 상태 코드
+     */
+    private static int run(ActuatorAccessFilter filter, String path, String adminKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (adminKey != null) {
+            request.addHeader("X-Admin-Key", adminKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain.getRequest() != null ? PASSED : response.getStatus();
+    }
+}
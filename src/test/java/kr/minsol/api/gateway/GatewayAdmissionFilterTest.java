@@ -0,0 +1,88 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 수락 제어 - 비동기로 넘어간 요청은 응답이 끝날 때까지 자리를 차지하고, 완료 시 지연이 그룹 한도에 반영되어야 함
+ */
+class GatewayAdmissionFilterTest {
+
+    @Test
+    void asyncRequestHoldsSlotUntilComplete() throws Exception {
+        GatewayAdmissionFilter filter = newFilter(1);
+
+        MockHttpServletRequest callback = new MockHttpServletRequest("GET", "/api/auth/kakao/callback");
+        callback.setAsyncSupported(true);
+        MockHttpServletResponse callbackResponse = new MockHttpServletResponse();
+        filter.doFilter(callback, callbackResponse, (request, response) -> request.startAsync());
+
+        assertTrue(callback.isAsyncStarted());
+        assertEquals(1, filter.describe().get("in_flight"));
+        assertEquals(1, group(filter, "auth").get("in_flight"));
+
+        // 전체 상한(1)을 비동기 콜백이 차지하고 있으므로 다음 요청은 거절
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/auth/kakao/login"), rejected,
+                (request, response) -> {
+                });
+        assertEquals(503, rejected.getStatus());
+
+        Thread.sleep(20);
+        ((MockAsyncContext) callback.getAsyncContext()).complete();
+
+        assertEquals(0, filter.describe().get("in_flight"));
+        Map<String, Object> auth = group(filter, "auth");
+        assertEquals(0, auth.get("in_flight"));
+        assertTrue(((Number) auth.get("long_rtt_ms")).doubleValue() >= 20, "비동기 완료 시점까지의 지연이 반영되어야 함: " + auth);
+    }
+
+    @Test
+    void asyncRequestReleasesOnceAfterTimeoutAndComplete() throws Exception {
+        GatewayAdmissionFilter filter = newFilter(10);
+
+        MockHttpServletRequest callback = new MockHttpServletRequest("GET", "/api/auth/google/callback");
+        callback.setAsyncSupported(true);
+        filter.doFilter(callback, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        MockAsyncContext context = (MockAsyncContext) callback.getAsyncContext();
+        context.getListeners().forEach(listener -> {
+            try {
+                listener.onTimeout(new AsyncEvent(context));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        context.complete();
+
+        assertEquals(0, filter.describe().get("in_flight"));
+        assertEquals(0, group(filter, "auth").get("in_flight"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> group(GatewayAdmissionFilter filter, String name) {
+        return (Map<String, Object>) ((Map<String, Object>) filter.describe().get("groups")).get(name);
+    }
+
+    private static GatewayAdmissionFilter newFilter(int maxConcurrentRequests) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        return new GatewayAdmissionFilter(beans.getBeanProvider(GatewayRouteRegistry.class),
+                beans.getBeanProvider(MeterRegistry.class),
+                List.of("auth=/api/auth/"), List.of("/api/auth/*/callback", "/api/auth/*/login"), List.of(),
+                maxConcurrentRequests, 90, 50, Duration.ofSeconds(1),
+                20, 5, 200, 1.5, 0.2, Duration.ZERO, 1);
+    }
+}
@@ -0,0 +1,142 @@
+package kr.minsol.api.gateway;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.minsol.api.gateway.GatewayRateLimitProperties.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 분산 속도 제한 - Redis 버킷의 충전/대여 계산과 노드 로컬 상태의 상한
+ * Redis는 LEASE_SCRIPT와 같은 계산을 하는 가짜 템플릿으로 대신함 (시각은 테스트가 직접 움직임)
+ */
+class GatewayRateLimiterTest {
+
+    private final List<GatewayRateLimiter> limiters = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        limiters.forEach(GatewayRateLimiter::shutdown);
+    }
+
+    @Test
+    void scriptRefillsAtRateAndGrantsWholeTokensOnly() {
+        FakeBucketRedis redis = new FakeBucketRedis();
+
+        // 처음 보는 키는 가득 찬 버킷 → 요청한 만큼
+        assertEquals(10, redis.lease("k", 20, 10, 10));
+        assertEquals(10, redis.lease("k", 20, 10, 10));
+        assertEquals(0, redis.lease("k", 20, 10, 10));
+
+        // 초당 10개 → 250ms면 2.5개, 정수 2개만 주고 0.5개는 남김
+        redis.nowMillis += 250;
+        assertEquals(2, redis.lease("k", 20, 10, 10));
+        assertEquals(0.5, redis.tokens("k"), 1e-9);
+
+        // 충전은 용량을 넘지 않음
+        redis.nowMillis += 60_000;
+        assertEquals(10, redis.lease("k", 20, 10, 10));
+        assertEquals(10.0, redis.tokens("k"), 1e-9);
+    }
+
+    @Test
+    void leasedTokensAreSpentLocallyAndExhaustedKeyStopsCallingRedis() {
+        FakeBucketRedis redis = new FakeBucketRedis();
+        // 시간당 100개 → 테스트 중 충전은 사실상 없음, 한 번에 min(lease-size 10, 100/10)=10개씩 빌림
+        Rule rule = rule("api", 100, Duration.ofHours(1));
+        GatewayRateLimiter limiter = newLimiter(redis, 100_000);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire(rule, "ip:1.2.3.4"), "요청 " + i);
+        }
+        assertEquals(10, redis.calls);
+        assertEquals(List.of(10), redis.requested.stream().distinct().toList());
+
+        // 버킷이 비면 거절하고, 토큰 1개가 채워질 때까지(36초)는 Redis를 다시 부르지 않음
+        assertFalse(limiter.tryAcquire(rule, "ip:1.2.3.4"));
+        assertFalse(limiter.tryAcquire(rule, "ip:1.2.3.4"));
+        assertEquals(11, redis.calls);
+    }
+
+    @Test
+    void trackedKeysStayWithinLimit() {
+        FakeBucketRedis redis = new FakeBucketRedis();
+        Rule rule = rule("auth", 30, Duration.ofMinutes(1));
+        GatewayRateLimiter limiter = newLimiter(redis, 100);
+
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(limiter.tryAcquire(rule, "ip:10.0." + (i / 256) + "." + (i % 256)));
+        }
+        assertTrue((int) limiter.describe().get("tracked_keys") <= 100, "추적 키 수: " + limiter.describe());
+    }
+
+    private GatewayRateLimiter newLimiter(RedisTemplate<String, Object> redis, int maxTrackedKeys) {
+        GatewayRateLimitProperties properties = new GatewayRateLimitProperties();
+        properties.setLeaseTtl(Duration.ofMinutes(1));
+        properties.setMaxTrackedKeys(maxTrackedKeys);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("redisTemplate", redis));
+        GatewayRateLimiter limiter = new GatewayRateLimiter(properties,
+                beanFactory.<RedisTemplate<String, Object>>getBeanProvider(
+                        ResolvableType.forClassWithGenerics(RedisTemplate.class, String.class, Object.class)),
+                beanFactory.getBeanProvider(MeterRegistry.class));
+        limiters.add(limiter);
+        return limiter;
+    }
+
+    private static Rule rule(String id, int limit, Duration period) {
+        Rule rule = new Rule();
+        rule.setId(id);
+        rule.setLimit(limit);
+        rule.setPeriod(period);
+        return rule;
+    }
+
+    /**
+     * LEASE_SCRIPT와 같은 계산을 하는 Redis (HMGET tokens/ts → 충전 → 정수만큼 대여 → HSET)
+     */
+    private static final class FakeBucketRedis extends RedisTemplate<String, Object> {
+
+        private final Map<String, double[]> buckets = new HashMap<>();
+        private final List<Integer> requested = new ArrayList<>();
+        private long nowMillis = 1_000_000;
+        private int calls;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, RedisSerializer<?> argsSerializer,
+                RedisSerializer<T> resultSerializer, List<String> keys, Object... args) {
+            calls++;
+            requested.add(Integer.parseInt((String) args[2]));
+            return (T) Long.valueOf(lease(keys.get(0), Integer.parseInt((String) args[0]),
+                    Double.parseDouble((String) args[1]), Integer.parseInt((String) args[2])));
+        }
+
+        long lease(String key, int capacity, double rate, int requested) {
+            double[] bucket = buckets.get(key);
+            double tokens = bucket != null ? bucket[0] : capacity;
+            double ts = bucket != null ? bucket[1] : nowMillis;
+            tokens = Math.min(capacity, tokens + Math.max(0, nowMillis - ts) * rate / 1000);
+            long granted = Math.min(requested, (long) Math.floor(tokens));
+            buckets.put(key, new double[] { tokens - granted, nowMillis });
+            return granted;
+        }
+
+        double tokens(String key) {
+            return buckets.get(key)[0];
+        }
+    }
+}
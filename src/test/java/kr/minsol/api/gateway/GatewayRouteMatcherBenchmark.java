@@ -0,0 +1,113 @@
+package kr.minsol.api.gateway;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 게이트웨이 라우트 매칭 마이크로벤치마크 (접두사 목록 선형 탐색 vs 세그먼트 트라이)
+ * application-railway.yaml 형태의 라우트를 수백 개로 늘려 요청 경로 매칭 비용을 비교합니다.
+ *
+ * 실행: java -cp <test runtime classpath> kr.minsol.api.gateway.GatewayRouteMatcherBenchmark [라우트 수]
+ */
+public class GatewayRouteMatcherBenchmark {
+
+    private static final String[] GROUPS = { "erp", "ai", "ml", "core", "partner" };
+
+    private static final int WARMUP = 2_000_000;
+    private static final int ITERATIONS = 10_000_000;
+
+    public static void main(String[] args) {
+        int routeCount = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        List<GatewayRoute> routes = new ArrayList<>();
+        for (int i = 0; i < routeCount; i++) {
+            String group = GROUPS[i % GROUPS.length];
+            URI uri = URI.create("http://service" + i + ":" + (9000 + i));
+            routes.add(new GatewayRoute("service-" + i, uri, "/api/" + group + "/service" + i, true, 2));
+        }
+        routes.add(new GatewayRoute("users", URI.create("http://userservice:8082"), "/api/users", true, 1));
+
+        // 요청 경로: 라우트 전반에 고르게 분포 + 일치하지 않는 경로 일부
+        String[] paths = new String[1024];
+        for (int i = 0; i < paths.length; i++) {
+            int target = (i * 7919) % routeCount;
+            String group = GROUPS[target % GROUPS.length];
+            paths[i] = switch (i % 8) {
+                case 0 -> "/api/users/" + i + "/profile";
+                case 1 -> "/api/" + group + "/unknown/" + i;
+                default -> "/api/" + group + "/service" + target + "/items/" + i + "/detail";
+            };
+        }
+
+        GatewayRouteTable trie = new GatewayRouteTable(routes);
+        LinearMatcher linear = new LinearMatcher(routes);
+        for (String path : paths) {
+            if (trie.match(path) != linear.match(path)) {
+                throw new IllegalStateException("결과 불일치: " + path);
+            }
+        }
+        System.out.println("라우트 " + routes.size() + "개, 요청 경로 " + paths.length + "개");
+
+        for (int round = 1; round <= 3; round++) {
+            System.out.println("--- round " + round + " ---");
+            run("선형 접두사 탐색", paths, linear::match);
+            run("세그먼트 트라이  ", paths, trie::match);
+        }
+    }
+
+    private interface Matcher {
+        GatewayRoute match(String path);
+    }
+
+    private static void run(String name, String[] paths, Matcher matcher) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            GatewayRoute route = matcher.match(paths[i & (paths.length - 1)]);
+            sink += route != null ? route.stripPrefix() : 0;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            GatewayRoute route = matcher.match(paths[i & (paths.length - 1)]);
+            sink += route != null ? route.stripPrefix() : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%s  %7.1f ns/op  %7.2f B/op  (sink %d)%n",
+                name, (double) elapsed / ITERATIONS, (double) allocated / ITERATIONS, sink);
+    }
+
+    /**
+     * 기존 방식: 접두사 길이 내림차순 목록을 앞에서부터 비교
+     */
+    private static final class LinearMatcher {
+        private final List<GatewayRoute> routes;
+
+        LinearMatcher(List<GatewayRoute> routes) {
+            List<GatewayRoute> sorted = new ArrayList<>(routes);
+            sorted.sort(Comparator.comparingInt((GatewayRoute route) -> route.pathPrefix().length()).reversed());
+            this.routes = sorted;
+        }
+
+        GatewayRoute match(String path) {
+            for (GatewayRoute route : routes) {
+                String prefix = route.pathPrefix();
+                if (!path.startsWith(prefix)) {
+                    continue;
+                }
+                if (path.length() == prefix.length()) {
+                    return route;
+                }
+                if (route.matchSubpaths() && (prefix.equals("/") || path.charAt(prefix.length()) == '/')) {
+                    return route;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package kr.minsol.api.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 업스트림 경로/URI 계산 - 요청 경로로 업스트림 호스트를 바꿀 수 없어야 함
+ */
+class GatewayRouteTest {
+
+    private static final URI ML_SERVICE = URI.create("http://mlservice:9010");
+
+    @Test
+    void stripsFixedPrefix() {
+        GatewayRoute route = new GatewayRoute("mlservice", ML_SERVICE, "/api/mlservice", true, 2);
+
+        assertEquals("/predict/1", route.upstreamPath("/api/mlservice/predict/1"));
+        assertEquals("/", route.upstreamPath("/api/mlservice"));
+        assertEquals(URI.create("http://mlservice:9010/predict?x=1"),
+                GatewayRoute.upstreamUri(ML_SERVICE, route.upstreamPath("/api/mlservice/predict"), "x=1"));
+    }
+
+    @Test
+    void networkPathReferenceKeepsInstanceAuthority() {
+        GatewayRoute route = new GatewayRoute("mlservice", ML_SERVICE, "/api/mlservice", true, 2);
+
+        String upstreamPath = route.upstreamPath("/api/mlservice//attacker.example/steal");
+        URI target = GatewayRoute.upstreamUri(ML_SERVICE, upstreamPath, null);
+
+        assertEquals("/attacker.example/steal", upstreamPath);
+        assertEquals("mlservice:9010", target.getRawAuthority());
+        assertEquals(URI.create("http://mlservice:9010/attacker.example/steal"), target);
+    }
+
+    @Test
+    void networkPathReferenceBeyondFixedPrefix() {
+        // 고정 접두사보다 많이 제거하는 라우트는 요청마다 세그먼트를 셈
+        GatewayRoute route = new GatewayRoute("users", URI.create("http://userservice:8082"), "/api", true, 2);
+
+        String upstreamPath = route.upstreamPath("/api/users///attacker.example:8080/steal");
+        URI target = GatewayRoute.upstreamUri(URI.create("http://userservice:8082"), upstreamPath, "a=b");
+
+        assertEquals("/attacker.example:8080/steal", upstreamPath);
+        assertEquals("userservice:8082", target.getRawAuthority());
+    }
+}
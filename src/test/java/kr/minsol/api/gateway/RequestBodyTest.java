@@ -0,0 +1,97 @@
+package kr.minsol.api.gateway;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 재전송용 요청 본문 - 임시 파일 본문은 구독마다 처음부터 같은 바이트를 내보내고 close()에서 파일이 지워져야 함
+ */
+class RequestBodyTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void spilledBodyReplaysAndIsDeletedOnClose() throws Exception {
+        byte[] content = new byte[300 * 1024 + 17];
+        new Random(42).nextBytes(content);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/upload");
+        request.setContent(content);
+
+        RequestBody body = RequestBody.replayable(request, content.length, 1024, spillDirectory);
+        try (var files = Files.list(spillDirectory)) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(content.length, body.publisher().contentLength());
+        assertArrayEquals(content, drain(body.publisher()));
+        assertArrayEquals(content, drain(body.publisher()));
+
+        body.close();
+        try (var files = Files.list(spillDirectory)) {
+            assertTrue(files.findAny().isEmpty());
+        }
+    }
+
+    @Test
+    void smallBodyStaysInMemory() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/upload");
+        request.setContent("{\"a\":1}".getBytes());
+
+        try (RequestBody body = RequestBody.replayable(request, 1024, 1024, spillDirectory)) {
+            assertArrayEquals("{\"a\":1}".getBytes(), drain(body.publisher()));
+        }
+        try (var files = Files.list(spillDirectory)) {
+            assertTrue(files.findAny().isEmpty());
+        }
+    }
+
+    /**
+     * 한 번에 하나씩 요청하며 받은 버퍼를 모두 소비 (HttpClient처럼 다 쓴 뒤 다음 청크 요청)
+     */
+    private static byte[] drain(Flow.Publisher<ByteBuffer> publisher) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                out.writeBytes(bytes);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(out.toByteArray());
+            }
+        });
+        return result.get(5, TimeUnit.SECONDS);
+    }
+}
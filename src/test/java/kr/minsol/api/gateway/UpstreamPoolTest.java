@@ -0,0 +1,35 @@
+package kr.minsol.api.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 인스턴스 목록 갱신 - 남은 인스턴스는 상태를 유지하고, 빠진 인스턴스만 정리 대상으로 전달되어야 함
+ */
+class UpstreamPoolTest {
+
+    private static final URI A = URI.create("http://10.0.0.1:8080");
+    private static final URI B = URI.create("http://10.0.0.2:8080");
+    private static final URI C = URI.create("http://10.0.0.3:8080");
+
+    @Test
+    void updateKeepsExistingInstancesAndReportsRemoved() {
+        UpstreamPool pool = new UpstreamPool("userservice");
+        List<UpstreamInstance> removed = new ArrayList<>();
+        pool.update(List.of(A, B), uri -> new UpstreamInstance("userservice", uri), removed::add);
+        UpstreamInstance a = pool.instances().get(0);
+        UpstreamInstance b = pool.instances().get(1);
+
+        pool.update(List.of(A, C), uri -> new UpstreamInstance("userservice", uri), removed::add);
+
+        assertSame(a, pool.instances().get(0));
+        assertEquals(C, pool.instances().get(1).getUri());
+        assertEquals(List.of(b), removed);
+    }
+}
@@ -0,0 +1,120 @@
+package kr.minsol.api.services.oauthservice.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import kr.minsol.api.services.oauthservice.kakao.KakaoOAuthService;
+import kr.minsol.api.services.oauthservice.kakao.KakaoUserInfoResponse;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 제공자 응답 파싱 마이크로벤치마크 (Map 트리 + 캐스팅 vs 타입 레코드 + 사전 생성 ObjectReader)
+ * 카카오 토큰/사용자 정보 응답을 파싱하고 extractUserInfo 결과를 만드는 비용을 비교합니다.
+ *
+ * 실행: java -cp <test runtime classpath> kr.minsol.api.services.oauthservice.client.ProviderJsonBenchmark
+ */
+public class ProviderJsonBenchmark {
+
+    private static final byte[] TOKEN_JSON = """
+            {"access_token":"Ztq0dZ3kM9aYp2cRr8bW1eXo4nVfLhGsUjIkPqTy","token_type":"bearer",
+             "refresh_token":"Qm7fJ2sLp9vXc4bNw1zRt8yUk3hGd6eAo5iPqTyM","expires_in":21599,
+             "scope":"account_email profile_image profile_nickname","refresh_token_expires_in":5183999}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] USER_INFO_JSON = """
+            {"id":3928471650,"connected_at":"2024-03-01T09:12:44Z",
+             "properties":{"nickname":"민솔","profile_image":"http://k.kakaocdn.net/dn/p/img_640x640.jpg",
+               "thumbnail_image":"http://k.kakaocdn.net/dn/p/img_110x110.jpg"},
+             "kakao_account":{"profile_nickname_needs_agreement":false,"profile_image_needs_agreement":false,
+               "profile":{"nickname":"민솔","thumbnail_image_url":"http://k.kakaocdn.net/dn/p/img_110x110.jpg",
+                 "profile_image_url":"http://k.kakaocdn.net/dn/p/img_640x640.jpg","is_default_image":false,
+                 "is_default_nickname":false},
+               "has_email":true,"email_needs_agreement":false,"is_email_valid":true,"is_email_verified":true,
+               "email":"user@example.com"}}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final ObjectMapper MAP_MAPPER = new ObjectMapper();
+    private static final ObjectReader TOKEN_READER = ProviderJson.reader(OAuthTokenResponse.class);
+    private static final ObjectReader USER_INFO_READER = ProviderJson.reader(KakaoUserInfoResponse.class);
+    private static final KakaoOAuthService KAKAO = new KakaoOAuthService(null, null);
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Object> fromMap = mapPath();
+        Map<String, Object> fromRecord = recordPath();
+        if (!fromMap.equals(fromRecord)) {
+            throw new IllegalStateException("결과 불일치: " + fromMap + " vs " + fromRecord);
+        }
+        System.out.println("추출 결과: " + fromRecord);
+
+        for (int round = 1; round <= 3; round++) {
+            System.out.println("--- round " + round + " ---");
+            run("Map + 캐스팅       ", ProviderJsonBenchmark::mapPath);
+            run("레코드 + ObjectReader", ProviderJsonBenchmark::recordPath);
+        }
+    }
+
+    private interface Body {
+        Map<String, Object> run() throws Exception;
+    }
+
+    private static void run(String name, Body body) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += body.run().size();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += body.run().size();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%s  %7.1f ns/op  %7d B/op  (sink %d)%n",
+                name, (double) elapsed / ITERATIONS, allocated / ITERATIONS, sink);
+    }
+
+    /**
+     * 기존 방식: Map.class로 역직렬화 후 중첩 Map을 캐스팅하며 탐색
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mapPath() throws Exception {
+        Map<String, Object> token = MAP_MAPPER.readValue(new ByteArrayInputStream(TOKEN_JSON), Map.class);
+        if (token.get("access_token") == null) {
+            throw new IllegalStateException();
+        }
+        Map<String, Object> userInfo = MAP_MAPPER.readValue(new ByteArrayInputStream(USER_INFO_JSON), Map.class);
+
+        Long kakaoId = ((Number) userInfo.get("id")).longValue();
+        Map<String, Object> kakaoAccount = (Map<String, Object>) userInfo.get("kakao_account");
+        Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
+        Map<String, Object> result = new HashMap<>();
+        result.put("kakao_id", kakaoId);
+        result.put("nickname", profile.get("nickname"));
+        result.put("email", kakaoAccount.get("email"));
+        result.put("email_verified", kakaoAccount.getOrDefault("is_email_verified", false));
+        result.put("profile_image", profile.get("profile_image_url"));
+        return result;
+    }
+
+    /**
+     * 변경 방식: 사전 생성 ObjectReader로 레코드에 바로 바인딩
+     */
+    private static Map<String, Object> recordPath() throws Exception {
+        OAuthTokenResponse token = TOKEN_READER.readValue(new ByteArrayInputStream(TOKEN_JSON));
+        if (token.accessToken() == null) {
+            throw new IllegalStateException();
+        }
+        KakaoUserInfoResponse userInfo = USER_INFO_READER.readValue(new ByteArrayInputStream(USER_INFO_JSON));
+        return KAKAO.extractUserInfo(userInfo);
+    }
+}